@@ -0,0 +1,53 @@
+/*
+ * File: Codec.java
+ */
+package aghannam.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values of a fixed-width type to and from bytes. Lists that keep
+ * their values outside the Java heap use a codec to store each value in a
+ * record of {@link #size()} bytes. {@link Codecs} provides codecs for the
+ * common numeric types.
+ *
+ * @author Ahmed Ghannam
+ *
+ * @param <T>
+ *            the type of values this codec handles
+ */
+public interface Codec<T> {
+
+	/**
+	 * Returns the number of bytes every encoded value occupies.
+	 *
+	 * @return the fixed width of an encoded value, in bytes
+	 */
+	int size();
+
+	/**
+	 * Writes the specified value into the buffer at the specified absolute
+	 * offset, using exactly {@link #size()} bytes. The buffer's position is
+	 * left unchanged.
+	 *
+	 * @param val
+	 *            the value to encode, never <code>null</code>
+	 * @param buf
+	 *            the buffer to write to
+	 * @param offset
+	 *            the absolute offset of the first byte to write
+	 */
+	void encode(T val, ByteBuffer buf, int offset);
+
+	/**
+	 * Reads a value from the buffer at the specified absolute offset. The
+	 * buffer's position is left unchanged.
+	 *
+	 * @param buf
+	 *            the buffer to read from
+	 * @param offset
+	 *            the absolute offset of the first byte to read
+	 * @return the decoded value
+	 */
+	T decode(ByteBuffer buf, int offset);
+}
@@ -0,0 +1,79 @@
+/*
+ * File: Codecs.java
+ */
+package aghannam.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides {@link Codec} instances for the boxed numeric types.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public final class Codecs {
+
+	/**
+	 * Encodes {@link Integer} values in four bytes.
+	 */
+	public static final Codec<Integer> INTEGER = new Codec<Integer>() {
+		@Override
+		public int size() {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void encode(Integer val, ByteBuffer buf, int offset) {
+			buf.putInt(offset, val);
+		}
+
+		@Override
+		public Integer decode(ByteBuffer buf, int offset) {
+			return buf.getInt(offset);
+		}
+	};
+
+	/**
+	 * Encodes {@link Long} values in eight bytes.
+	 */
+	public static final Codec<Long> LONG = new Codec<Long>() {
+		@Override
+		public int size() {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void encode(Long val, ByteBuffer buf, int offset) {
+			buf.putLong(offset, val);
+		}
+
+		@Override
+		public Long decode(ByteBuffer buf, int offset) {
+			return buf.getLong(offset);
+		}
+	};
+
+	/**
+	 * Encodes {@link Double} values in eight bytes.
+	 */
+	public static final Codec<Double> DOUBLE = new Codec<Double>() {
+		@Override
+		public int size() {
+			return Double.BYTES;
+		}
+
+		@Override
+		public void encode(Double val, ByteBuffer buf, int offset) {
+			buf.putDouble(offset, val);
+		}
+
+		@Override
+		public Double decode(ByteBuffer buf, int offset) {
+			return buf.getDouble(offset);
+		}
+	};
+
+	private Codecs() {
+		/* Constants only */
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * File: ConcurrentLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implements an unbounded, thread-safe doubly-linked list for producers and
+ * consumers working at its two ends. Values are inserted and removed at
+ * either end without locks: nodes are linked and unlinked with
+ * compare-and-set, so threads at opposite ends never wait for each other and
+ * threads at the same end only retry when they actually collide.
+ * <p>
+ * The nodes are those of {@link ConcurrentLinkedDeque}, which implements the
+ * lock-free linking. This class keeps the list's element count in a
+ * {@link LongAdder}, so {@link #size()} takes constant time instead of
+ * walking the deque. While other threads are inserting or removing, the
+ * count may briefly trail the values actually in the list. It is exact once
+ * they are done.
+ * <p>
+ * As with the other lists, <code>null</code> values are ignored, and the
+ * removal and access methods return <code>null</code> when the list is
+ * empty.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class ConcurrentLinkedList<T> implements Iterable<T> {
+	private final ConcurrentLinkedDeque<T> deque = new ConcurrentLinkedDeque<>();
+	private final LongAdder size = new LongAdder();
+
+	/**
+	 * Constructs a new concurrent list instance without any nodes.
+	 */
+	public ConcurrentLinkedList() {
+		/* Empty list */
+	}
+
+	/**
+	 * Constructs a new concurrent list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public ConcurrentLinkedList(T[] a) {
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			deque.offerLast(val);
+			size.increment();
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			deque.offerFirst(val);
+			size.increment();
+		}
+	}
+
+	/**
+	 * Removes the node at the beginning of the list and returns its value. If
+	 * the list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public T removeFirst() {
+		T removed = deque.pollFirst();
+		if (removed != null) {
+			size.decrement();
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes the node at the end of the list and returns its value. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public T removeLast() {
+		T removed = deque.pollLast();
+		if (removed != null) {
+			size.decrement();
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the value of the node at the beginning of this list, without
+	 * removing it.
+	 *
+	 * @return the value of the first node in this list
+	 */
+	public T getFirst() {
+		return deque.peekFirst();
+	}
+
+	/**
+	 * Returns the value of the node at the end of the list, without removing
+	 * it.
+	 *
+	 * @return the value of the last node in the list
+	 */
+	public T getLast() {
+		return deque.peekLast();
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value. The search does not lock the list, so values
+	 * inserted or removed while it runs may or may not be seen.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return val != null && deque.contains(val);
+	}
+
+	/**
+	 * Removes every node from the list, one at a time from the beginning.
+	 * Values inserted while the list is being cleared may survive.
+	 */
+	public void clear() {
+		while (removeFirst() != null) {
+			/* Keep removing */
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return deque.isEmpty();
+	}
+
+	/**
+	 * Returns the number of nodes in the list. While other threads are
+	 * modifying the list, the result is an estimate.
+	 *
+	 * @return the number of nodes currently in this list
+	 */
+	public int size() {
+		long n = size.sum();
+		return (int) Math.max(0, Math.min(n, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Returns an iterator over the values of this list, from first to last.
+	 * The iterator never throws
+	 * {@link java.util.ConcurrentModificationException}; it reflects some or
+	 * all of the changes made after it was created. It does not support
+	 * removal.
+	 *
+	 * @return an iterator over the values of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		Iterator<T> it = deque.iterator();
+		return new Iterator<T>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return it.next();
+			}
+		};
+	}
+
+	/**
+	 * Returns a string representation of the list and its nodes.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		return deque.toString();
+	}
+}
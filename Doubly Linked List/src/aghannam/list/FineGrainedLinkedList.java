@@ -0,0 +1,421 @@
+/*
+ * File: FineGrainedLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implements an unbounded, thread-safe doubly-linked list whose nodes each
+ * carry their own lock, so that threads editing different parts of the list
+ * proceed in parallel. Each node's lock guards its link to the next node,
+ * its value and its removal. An edit therefore locks the one or two nodes
+ * around the link it changes, always in list order so that threads cannot
+ * deadlock.
+ * <p>
+ * Edits first find their position without any locks. They then lock it and
+ * check that it is still part of the list, starting over if another thread
+ * has changed it in the meantime. Removed nodes are marked before they are
+ * unlinked, and a removed node keeps its links. A thread that is already
+ * walking through it therefore still reaches the rest of the list, which
+ * lets {@link #contains(Object)}, {@link #getAt(int)} and the other reads
+ * run without taking any locks at all.
+ * <p>
+ * While several threads are editing the same values, "the first occurrence"
+ * of a value means the first one found by the walk. Reads reflect some or all
+ * of the edits that complete while they run.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class FineGrainedLinkedList<T> {
+	private final Node<T> head = new Node<>(null);
+	private final Node<T> tail = new Node<>(null);
+	private final LongAdder size = new LongAdder();
+
+	/**
+	 * Constructs a new fine-grained list instance without any nodes.
+	 */
+	public FineGrainedLinkedList() {
+		head.next = tail;
+		tail.prev = head;
+	}
+
+	/**
+	 * Constructs a new fine-grained list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public FineGrainedLinkedList(T[] a) {
+		this();
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			while (true) {
+				Node<T> pred = tail.prev;
+				synchronized (pred) {
+					if (!pred.marked && pred.next == tail) {
+						link(pred, val);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			synchronized (head) {
+				link(head, val);
+			}
+		}
+	}
+
+	/**
+	 * Inserts a node with the specified value before the first occurrence of
+	 * the node with the specified <b>before</b> value. If no such node is
+	 * found, no changes are made to the list.
+	 *
+	 * @param before
+	 *            the value of the node before which to insert
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertBefore(T before, T val) {
+		if (before != null && val != null) {
+			while (true) {
+				Node<T> node = find(before);
+				if (node == null) {
+					return;
+				}
+				Node<T> pred = node.prev;
+				synchronized (pred) {
+					synchronized (node) {
+						if (!pred.marked && pred.next == node && !node.marked && node.val.equals(before)) {
+							link(pred, val);
+							return;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Inserts a node with the specified value after the first occurrence of
+	 * the node with the specified <b>after</b> value. If no such node is
+	 * found, no changes are made to the list.
+	 *
+	 * @param after
+	 *            the value of the node after which to insert
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertAfter(T after, T val) {
+		if (after != null && val != null) {
+			while (true) {
+				Node<T> node = find(after);
+				if (node == null) {
+					return;
+				}
+				synchronized (node) {
+					if (!node.marked && node.val.equals(after)) {
+						link(node, val);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the node containing the specified value
+	 * and returns its value. If no such node is found, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node to remove from the list
+	 * @return the value of the removed node
+	 */
+	public T remove(T val) {
+		if (val != null) {
+			while (true) {
+				Node<T> node = find(val);
+				if (node == null) {
+					return null;
+				}
+				if (tryUnlink(node.prev, node, val)) {
+					return node.val;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the node at the beginning of the list and returns its value. If
+	 * the list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public T removeFirst() {
+		while (true) {
+			Node<T> node = head.next;
+			if (node == tail) {
+				return null;
+			}
+			if (tryUnlink(head, node, null)) {
+				return node.val;
+			}
+		}
+	}
+
+	/**
+	 * Removes the node at the end of the list and returns its value. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public T removeLast() {
+		while (true) {
+			Node<T> node = tail.prev;
+			if (node == head) {
+				return null;
+			}
+			Node<T> pred = node.prev;
+			synchronized (pred) {
+				synchronized (node) {
+					if (!pred.marked && !node.marked && pred.next == node && node.next == tail) {
+						unlink(pred, node);
+						return node.val;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replaces the value of the first occurrence of the node containing the
+	 * specified <b>target</b> value with the specified <b>replacement</b>
+	 * value. If the target node is not found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value of the node to be updated
+	 * @param replacement
+	 *            the new value to assign to the target node
+	 */
+	public void replace(T target, T replacement) {
+		if (target != null && replacement != null) {
+			while (true) {
+				Node<T> node = find(target);
+				if (node == null) {
+					return;
+				}
+				synchronized (node) {
+					if (!node.marked && node.val.equals(target)) {
+						node.val = replacement;
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of the node at the beginning of this list, without
+	 * removing it.
+	 *
+	 * @return the value of the first node in this list
+	 */
+	public T getFirst() {
+		return head.next.val;
+	}
+
+	/**
+	 * Returns the value of the node at the end of the list, without removing
+	 * it.
+	 *
+	 * @return the value of the last node in the list
+	 */
+	public T getLast() {
+		return tail.prev.val;
+	}
+
+	/**
+	 * Returns the value of the node at the specified index, without taking
+	 * any locks. If the specified index is not valid, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired node in this list
+	 * @return the value of the node at the specified index or location
+	 */
+	public T getAt(int index) {
+		if (index < 0) {
+			return null;
+		}
+		Node<T> curr = head.next;
+		for (int i = 0; curr != tail; curr = curr.next) {
+			if (!curr.marked && i++ == index) {
+				return curr.val;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value. The search does not take any locks.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return val != null && find(val) != null;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return head.next == tail;
+	}
+
+	/**
+	 * Returns the number of nodes in the list. While other threads are
+	 * modifying the list, the result is an estimate.
+	 *
+	 * @return the number of nodes currently in this list
+	 */
+	public int size() {
+		long n = size.sum();
+		return (int) Math.max(0, Math.min(n, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Returns a string representation of the list and its nodes.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		StringBuilder list = new StringBuilder("[");
+		for (Node<T> curr = head.next; curr != tail; curr = curr.next) {
+			if (!curr.marked) {
+				if (list.length() > 1) {
+					list.append(", ");
+				}
+				list.append(curr.val);
+			}
+		}
+		return list.append("]").toString();
+	}
+
+	/**
+	 * Returns the first node in the list with the specified value that has
+	 * not been removed, or <code>null</code>, without taking any locks.
+	 */
+	private Node<T> find(T val) {
+		for (Node<T> curr = head.next; curr != tail; curr = curr.next) {
+			if (!curr.marked && val.equals(curr.val)) {
+				return curr;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Links a new node with the specified value after the specified node. The
+	 * caller holds the lock of that node.
+	 */
+	private void link(Node<T> pred, T val) {
+		Node<T> succ = pred.next;
+		Node<T> newNode = new Node<>(val);
+		newNode.prev = pred;
+		newNode.next = succ;
+		succ.prev = newNode;
+		pred.next = newNode;
+		size.increment();
+	}
+
+	/**
+	 * Locks the specified node and its predecessor, in list order, and
+	 * unlinks the node if both are still adjacent and in the list, and the
+	 * node still holds the expected value unless that is <code>null</code>.
+	 */
+	private boolean tryUnlink(Node<T> pred, Node<T> node, T expected) {
+		synchronized (pred) {
+			synchronized (node) {
+				if (!pred.marked && !node.marked && pred.next == node
+						&& (expected == null || node.val.equals(expected))) {
+					unlink(pred, node);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Marks the specified node as removed and unlinks it. The caller holds
+	 * the locks of the node and its predecessor.
+	 */
+	private void unlink(Node<T> pred, Node<T> node) {
+		node.marked = true;
+		Node<T> succ = node.next;
+		succ.prev = pred;
+		pred.next = succ;
+		size.decrement();
+	}
+
+	/**
+	 * Represents a node of a fine-grained list.
+	 */
+	private static class Node<T> {
+		/**
+		 * The node following this node.
+		 */
+		volatile Node<T> next;
+
+		/**
+		 * The node preceding this node.
+		 */
+		volatile Node<T> prev;
+
+		/**
+		 * The value of this node.
+		 */
+		volatile T val;
+
+		/**
+		 * Whether this node has been removed from the list.
+		 */
+		volatile boolean marked;
+
+		Node(T val) {
+			this.val = val;
+		}
+	}
+}
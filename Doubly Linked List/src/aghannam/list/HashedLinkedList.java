@@ -0,0 +1,703 @@
+/*
+ * File: HashedLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implements an unbounded doubly-linked list that keeps a hash index from
+ * each value to the nodes holding it. Operations that look up a node by value
+ * ({@link #contains(Object)}, {@link #remove(Object)},
+ * {@link #removeLastOccurrence(Object)}, {@link #insertBefore(Object, Object)},
+ * {@link #insertAfter(Object, Object)}, {@link #getBefore(Object)},
+ * {@link #getAfter(Object)} and {@link #replace(Object, Object)}) therefore
+ * run in <i>O(1)</i> expected time instead of scanning the list, while
+ * {@link #removeAll(Object)} and {@link #replaceAll(Object, Object)} visit only
+ * the matching nodes.
+ * <p>
+ * The nodes holding equal values are additionally chained together in list
+ * order. Keeping that chain ordered is free when a value is added at either
+ * end of the list or is not yet present; otherwise the new node is placed by
+ * walking outwards to the nearest node holding the same value. Values must
+ * implement {@link Object#hashCode()} consistently with
+ * {@link Object#equals(Object)}.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class HashedLinkedList<T> {
+	private final Map<T, Occurrences<T>> index = new HashMap<>();
+	private Node<T> head;
+	private Node<T> tail;
+	private int size = 0;
+
+	/**
+	 * Constructs a new hashed list instance without any nodes.
+	 */
+	public HashedLinkedList() {
+		/* Empty list */
+	}
+
+	/**
+	 * Constructs a new hashed list instance with a head node that contains
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to be assigned to the head node of this list
+	 */
+	public HashedLinkedList(T val) {
+		insert(val);
+	}
+
+	/**
+	 * Constructs a new hashed list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public HashedLinkedList(T[] a) {
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			Node<T> newNode = new Node<>(val);
+			if (isEmpty()) {
+				head = newNode;
+			} else {
+				tail.next = newNode;
+				newNode.prev = tail;
+			}
+			tail = newNode;
+			size++;
+			indexNode(newNode);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value immediately before the first
+	 * occurrence of the node with the specified <b>before</b> value. If the
+	 * target node is not found, the list remains unchanged.
+	 *
+	 * @param before
+	 *            the value of the target node before which to add the new node
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertBefore(T before, T val) {
+		if (before != null && val != null) {
+			Node<T> target = first(before);
+			if (target == null) {
+				return;
+			}
+			if (target == head) {
+				insertFirst(val);
+			} else {
+				Node<T> newNode = new Node<>(val);
+				target.prev.next = newNode;
+				newNode.prev = target.prev;
+				newNode.next = target;
+				target.prev = newNode;
+				size++;
+				indexNode(newNode);
+			}
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			Node<T> newNode = new Node<>(val);
+			if (isEmpty()) {
+				tail = newNode;
+			} else {
+				head.prev = newNode;
+				newNode.next = head;
+			}
+			head = newNode;
+			size++;
+			indexNode(newNode);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value immediately following the first
+	 * occurrence of the node with the specified <b>after</b> value. If the
+	 * target node is not found, the list remains unchanged.
+	 *
+	 * @param after
+	 *            the value of the target node after which to add the new node
+	 * @param val
+	 *            the value of the node to be added
+	 */
+	public void insertAfter(T after, T val) {
+		if (after != null && val != null) {
+			Node<T> target = first(after);
+			if (target == null) {
+				return;
+			}
+			if (target == tail) {
+				insert(val);
+			} else {
+				Node<T> newNode = new Node<>(val);
+				target.next.prev = newNode;
+				newNode.next = target.next;
+				newNode.prev = target;
+				target.next = newNode;
+				size++;
+				indexNode(newNode);
+			}
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the node containing the specified value
+	 * and returns its value. If no such node exists, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node to remove from the list
+	 * @return the value of the removed node
+	 */
+	public T remove(T val) {
+		Node<T> target = first(val);
+		return target == null ? null : unlink(target);
+	}
+
+	/**
+	 * Removes all occurrences of the node containing the specified value from
+	 * the list.
+	 *
+	 * @param val
+	 *            the value of the nodes to be removed
+	 */
+	public void removeAll(T val) {
+		Occurrences<T> occurrences = val == null ? null : index.get(val);
+		if (occurrences != null) {
+			Node<T> curr = occurrences.first;
+			while (curr != null) {
+				Node<T> next = curr.nextSame;
+				unlink(curr);
+				curr = next;
+			}
+		}
+	}
+
+	/**
+	 * Removes the last occurrence of the node with the specified value.
+	 *
+	 * @param val
+	 *            the value of the node to be removed
+	 * @return the value of the removed node
+	 */
+	public T removeLastOccurrence(T val) {
+		Occurrences<T> occurrences = val == null ? null : index.get(val);
+		return occurrences == null ? null : unlink(occurrences.last);
+	}
+
+	/**
+	 * Removes the node at the beginning of the list and returns its value. If
+	 * the list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public T removeFirst() {
+		return isEmpty() ? null : unlink(head);
+	}
+
+	/**
+	 * Removes the node at the end of the list and returns its value. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public T removeLast() {
+		return isEmpty() ? null : unlink(tail);
+	}
+
+	/**
+	 * Returns the value of the node preceding the first occurrence of the node
+	 * with the specified value. If no node with the specified value is found,
+	 * or it is the first node, this method returns <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of node before which to return
+	 * @return the value of the node before the specified node
+	 */
+	public T getBefore(T val) {
+		Node<T> target = first(val);
+		return target == null || target.prev == null ? null : target.prev.val;
+	}
+
+	/**
+	 * Returns the value of the node at the beginning of this list, without
+	 * removing it.
+	 *
+	 * @return the value of the first node in this list
+	 */
+	public T getFirst() {
+		return isEmpty() ? null : head.val;
+	}
+
+	/**
+	 * Returns the value of the node following the first occurrence of the node
+	 * with the specified value, without removing it. If no node with the
+	 * specified value is found, or it is the last node, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node after which to return
+	 * @return the value of the node after the specified node
+	 */
+	public T getAfter(T val) {
+		Node<T> target = first(val);
+		return target == null || target.next == null ? null : target.next.val;
+	}
+
+	/**
+	 * Returns the value of the middle node in the list, without removing it.
+	 *
+	 * @return the value of the middle node in this list
+	 */
+	public T getMiddle() {
+		if (!isEmpty()) {
+			Node<T> slow = head;
+			Node<T> fast = head;
+			while (fast.next != null && fast.next.next != null) {
+				slow = slow.next;
+				fast = fast.next.next;
+			}
+			return slow.val;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value of the node at the end of the list, without removing
+	 * it.
+	 *
+	 * @return the value of the last node in the list
+	 */
+	public T getLast() {
+		return isEmpty() ? null : tail.val;
+	}
+
+	/**
+	 * Returns the value of the node at the specified index. If the list is
+	 * empty or the specified index is not valid, this method returns
+	 * <code>null</code>. The list is walked from whichever end is closer to
+	 * the index.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired node in this list
+	 * @return the value of the node at the specified index or location
+	 */
+	public T getAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		Node<T> curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = curr.next;
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = curr.prev;
+			}
+		}
+		return curr.val;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return val != null && index.containsKey(val);
+	}
+
+	/**
+	 * Returns the number of nodes containing the specified value.
+	 *
+	 * @param val
+	 *            the value to count
+	 * @return the number of occurrences of the value in this list
+	 */
+	public int count(T val) {
+		Occurrences<T> occurrences = val == null ? null : index.get(val);
+		return occurrences == null ? 0 : occurrences.count;
+	}
+
+	/**
+	 * Replaces the value of the first occurrence of the node containing the
+	 * specified <b>target</b> value with the specified <b>replacement</b>
+	 * value. If the target node is not found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value of the node to be updated
+	 * @param replacement
+	 *            the new value to assign to the target node
+	 */
+	public void replace(T target, T replacement) {
+		if (replacement != null) {
+			Node<T> node = first(target);
+			if (node != null) {
+				unindexNode(node);
+				node.val = replacement;
+				indexNode(node);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the values of all nodes containing the specified <b>target</b>
+	 * value with the specified <b>replacement</b> value. Only the matching
+	 * nodes are visited, unless the replacement value is already present, in
+	 * which case the two occurrence chains are merged with a single pass over
+	 * the list.
+	 *
+	 * @param target
+	 *            the value of the nodes to be updated
+	 * @param replacement
+	 *            the new value to assign to the target nodes
+	 */
+	public void replaceAll(T target, T replacement) {
+		if (target == null || replacement == null || target.equals(replacement)) {
+			return;
+		}
+		Occurrences<T> moved = index.remove(target);
+		if (moved == null) {
+			return;
+		}
+		for (Node<T> curr = moved.first; curr != null; curr = curr.nextSame) {
+			curr.val = replacement;
+		}
+		Occurrences<T> existing = index.get(replacement);
+		if (existing == null) {
+			index.put(replacement, moved);
+		} else {
+			// Both chains now hold the replacement; relink them in list order.
+			Node<T> last = null;
+			for (Node<T> curr = head; curr != null; curr = curr.next) {
+				if (curr.val.equals(replacement)) {
+					curr.prevSame = last;
+					if (last == null) {
+						existing.first = curr;
+					} else {
+						last.nextSame = curr;
+					}
+					last = curr;
+				}
+			}
+			last.nextSame = null;
+			existing.last = last;
+			existing.count += moved.count;
+		}
+	}
+
+	/**
+	 * Reverses the order of all nodes in the list.
+	 */
+	public void reverse() {
+		if (!isEmpty()) {
+			Node<T> temp = head;
+			head = tail;
+			tail = temp;
+
+			Node<T> curr = head;
+			while (curr != null) {
+				temp = curr.next;
+				curr.next = curr.prev;
+				curr.prev = temp;
+				temp = curr.nextSame;
+				curr.nextSame = curr.prevSame;
+				curr.prevSame = temp;
+				curr = curr.next;
+			}
+			for (Occurrences<T> occurrences : index.values()) {
+				temp = occurrences.first;
+				occurrences.first = occurrences.last;
+				occurrences.last = temp;
+			}
+		}
+	}
+
+	/**
+	 * Clears the list of all nodes and resets its size to zero.
+	 */
+	public void clear() {
+		Node<T> curr = head;
+		while (curr != null) {
+			Node<T> next = curr.next;
+			curr.next = null;
+			curr.prev = null;
+			curr.nextSame = null;
+			curr.prevSame = null;
+			curr.val = null;
+			curr = next;
+		}
+		head = null;
+		tail = null;
+		index.clear();
+		size = 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of nodes in the list.
+	 *
+	 * @return the number of nodes currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a string representation of the list and its nodes.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			Node<T> curr = head;
+			list.append("[");
+			while (curr != tail) {
+				list.append(curr.val).append(", ");
+				curr = curr.next;
+			}
+			list.append(curr.val).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	/**
+	 * Returns the first node holding the specified value, or <code>null</code>
+	 * if there is none.
+	 *
+	 * @param val
+	 *            the value to look up
+	 * @return the first node holding the value
+	 */
+	private Node<T> first(T val) {
+		Occurrences<T> occurrences = val == null ? null : index.get(val);
+		return occurrences == null ? null : occurrences.first;
+	}
+
+	/**
+	 * Adds a node that has just been linked into the list to the occurrence
+	 * chain of its value, keeping that chain in list order.
+	 *
+	 * @param node
+	 *            the newly linked node
+	 */
+	private void indexNode(Node<T> node) {
+		Occurrences<T> occurrences = index.get(node.val);
+		if (occurrences == null) {
+			index.put(node.val, new Occurrences<>(node));
+			return;
+		}
+		occurrences.count++;
+		if (node.next == null) {
+			linkSameAfter(occurrences, occurrences.last, node);
+			return;
+		}
+		if (node.prev == null) {
+			linkSameBefore(occurrences, occurrences.first, node);
+			return;
+		}
+		// Walk both ways at once; the nearest equal node decides the slot.
+		Node<T> back = node.prev;
+		Node<T> ahead = node.next;
+		while (true) {
+			if (back != null) {
+				if (back.val.equals(node.val)) {
+					linkSameAfter(occurrences, back, node);
+					return;
+				}
+				back = back.prev;
+			} else {
+				linkSameBefore(occurrences, occurrences.first, node);
+				return;
+			}
+			if (ahead != null) {
+				if (ahead.val.equals(node.val)) {
+					linkSameBefore(occurrences, ahead, node);
+					return;
+				}
+				ahead = ahead.next;
+			} else {
+				linkSameAfter(occurrences, occurrences.last, node);
+				return;
+			}
+		}
+	}
+
+	private void linkSameAfter(Occurrences<T> occurrences, Node<T> pred, Node<T> node) {
+		node.prevSame = pred;
+		node.nextSame = pred.nextSame;
+		if (pred.nextSame == null) {
+			occurrences.last = node;
+		} else {
+			pred.nextSame.prevSame = node;
+		}
+		pred.nextSame = node;
+	}
+
+	private void linkSameBefore(Occurrences<T> occurrences, Node<T> succ, Node<T> node) {
+		node.nextSame = succ;
+		node.prevSame = succ.prevSame;
+		if (succ.prevSame == null) {
+			occurrences.first = node;
+		} else {
+			succ.prevSame.nextSame = node;
+		}
+		succ.prevSame = node;
+	}
+
+	/**
+	 * Removes the specified node from the occurrence chain of its value,
+	 * dropping the value from the index once no node holds it.
+	 *
+	 * @param node
+	 *            the node to remove from the index
+	 */
+	private void unindexNode(Node<T> node) {
+		Occurrences<T> occurrences = index.get(node.val);
+		if (--occurrences.count == 0) {
+			index.remove(node.val);
+		} else {
+			if (node.prevSame == null) {
+				occurrences.first = node.nextSame;
+			} else {
+				node.prevSame.nextSame = node.nextSame;
+			}
+			if (node.nextSame == null) {
+				occurrences.last = node.prevSame;
+			} else {
+				node.nextSame.prevSame = node.prevSame;
+			}
+		}
+		node.nextSame = null;
+		node.prevSame = null;
+	}
+
+	/**
+	 * Unlinks the specified node from the list and the index and returns its
+	 * value.
+	 *
+	 * @param node
+	 *            the node to remove
+	 * @return the value of the removed node
+	 */
+	private T unlink(Node<T> node) {
+		unindexNode(node);
+		if (node.prev == null) {
+			head = node.next;
+		} else {
+			node.prev.next = node.next;
+		}
+		if (node.next == null) {
+			tail = node.prev;
+		} else {
+			node.next.prev = node.prev;
+		}
+		T removed = node.val;
+		node.next = null;
+		node.prev = null;
+		node.val = null;
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Holds the first and last nodes containing a value, and how many there
+	 * are.
+	 */
+	private static class Occurrences<T> {
+		Node<T> first;
+		Node<T> last;
+		int count;
+
+		Occurrences(Node<T> node) {
+			this.first = node;
+			this.last = node;
+			this.count = 1;
+		}
+	}
+
+	/**
+	 * Represents a doubly-linked list node that is also chained to the other
+	 * nodes holding an equal value.
+	 */
+	private static class Node<T> {
+		/**
+		 * The node following this node.
+		 */
+		Node<T> next;
+
+		/**
+		 * The node preceding this node.
+		 */
+		Node<T> prev;
+
+		/**
+		 * The next node, in list order, holding an equal value.
+		 */
+		Node<T> nextSame;
+
+		/**
+		 * The previous node, in list order, holding an equal value.
+		 */
+		Node<T> prevSame;
+
+		/**
+		 * The value of this node.
+		 */
+		T val;
+
+		/**
+		 * Constructs a new list node containing the specified value.
+		 *
+		 * @param val
+		 *            the value to associate to this node
+		 */
+		Node(T val) {
+			this.val = val;
+		}
+	}
+}
@@ -0,0 +1,546 @@
+/*
+ * File: IndexedLinkedList.java
+ */
+package aghannam.list;
+
+/**
+ * Implements an unbounded doubly-linked list with a skip index layered over
+ * its node chain, so that positional operations run in <i>O(log n)</i>
+ * expected time instead of the linear walk done by {@link LinkedList}.
+ * <p>
+ * Every node takes part in the ordinary doubly-linked chain and, with
+ * probability <code>1/4</code> per level, in a sparser express lane above it.
+ * Each express link records how many positions it spans, which is what lets
+ * {@link #getAt(int)}, {@link #insertAt(int, Object)} and
+ * {@link #removeAt(int)} descend straight to an index. Operations at either
+ * end of the list never search: they only touch the levels of the affected
+ * node plus one span counter per level in use.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class IndexedLinkedList<T> {
+	/**
+	 * The maximum number of levels, which comfortably covers lists of up to
+	 * <code>4^16</code> nodes.
+	 */
+	private static final int MAX_LEVEL = 16;
+
+	/*
+	 * Sentinels at (virtual) positions -1 and size. They are as tall as the
+	 * tallest possible node, which removes every null check from the express
+	 * lanes: a lane that holds no nodes simply links head to tail.
+	 */
+	private final Node<T> head = new Node<>(null, MAX_LEVEL);
+	private final Node<T> tail = new Node<>(null, MAX_LEVEL);
+
+	/*
+	 * Scratch space for searches, reused to keep updates allocation-free
+	 * apart from the new node itself.
+	 */
+	private final Node<T>[] update = newNodeArray(MAX_LEVEL);
+	private final int[] rank = new int[MAX_LEVEL];
+
+	private int level = 1;
+	private int size = 0;
+	private int seed = 0x2545F491;
+
+	/**
+	 * Constructs a new indexed list instance without any nodes.
+	 */
+	public IndexedLinkedList() {
+		reset();
+	}
+
+	/**
+	 * Constructs a new indexed list instance with a head node that contains
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to be assigned to the head node of this list
+	 */
+	public IndexedLinkedList(T val) {
+		this();
+		insert(val);
+	}
+
+	/**
+	 * Constructs a new indexed list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public IndexedLinkedList(T[] a) {
+		this();
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			for (int i = 0; i < level; i++) {
+				update[i] = tail.prev[i];
+				rank[i] = size - update[i].span[i];
+			}
+			link(size, val);
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			for (int i = 0; i < level; i++) {
+				update[i] = head;
+				rank[i] = -1;
+			}
+			link(0, val);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value at the specified index, shifting
+	 * the node currently at that index (if any) and all subsequent nodes one
+	 * position towards the end of the list. An index equal to the size of the
+	 * list appends the node. If the index is not valid, the list remains
+	 * unchanged.
+	 *
+	 * @param index
+	 *            the zero-based location at which to add the new node
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertAt(int index, T val) {
+		if (val != null && index >= 0 && index <= size) {
+			findPredecessors(index);
+			link(index, val);
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the node containing the specified value
+	 * and returns its value. If no such node exists, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node to remove from the list
+	 * @return the value of the removed node
+	 */
+	public T remove(T val) {
+		int index = indexOf(val);
+		return index < 0 ? null : removeAt(index);
+	}
+
+	/**
+	 * Removes the node at the beginning of the list and returns its value. If
+	 * the list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public T removeFirst() {
+		if (isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < level; i++) {
+			update[i] = head;
+		}
+		return unlink(head.next[0]);
+	}
+
+	/**
+	 * Removes the node at the end of the list and returns its value. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public T removeLast() {
+		if (isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < level; i++) {
+			update[i] = tail.prev[i];
+		}
+		return unlink(tail.prev[0]);
+	}
+
+	/**
+	 * Removes the node at the specified index and returns its value. If the
+	 * list is empty or the specified index is not valid, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the node to remove
+	 * @return the value of the removed node
+	 */
+	public T removeAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		findPredecessors(index);
+		return unlink(update[0].next[0]);
+	}
+
+	/**
+	 * Returns the value of the node at the beginning of this list, without
+	 * removing it.
+	 *
+	 * @return the value of the first node in this list
+	 */
+	public T getFirst() {
+		return isEmpty() ? null : head.next[0].val;
+	}
+
+	/**
+	 * Returns the value of the middle node in the list, without removing it.
+	 *
+	 * @return the value of the middle node in this list
+	 */
+	public T getMiddle() {
+		return isEmpty() ? null : node((size - 1) / 2).val;
+	}
+
+	/**
+	 * Returns the value of the node at the end of the list, without removing
+	 * it.
+	 *
+	 * @return the value of the last node in the list
+	 */
+	public T getLast() {
+		return isEmpty() ? null : tail.prev[0].val;
+	}
+
+	/**
+	 * Returns the value of the node at the specified index. If the list is
+	 * empty or the specified index is not valid, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired node in this list
+	 * @return the value of the node at the specified index or location
+	 */
+	public T getAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		return node(index).val;
+	}
+
+	/**
+	 * Replaces the value of the node at the specified index with the specified
+	 * value and returns the value it previously held. If the specified index
+	 * is not valid, no changes are made and this method returns
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the node to be updated
+	 * @param val
+	 *            the new value to assign to the node
+	 * @return the previous value of the node at the specified index
+	 */
+	public T setAt(int index, T val) {
+		if (val == null || index < 0 || index >= size) {
+			return null;
+		}
+		Node<T> x = node(index);
+		T previous = x.val;
+		x.val = val;
+		return previous;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the node containing the
+	 * specified value, or <code>-1</code> if the list contains no such node.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return the zero-based location of the first matching node, or
+	 *         <code>-1</code>
+	 */
+	public int indexOf(T val) {
+		if (val != null) {
+			int index = 0;
+			for (Node<T> x = head.next[0]; x != tail; x = x.next[0]) {
+				if (x.val.equals(val)) {
+					return index;
+				}
+				index++;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return indexOf(val) >= 0;
+	}
+
+	/**
+	 * Clears the list of all nodes and resets its size to zero.
+	 */
+	public void clear() {
+		Node<T> x = head.next[0];
+		while (x != tail) {
+			Node<T> next = x.next[0];
+			x.val = null;
+			for (int i = 0; i < x.next.length; i++) {
+				x.next[i] = null;
+				x.prev[i] = null;
+			}
+			x = next;
+		}
+		reset();
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of nodes in the list.
+	 *
+	 * @return the number of nodes currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a string representation of the list and its nodes.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			Node<T> curr = head.next[0];
+			list.append("[");
+			while (curr.next[0] != tail) {
+				list.append(curr.val).append(", ");
+				curr = curr.next[0];
+			}
+			list.append(curr.val).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	/**
+	 * Links the two sentinels directly on every level, leaving an empty list.
+	 */
+	private void reset() {
+		for (int i = 0; i < MAX_LEVEL; i++) {
+			head.next[i] = tail;
+			head.span[i] = 1;
+			tail.prev[i] = head;
+		}
+		level = 1;
+		size = 0;
+	}
+
+	/**
+	 * Fills {@link #update} and {@link #rank} with, for every level in use,
+	 * the last node positioned before the specified index and that node's
+	 * position.
+	 *
+	 * @param index
+	 *            the position to search for, between zero and the size of the
+	 *            list
+	 */
+	private void findPredecessors(int index) {
+		Node<T> x = head;
+		int pos = -1;
+		for (int i = level - 1; i >= 0; i--) {
+			while (pos + x.span[i] < index) {
+				pos += x.span[i];
+				x = x.next[i];
+			}
+			update[i] = x;
+			rank[i] = pos;
+		}
+	}
+
+	/**
+	 * Returns the node at the specified index, descending through the express
+	 * lanes. The index must be valid.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired node
+	 * @return the node at the specified index
+	 */
+	private Node<T> node(int index) {
+		Node<T> x = head;
+		int pos = -1;
+		for (int i = level - 1; i >= 0; i--) {
+			while (pos + x.span[i] <= index) {
+				pos += x.span[i];
+				x = x.next[i];
+			}
+			if (pos == index) {
+				break;
+			}
+		}
+		return x;
+	}
+
+	/**
+	 * Links a new node with the specified value at the specified index. The
+	 * predecessors of that index must already be in {@link #update} and
+	 * {@link #rank} for every level in use.
+	 *
+	 * @param index
+	 *            the position the new node will occupy
+	 * @param val
+	 *            the value of the new node
+	 */
+	private void link(int index, T val) {
+		int h = randomLevel();
+		if (h > level) {
+			for (int i = level; i < h; i++) {
+				update[i] = head;
+				rank[i] = -1;
+				head.span[i] = size + 1;
+			}
+			level = h;
+		}
+		Node<T> x = new Node<>(val, h);
+		for (int i = 0; i < h; i++) {
+			Node<T> pred = update[i];
+			Node<T> succ = pred.next[i];
+			x.next[i] = succ;
+			x.prev[i] = pred;
+			pred.next[i] = x;
+			succ.prev[i] = x;
+			x.span[i] = pred.span[i] - (index - rank[i]) + 1;
+			pred.span[i] = index - rank[i];
+		}
+		for (int i = h; i < level; i++) {
+			update[i].span[i]++;
+		}
+		size++;
+	}
+
+	/**
+	 * Unlinks the specified node and returns its value. For every level in
+	 * use that the node does not reach, {@link #update} must hold the node
+	 * whose link on that level passes over it.
+	 *
+	 * @param x
+	 *            the node to remove
+	 * @return the value of the removed node
+	 */
+	private T unlink(Node<T> x) {
+		int h = x.next.length;
+		for (int i = 0; i < h; i++) {
+			Node<T> pred = x.prev[i];
+			Node<T> succ = x.next[i];
+			pred.next[i] = succ;
+			succ.prev[i] = pred;
+			pred.span[i] += x.span[i] - 1;
+			x.next[i] = null;
+			x.prev[i] = null;
+		}
+		for (int i = h; i < level; i++) {
+			update[i].span[i]--;
+		}
+		while (level > 1 && head.next[level - 1] == tail) {
+			level--;
+		}
+		size--;
+		T removed = x.val;
+		x.val = null;
+		return removed;
+	}
+
+	/**
+	 * Returns a random node height, where each additional level is kept with
+	 * probability <code>1/4</code>.
+	 *
+	 * @return a height between one and {@link #MAX_LEVEL}
+	 */
+	private int randomLevel() {
+		// xorshift32: cheap, and never yields zero from a non-zero seed.
+		int x = seed;
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		seed = x;
+		int h = 1;
+		while ((x & 3) == 0 && h < MAX_LEVEL) {
+			h++;
+			x >>>= 2;
+		}
+		return h;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T>[] newNodeArray(int length) {
+		return (Node<T>[]) new Node<?>[length];
+	}
+
+	/**
+	 * Represents a node that takes part in one or more levels of the list.
+	 */
+	private static class Node<T> {
+		/**
+		 * The nodes following this node, one per level.
+		 */
+		final Node<T>[] next;
+
+		/**
+		 * The nodes preceding this node, one per level.
+		 */
+		final Node<T>[] prev;
+
+		/**
+		 * The number of positions between this node and the next one, per
+		 * level.
+		 */
+		final int[] span;
+
+		/**
+		 * The value of this node.
+		 */
+		T val;
+
+		/**
+		 * Constructs a new node containing the specified value.
+		 *
+		 * @param val
+		 *            the value to associate to this node
+		 * @param height
+		 *            the number of levels this node takes part in
+		 */
+		Node(T val, int height) {
+			this.val = val;
+			this.next = newNodeArray(height);
+			this.prev = newNodeArray(height);
+			this.span = new int[height];
+		}
+	}
+}
@@ -0,0 +1,569 @@
+/*
+ * File: IntLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements an unbounded doubly-linked list of primitive <code>int</code>
+ * values. It offers the operations of {@link LinkedList} without boxing:
+ * values, and the links between them, live in parallel arrays and a node is
+ * simply an index into those arrays. Slots freed by removals are kept on a
+ * free list and reused by later insertions, so once the arrays have grown to
+ * fit the list, inserting and removing allocate nothing.
+ * <p>
+ * Since a primitive cannot be <code>null</code>, methods that
+ * {@link LinkedList} lets return <code>null</code> instead report a missing
+ * value by returning <code>false</code> or by throwing
+ * {@link NoSuchElementException}, as documented on each method.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class IntLinkedList {
+	private static final int NIL = -1;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] vals;
+	private int[] next;
+	private int[] prev;
+	private int head = NIL;
+	private int tail = NIL;
+	private int size = 0;
+
+	/*
+	 * Slots below the high-water mark have been used at least once; those not
+	 * in the list are chained through the free list. Free slots are linked
+	 * through both link arrays, so that swapping the arrays (which is how
+	 * reverse() works) leaves the free list intact.
+	 */
+	private int used = 0;
+	private int free = NIL;
+
+	/**
+	 * Constructs a new list instance without any values.
+	 */
+	public IntLinkedList() {
+		vals = new int[DEFAULT_CAPACITY];
+		next = new int[DEFAULT_CAPACITY];
+		prev = new int[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Constructs a new list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public IntLinkedList(int[] a) {
+		int capacity = Math.max(a.length, DEFAULT_CAPACITY);
+		vals = new int[capacity];
+		next = new int[capacity];
+		prev = new int[capacity];
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insert(int val) {
+		int n = allocate(val);
+		if (isEmpty()) {
+			head = n;
+		} else {
+			next[tail] = n;
+			prev[n] = tail;
+		}
+		tail = n;
+		size++;
+	}
+
+	/**
+	 * Adds the specified value immediately before the first occurrence of the
+	 * specified <b>before</b> value. If the target value is not found, the
+	 * list remains unchanged.
+	 *
+	 * @param before
+	 *            the value before which to add the new value
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insertBefore(int before, int val) {
+		int target = indexOfNode(before);
+		if (target == NIL) {
+			return;
+		}
+		if (target == head) {
+			insertFirst(val);
+		} else {
+			int n = allocate(val);
+			int p = prev[target];
+			next[p] = n;
+			prev[n] = p;
+			next[n] = target;
+			prev[target] = n;
+			size++;
+		}
+	}
+
+	/**
+	 * Appends the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insertFirst(int val) {
+		int n = allocate(val);
+		if (isEmpty()) {
+			tail = n;
+		} else {
+			prev[head] = n;
+			next[n] = head;
+		}
+		head = n;
+		size++;
+	}
+
+	/**
+	 * Adds the specified value immediately following the first occurrence of
+	 * the specified <b>after</b> value. If the target value is not found, the
+	 * list remains unchanged.
+	 *
+	 * @param after
+	 *            the value after which to add the new value
+	 * @param val
+	 *            the value to be added
+	 */
+	public void insertAfter(int after, int val) {
+		int target = indexOfNode(after);
+		if (target == NIL) {
+			return;
+		}
+		if (target == tail) {
+			insert(val);
+		} else {
+			int n = allocate(val);
+			int s = next[target];
+			prev[s] = n;
+			next[n] = s;
+			prev[n] = target;
+			next[target] = n;
+			size++;
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified value.
+	 *
+	 * @param val
+	 *            the value to remove from the list
+	 * @return <code>true</code> if the value was found and removed,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean remove(int val) {
+		int target = indexOfNode(val);
+		if (target == NIL) {
+			return false;
+		}
+		unlink(target);
+		return true;
+	}
+
+	/**
+	 * Removes all occurrences of the specified value from the list.
+	 *
+	 * @param val
+	 *            the value to be removed
+	 */
+	public void removeAll(int val) {
+		int curr = head;
+		while (curr != NIL) {
+			int n = next[curr];
+			if (same(vals[curr], val)) {
+				unlink(curr);
+			}
+			curr = n;
+		}
+	}
+
+	/**
+	 * Removes the last occurrence of the specified value.
+	 *
+	 * @param val
+	 *            the value to be removed
+	 * @return <code>true</code> if the value was found and removed,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean removeLastOccurrence(int val) {
+		for (int curr = tail; curr != NIL; curr = prev[curr]) {
+			if (same(vals[curr], val)) {
+				unlink(curr);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes the value at the beginning of the list and returns it.
+	 *
+	 * @return the removed value
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public int removeFirst() {
+		checkNotEmpty();
+		return unlink(head);
+	}
+
+	/**
+	 * Removes the value at the end of the list and returns it.
+	 *
+	 * @return the removed value
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public int removeLast() {
+		checkNotEmpty();
+		return unlink(tail);
+	}
+
+	/**
+	 * Returns the value preceding the first occurrence of the specified value.
+	 *
+	 * @param val
+	 *            the value before which to return
+	 * @return the value before the specified value
+	 * @throws NoSuchElementException
+	 *             if the value is not found or is the first value
+	 */
+	public int getBefore(int val) {
+		int target = indexOfNode(val);
+		if (target == NIL || target == head) {
+			throw new NoSuchElementException("No value before " + val);
+		}
+		return vals[prev[target]];
+	}
+
+	/**
+	 * Returns the value at the beginning of this list, without removing it.
+	 *
+	 * @return the first value in this list
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public int getFirst() {
+		checkNotEmpty();
+		return vals[head];
+	}
+
+	/**
+	 * Returns the value following the first occurrence of the specified
+	 * value, without removing it.
+	 *
+	 * @param val
+	 *            the value after which to return
+	 * @return the value after the specified value
+	 * @throws NoSuchElementException
+	 *             if the value is not found or is the last value
+	 */
+	public int getAfter(int val) {
+		int target = indexOfNode(val);
+		if (target == NIL || target == tail) {
+			throw new NoSuchElementException("No value after " + val);
+		}
+		return vals[next[target]];
+	}
+
+	/**
+	 * Returns the middle value in the list, without removing it.
+	 *
+	 * @return the middle value in this list
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public int getMiddle() {
+		checkNotEmpty();
+		return vals[node((size - 1) / 2)];
+	}
+
+	/**
+	 * Returns the value at the end of the list, without removing it.
+	 *
+	 * @return the last value in the list
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public int getLast() {
+		checkNotEmpty();
+		return vals[tail];
+	}
+
+	/**
+	 * Returns the value at the specified index. The list is walked from
+	 * whichever end is closer to the index.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired value in this list
+	 * @return the value at the specified index
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is not valid
+	 */
+	public int getAt(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return vals[node(index)];
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains the specified
+	 * value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the target value
+	 *         <code>false</code> otherwise
+	 */
+	public boolean contains(int val) {
+		if (free == NIL) {
+			// No holes: every used slot is in the list, so scan the array.
+			for (int i = 0; i < used; i++) {
+				if (same(vals[i], val)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return indexOfNode(val) != NIL;
+	}
+
+	/**
+	 * Replaces the first occurrence of the specified <b>target</b> value with
+	 * the specified <b>replacement</b> value. If the target value is not
+	 * found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value to be updated
+	 * @param replacement
+	 *            the new value to assign
+	 */
+	public void replace(int target, int replacement) {
+		int n = indexOfNode(target);
+		if (n != NIL) {
+			vals[n] = replacement;
+		}
+	}
+
+	/**
+	 * Replaces all occurrences of the specified <b>target</b> value with the
+	 * specified <b>replacement</b> value.
+	 *
+	 * @param target
+	 *            the value to be updated
+	 * @param replacement
+	 *            the new value to assign
+	 */
+	public void replaceAll(int target, int replacement) {
+		if (free == NIL) {
+			for (int i = 0; i < used; i++) {
+				if (same(vals[i], target)) {
+					vals[i] = replacement;
+				}
+			}
+		} else {
+			for (int curr = head; curr != NIL; curr = next[curr]) {
+				if (same(vals[curr], target)) {
+					vals[curr] = replacement;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reverses the order of all values in the list. This takes constant time:
+	 * the two link arrays simply trade roles.
+	 */
+	public void reverse() {
+		int[] temp = next;
+		next = prev;
+		prev = temp;
+		int t = head;
+		head = tail;
+		tail = t;
+	}
+
+	/**
+	 * Clears the list of all values and resets its size to zero. The arrays
+	 * keep their capacity for reuse.
+	 */
+	public void clear() {
+		head = NIL;
+		tail = NIL;
+		size = 0;
+		used = 0;
+		free = NIL;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * @return the number of values currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the values of this list in order, in a new array.
+	 *
+	 * @return an array containing all values of this list
+	 */
+	public int[] toArray() {
+		int[] a = new int[size];
+		int i = 0;
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			a[i++] = vals[curr];
+		}
+		return a;
+	}
+
+	/**
+	 * Returns a string representation of the list and its values.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			int curr = head;
+			list.append("[");
+			while (curr != tail) {
+				list.append(vals[curr]).append(", ");
+				curr = next[curr];
+			}
+			list.append(vals[curr]).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	/**
+	 * Returns <code>true</code> if the two values are equal, using the same
+	 * notion of equality as {@link Integer#equals(Object)}.
+	 */
+	private static boolean same(int a, int b) {
+		return a == b;
+	}
+
+	private void checkNotEmpty() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("List is empty");
+		}
+	}
+
+	/**
+	 * Returns the slot of the first occurrence of the specified value, or
+	 * {@link #NIL} if it is not in the list.
+	 */
+	private int indexOfNode(int val) {
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			if (same(vals[curr], val)) {
+				return curr;
+			}
+		}
+		return NIL;
+	}
+
+	/**
+	 * Returns the slot at the specified index, walking from whichever end of
+	 * the list is closer. The index must be valid.
+	 */
+	private int node(int index) {
+		int curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = next[curr];
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = prev[curr];
+			}
+		}
+		return curr;
+	}
+
+	/**
+	 * Takes a slot from the free list, or the next unused one, growing the
+	 * arrays if needed, and stores the specified value in it with no links.
+	 */
+	private int allocate(int val) {
+		int n;
+		if (free != NIL) {
+			n = free;
+			free = next[n];
+		} else {
+			if (used == vals.length) {
+				int capacity = vals.length + (vals.length >> 1) + 1;
+				vals = Arrays.copyOf(vals, capacity);
+				next = Arrays.copyOf(next, capacity);
+				prev = Arrays.copyOf(prev, capacity);
+			}
+			n = used++;
+		}
+		vals[n] = val;
+		next[n] = NIL;
+		prev[n] = NIL;
+		return n;
+	}
+
+	/**
+	 * Unlinks the specified slot from the list, puts it on the free list and
+	 * returns its value.
+	 */
+	private int unlink(int n) {
+		int p = prev[n];
+		int s = next[n];
+		if (p == NIL) {
+			head = s;
+		} else {
+			next[p] = s;
+		}
+		if (s == NIL) {
+			tail = p;
+		} else {
+			prev[s] = p;
+		}
+		size--;
+		if (size == 0) {
+			// Nothing left to link to, so drop the holes along with the list.
+			used = 0;
+			free = NIL;
+		} else {
+			next[n] = free;
+			prev[n] = free;
+			free = n;
+		}
+		return vals[n];
+	}
+}
@@ -3,17 +3,102 @@
  */
 package aghannam.list;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Implements an unbounded doubly-linked list that supports basic operations.
+ * <p>
+ * The list remembers its middle node and the node last reached by index, and
+ * keeps both up to date as nodes are added and removed. This makes
+ * {@link #getMiddle()} take constant time and lets an index-based walk start
+ * from whichever remembered node is closest, so that reading consecutive
+ * indices with {@link #getAt(int)} takes constant time per call. Because even
+ * these reads update the list's state, the list must not be shared between
+ * threads without synchronization.
  * 
  * @author Ahmed Ghannam
  *
  */
-public class LinkedList<T> {
+public class LinkedList<T> implements Iterable<T> {
 	private Node<T> head;
 	private Node<T> tail;
 	private int size = 0;
 
+	/*
+	 * Counts structural modifications, so that iterators and spliterators can
+	 * fail fast when the list changes underneath them.
+	 */
+	private int modCount = 0;
+
+	/*
+	 * The node at index (size - 1) / 2, or null if it has to be looked up
+	 * again, and the node last reached by index together with that index, or
+	 * null. Both are adjusted whenever a node is linked or unlinked at a known
+	 * index, and forgotten after bulk changes.
+	 */
+	private Node<T> middle;
+	private Node<T> cursor;
+	private int cursorIndex;
+
+	/*
+	 * Whether the list reads from tail to head. Reversing the list only flips
+	 * this flag. Operations at either end, positional operations and
+	 * traversals follow it; the remaining operations call normalize() first
+	 * so that they can work on nodes laid out in reading order. Remembered
+	 * positions always count from the physical head.
+	 */
+	private boolean reversed;
+
+	/**
+	 * The default size below which parallel operations run sequentially.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+	/*
+	 * Segments handed to each fork-join worker, so that uneven progress
+	 * evens out, and the fewest nodes worth a task of their own.
+	 */
+	private static final int SEGMENTS_PER_THREAD = 4;
+	private static final int MIN_SEGMENT_LENGTH = 1 << 12;
+
+	/*
+	 * How often, in nodes, a parallel search checks whether another segment
+	 * has already found its value.
+	 */
+	private static final int STOP_CHECK_MASK = (1 << 10) - 1;
+
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	/*
+	 * The first node of every segment used by the parallel operations, valid
+	 * while modCount equals splitsModCount.
+	 */
+	private Node<T>[] splits;
+	private int splitLength;
+	private int splitsModCount;
+
+	/*
+	 * Where scanning operations are recorded, or null while instrumentation
+	 * is off, and the number of nodes the current scan has walked past.
+	 */
+	private ListMetrics metrics;
+	private int scanned;
+
 	/**
 	 * Constructs a new doubly-linked list instance without any nodes.
 	 */
@@ -33,6 +118,8 @@ public class LinkedList<T> {
 		this.head = head;
 		this.tail = head;
 		size++;
+		modCount++;
+		afterLink(0);
 	}
 
 	/**
@@ -42,11 +129,7 @@ public class LinkedList<T> {
 	 *            the array whose elements are to be added to this list
 	 */
 	public LinkedList(T[] a) {
-		if (a.length > 0) {
-			for (int i = 0; i < a.length; i++) {
-				insert(a[i]);
-			}
-		}
+		insertAll(a);
 	}
 
 	/**
@@ -56,18 +139,10 @@ public class LinkedList<T> {
 	 *            the value of the node to be added to this list
 	 */
 	public void insert(T val) {
-		if (val != null) {
-			Node<T> newNode = new Node<>(val);
-			if (isEmpty()) {
-				head = newNode;
-				tail = newNode;
-				size++;
-			} else {
-				tail.next = newNode;
-				newNode.prev = tail;
-				tail = newNode;
-				size++;
-			}
+		if (reversed) {
+			linkFirst(val);
+		} else {
+			linkLast(val);
 		}
 	}
 
@@ -82,23 +157,46 @@ public class LinkedList<T> {
 	 *            the value of the node to be added to this list
 	 */
 	public void insertBefore(T before, T val) {
+		ListMetrics m = metrics;
+		if (m == null) {
+			linkBefore(before, val);
+		} else {
+			long start = startScan();
+			linkBefore(before, val);
+			m.record(ListMetrics.Operation.INSERT_BEFORE, start, scanned, size);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value before the first node with the
+	 * specified <b>before</b> value, if there is one.
+	 */
+	private void linkBefore(T before, T val) {
+		normalize();
 		if (!isEmpty() && before != null && val != null) {
 			if (head.val.equals(before)) {
-				insertFirst(val);
+				scanned = 1;
+				linkFirst(val);
 			} else {
 				Node<T> curr = head;
+				int index = 0;
 				while (!curr.val.equals(before)) {
 					curr = curr.next;
+					index++;
 					if (curr == null) {
+						scanned = index;
 						return;
 					}
 				}
+				scanned = index + 1;
 				Node<T> newNode = new Node<>(val);
 				curr.prev.next = newNode;
 				newNode.prev = curr.prev;
 				newNode.next = curr;
 				curr.prev = newNode;
 				size++;
+				modCount++;
+				afterLink(index);
 			}
 		}
 	}
@@ -110,18 +208,10 @@ public class LinkedList<T> {
 	 *            the value of the node to be added to this list
 	 */
 	public void insertFirst(T val) {
-		if (val != null) {
-			Node<T> newNode = new Node<>(val);
-			if (isEmpty()) {
-				head = newNode;
-				tail = newNode;
-				size++;
-			} else {
-				head.prev = newNode;
-				newNode.next = head;
-				head = newNode;
-				size++;
-			}
+		if (reversed) {
+			linkLast(val);
+		} else {
+			linkFirst(val);
 		}
 	}
 
@@ -136,16 +226,36 @@ public class LinkedList<T> {
 	 *            the value of the node to be added
 	 */
 	public void insertAfter(T after, T val) {
+		ListMetrics m = metrics;
+		if (m == null) {
+			linkAfter(after, val);
+		} else {
+			long start = startScan();
+			linkAfter(after, val);
+			m.record(ListMetrics.Operation.INSERT_AFTER, start, scanned, size);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value after the first node with the
+	 * specified <b>after</b> value, if there is one.
+	 */
+	private void linkAfter(T after, T val) {
+		normalize();
 		if (!isEmpty() && after != null && val != null) {
 			Node<T> curr = head;
+			int index = 0;
 			while (!curr.val.equals(after)) {
 				curr = curr.next;
+				index++;
 				if (curr == null) {
+					scanned = index;
 					return;
 				}
 			}
+			scanned = index + 1;
 			if (curr == tail) {
-				insert(val);
+				linkLast(val);
 			} else {
 				Node<T> newNode = new Node<>(val);
 				curr.next.prev = newNode;
@@ -153,8 +263,192 @@ public class LinkedList<T> {
 				newNode.prev = curr;
 				curr.next = newNode;
 				size++;
+				modCount++;
+				afterLink(index + 1);
+			}
+		}
+	}
+
+	/**
+	 * Appends nodes with the values of the specified array, in order, to the
+	 * end of the list. The new nodes are chained together first and then
+	 * linked to the list in a single step. <code>null</code> values are
+	 * skipped.
+	 * 
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public void insertAll(T[] a) {
+		linkAtEnd(chain(Arrays.asList(a)), true);
+	}
+
+	/**
+	 * Appends nodes with the values of the specified iterable, in order, to
+	 * the end of the list. The new nodes are chained together first and then
+	 * linked to the list in a single step. <code>null</code> values are
+	 * skipped.
+	 * 
+	 * @param values
+	 *            the values to be added to this list
+	 */
+	public void insertAll(Iterable<? extends T> values) {
+		linkAtEnd(chain(values), true);
+	}
+
+	/**
+	 * Adds nodes with the values of the specified array to the beginning of
+	 * the list, keeping their order. The new nodes are chained together first
+	 * and then linked to the list in a single step. <code>null</code> values
+	 * are skipped.
+	 * 
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public void insertAllFirst(T[] a) {
+		linkAtEnd(chain(Arrays.asList(a)), false);
+	}
+
+	/**
+	 * Adds nodes with the values of the specified iterable to the beginning
+	 * of the list, keeping their order. The new nodes are chained together
+	 * first and then linked to the list in a single step. <code>null</code>
+	 * values are skipped.
+	 * 
+	 * @param values
+	 *            the values to be added to this list
+	 */
+	public void insertAllFirst(Iterable<? extends T> values) {
+		linkAtEnd(chain(values), false);
+	}
+
+	/**
+	 * Adds nodes with the values of the specified array, in order,
+	 * immediately following the first occurrence of the node with the
+	 * specified <b>after</b> value. If the target node is not found, the list
+	 * remains unchanged. <code>null</code> values are skipped.
+	 * 
+	 * @param after
+	 *            the value of the target node after which to add the new nodes
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public void insertAllAfter(T after, T[] a) {
+		insertAllAfter(after, Arrays.asList(a));
+	}
+
+	/**
+	 * Adds nodes with the values of the specified iterable, in order,
+	 * immediately following the first occurrence of the node with the
+	 * specified <b>after</b> value. If the target node is not found, the list
+	 * remains unchanged. <code>null</code> values are skipped.
+	 * 
+	 * @param after
+	 *            the value of the target node after which to add the new nodes
+	 * @param values
+	 *            the values to be added to this list
+	 */
+	public void insertAllAfter(T after, Iterable<? extends T> values) {
+		if (!isEmpty() && after != null) {
+			Node<T> curr = first();
+			while (!curr.val.equals(after)) {
+				curr = succ(curr);
+				if (curr == null) {
+					return;
+				}
+			}
+			Chain<T> chain = chain(values);
+			if (reversed) {
+				// Read backwards, the new nodes go physically before the target.
+				chain.turnAround();
+				linkAfter(curr.prev, chain);
+			} else {
+				linkAfter(curr, chain);
+			}
+		}
+	}
+
+	/**
+	 * Moves all nodes of the specified list to the end of this list, leaving
+	 * the specified list empty. No values are copied: the two chains of nodes
+	 * are joined in constant time. If exactly one of the two lists has been
+	 * reversed, the moved nodes are relinked to match this list, which takes
+	 * time linear in the size of the specified list. Splicing a list into
+	 * itself has no effect.
+	 * 
+	 * @param other
+	 *            the list whose nodes are to be moved to this list
+	 */
+	public void splice(LinkedList<T> other) {
+		if (other != this && !other.isEmpty()) {
+			Chain<T> moved = new Chain<>();
+			moved.first = other.head;
+			moved.last = other.tail;
+			moved.size = other.size;
+			if (other.reversed != reversed) {
+				moved.turnAround();
+			}
+			other.head = null;
+			other.tail = null;
+			other.size = 0;
+			other.reversed = false;
+			other.modCount++;
+			other.forgetPositions();
+			// Read backwards, the end of this list is its physical head.
+			linkAfter(reversed ? null : tail, moved);
+		}
+	}
+
+	/**
+	 * Splits this list in two at the specified index. The nodes from the
+	 * index onwards are moved, without copying their values, to a new list
+	 * that this method returns; this list keeps the nodes before the index.
+	 * If the specified index is not valid, the list remains unchanged and
+	 * this method returns <code>null</code>.
+	 * 
+	 * @param index
+	 *            the zero-based location of the first node to move, from zero
+	 *            to the size of the list
+	 * @return a new list with the nodes from the specified index onwards
+	 */
+	public LinkedList<T> splitAt(int index) {
+		if (index < 0 || index > size) {
+			return null;
+		}
+		LinkedList<T> rest = new LinkedList<>();
+		if (index < size) {
+			Node<T> first = node(physical(index));
+			rest.size = size - index;
+			rest.reversed = reversed;
+			rest.modCount++;
+			if (reversed) {
+				// Read backwards, the moved nodes are the physical front of the list.
+				rest.head = head;
+				rest.tail = first;
+				if (first == tail) {
+					head = null;
+					tail = null;
+				} else {
+					head = first.next;
+					head.prev = null;
+				}
+				first.next = null;
+			} else {
+				rest.head = first;
+				rest.tail = tail;
+				if (first == head) {
+					head = null;
+					tail = null;
+				} else {
+					tail = first.prev;
+					tail.next = null;
+				}
+				first.prev = null;
 			}
+			size = index;
+			modCount++;
+			forgetPositions();
 		}
+		return rest;
 	}
 
 	/**
@@ -167,27 +461,14 @@ public class LinkedList<T> {
 	 * @return the value of the removed node
 	 */
 	public T remove(T val) {
-		if (!isEmpty() && val != null) {
-			if (head.val.equals(val)) {
-				return removeFirst();
-			}
-			Node<T> curr = head;
-			while (!curr.val.equals(val)) {
-				curr = curr.next;
-				if (curr == null) {
-					return null;
-				}
-			}
-			if (curr == tail) {
-				return removeLast();
-			}
-			T removed = curr.val;
-			curr.next.prev = curr.prev;
-			curr.prev.next = curr.next;
-			size--;
-			return removed;
+		ListMetrics m = metrics;
+		if (m == null) {
+			return reversed ? unlinkLastOccurrence(val) : unlinkFirstOccurrence(val);
 		}
-		return null;
+		long start = startScan();
+		T removed = reversed ? unlinkLastOccurrence(val) : unlinkFirstOccurrence(val);
+		m.record(ListMetrics.Operation.REMOVE, start, scanned, size);
+		return removed;
 	}
 
 	/**
@@ -201,18 +482,22 @@ public class LinkedList<T> {
 		if (!isEmpty() && val != null) {
 			Node<T> curr = head;
 			while (curr != null) {
+				Node<T> next = curr.next;
 				if (curr.val.equals(val)) {
 					if (curr == head) {
-						removeFirst();
+						unlinkFirst();
 					} else if (curr == tail) {
-						removeLast();
+						unlinkLast();
 					} else {
 						curr.next.prev = curr.prev;
 						curr.prev.next = curr.next;
+						release(curr);
 						size--;
+						modCount++;
+						forgetPositions();
 					}
 				}
-				curr = curr.next;
+				curr = next;
 			}
 		}
 	}
@@ -223,27 +508,14 @@ public class LinkedList<T> {
 	 * @return the value of the removed node
 	 */
 	public T removeLastOccurrence(T val) {
-		if (!isEmpty()) {
-			if (tail.val.equals(val)) {
-				return removeLast(); 
-			}
-			Node<T> curr = tail; 
-			while (!curr.val.equals(val)) {
-				curr = curr.prev; 
-				if (curr == null) 
-					return null; 
-			}
-			if (curr == head) {
-				return removeFirst();
-			} else {
-				T removed = curr.val;
-				curr.next.prev = curr.prev;
-				curr.prev.next = curr.next;
-				size--;
-				return removed; 
-			}
+		ListMetrics m = metrics;
+		if (m == null) {
+			return reversed ? unlinkFirstOccurrence(val) : unlinkLastOccurrence(val);
 		}
-		return null; 
+		long start = startScan();
+		T removed = reversed ? unlinkFirstOccurrence(val) : unlinkLastOccurrence(val);
+		m.record(ListMetrics.Operation.REMOVE_LAST_OCCURRENCE, start, scanned, size);
+		return removed;
 	}
 
 	/**
@@ -253,13 +525,7 @@ public class LinkedList<T> {
 	 * @return the value of the node removed
 	 */
 	public T removeFirst() {
-		if (!isEmpty()) {
-			T removed = head.val;
-			head = head.next;
-			size--;
-			return removed;
-		}
-		return null;
+		return reversed ? unlinkLast() : unlinkFirst();
 	}
 
 	/**
@@ -269,17 +535,7 @@ public class LinkedList<T> {
 	 * @return the value of the removed node
 	 */
 	public T removeLast() {
-		if (!isEmpty()) {
-			if (tail.prev == null) {
-				return removeFirst();
-			}
-			T removed = tail.val;
-			tail.prev.next = null;
-			tail = tail.prev;
-			size--;
-			return removed;
-		}
-		return null;
+		return reversed ? unlinkFirst() : unlinkLast();
 	}
 	
 	/**
@@ -293,17 +549,11 @@ public class LinkedList<T> {
 	 */
 	public T getBefore(T val) {
 		if (!isEmpty() && val != null) {
-			if (head.next.val.equals(val)) {
-				return getFirst();
-			}
-			Node<T> curr = head.next;
-			while (!curr.val.equals(val)) {
-				curr = curr.next;
-				if (curr == null) {
-					return null;
-				}
+			Node<T> curr = succ(first());
+			while (curr != null && !curr.val.equals(val)) {
+				curr = succ(curr);
 			}
-			return curr.prev.val;
+			return curr == null ? null : pred(curr).val;
 		}
 		return null;
 	}
@@ -315,7 +565,7 @@ public class LinkedList<T> {
 	 * @return the value of the first node in this list
 	 */
 	public T getFirst() {
-		return isEmpty() ? null : head.val;
+		return isEmpty() ? null : first().val;
 	}
 
 	/**
@@ -329,35 +579,30 @@ public class LinkedList<T> {
 	 */
 	public T getAfter(T val) {
 		if (!isEmpty() && val != null) {
-			if (head.val.equals(val)) {
-				return head.next.val;
-			}
-			Node<T> curr = head;
-			while (!curr.val.equals(val)) {
-				curr = curr.next;
-				if (curr == null) {
-					return null;
-				}
+			Node<T> curr = first();
+			while (curr != null && !curr.val.equals(val)) {
+				curr = succ(curr);
 			}
-			return curr == tail ? null : curr.next.val;
+			return curr == null || curr == last() ? null : succ(curr).val;
 		}
 		return null;
 	}
 
 	/**
 	 * Returns the value of the middle node in the list, without removing it.
+	 * For an even number of nodes, this is the first of the two middle nodes.
+	 * The middle node is remembered, so this takes constant time unless a
+	 * bulk operation has changed the list since it was last found.
 	 * 
 	 * @return the value of the middle node in this list
 	 */
 	public T getMiddle() {
 		if (!isEmpty()) {
-			Node<T> slow = head;
-			Node<T> fast = head;
-			while (fast.next != null && fast.next.next != null) {
-				slow = slow.next;
-				fast = fast.next.next;
+			if (middle == null) {
+				middle = node((size - 1) >> 1);
 			}
-			return slow.val;
+			// Read backwards, an even-sized list has its middle one node further on.
+			return reversed && (size & 1) == 0 ? middle.next.val : middle.val;
 		}
 		return null;
 	}
@@ -369,32 +614,103 @@ public class LinkedList<T> {
 	 * @return the value of the last node in the list
 	 */
 	public T getLast() {
-		return isEmpty() ? null : tail.val;
+		return isEmpty() ? null : last().val;
 	}
 
 	/**
 	 * Returns the value of the node at the specified index. If the list is
 	 * empty or the specified index is not valid, this method returns
-	 * <code>null</code>.
+	 * <code>null</code>. The list is walked from whichever end, remembered
+	 * position or middle node is closest to the index, so reading the index
+	 * after the previous one takes constant time.
 	 * 
 	 * @param index
 	 *            the zero-based location of the desired node in this list
 	 * @return the value of the node at the specified index or location
 	 */
 	public T getAt(int index) {
-		if (!isEmpty()) {
-			if (index < 0 || index >= size) {
-				return null;
-			}
-			Node<T> curr = head;
-			int i = 0;
-			while (i != index) {
-				curr = curr.next;
-				i++;
-			}
-			return curr.val;
+		if (index < 0 || index >= size) {
+			return null;
 		}
-		return null;
+		ListMetrics m = metrics;
+		if (m == null) {
+			return node(physical(index)).val;
+		}
+		long start = startScan();
+		T val = node(physical(index)).val;
+		m.record(ListMetrics.Operation.GET_AT, start, scanned, size);
+		return val;
+	}
+
+	/**
+	 * Adds a node with the specified value at the specified index, shifting
+	 * the node currently at that index (if any) and all subsequent nodes one
+	 * position towards the end of the list. An index equal to the size of the
+	 * list appends the node. If the index is not valid, the list remains
+	 * unchanged.
+	 * 
+	 * @param index
+	 *            the zero-based location at which to add the new node
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertAt(int index, T val) {
+		// Before view index i lies after physical index size - 1 - i.
+		ListMetrics m = metrics;
+		if (m == null) {
+			linkAt(reversed ? size - index : index, val);
+		} else {
+			long start = startScan();
+			linkAt(reversed ? size - index : index, val);
+			m.record(ListMetrics.Operation.INSERT_AT, start, scanned, size);
+		}
+	}
+
+	/**
+	 * Removes the node at the specified index and returns its value. If the
+	 * list is empty or the specified index is not valid, this method returns
+	 * <code>null</code>.
+	 * 
+	 * @param index
+	 *            the zero-based location of the node to remove
+	 * @return the value of the removed node
+	 */
+	public T removeAt(int index) {
+		ListMetrics m = metrics;
+		if (m == null) {
+			return unlinkAt(physical(index));
+		}
+		long start = startScan();
+		T removed = unlinkAt(physical(index));
+		m.record(ListMetrics.Operation.REMOVE_AT, start, scanned, size);
+		return removed;
+	}
+
+	/**
+	 * Replaces the value of the node at the specified index with the specified
+	 * value and returns the value it previously held. If the specified index
+	 * is not valid, no changes are made and this method returns
+	 * <code>null</code>.
+	 * 
+	 * @param index
+	 *            the zero-based location of the node to be updated
+	 * @param val
+	 *            the new value to assign to the node
+	 * @return the previous value of the node at the specified index
+	 */
+	public T setAt(int index, T val) {
+		if (val == null || index < 0 || index >= size) {
+			return null;
+		}
+		ListMetrics m = metrics;
+		long start = m == null ? 0 : startScan();
+		Node<T> curr = node(physical(index));
+		T previous = curr.val;
+		curr.val = val;
+		if (m != null) {
+			m.record(ListMetrics.Operation.SET_AT, start, scanned, size);
+		}
+		return previous;
 	}
 
 	/**
@@ -407,17 +723,41 @@ public class LinkedList<T> {
 	 *         the target value <code>false</code> otherwise
 	 */
 	public boolean contains(T val) {
+		ListMetrics m = metrics;
+		if (m == null) {
+			return search(val);
+		}
+		long start = startScan();
+		boolean found = search(val);
+		m.record(ListMetrics.Operation.CONTAINS, start, scanned, size);
+		return found;
+	}
+
+	/**
+	 * Returns whether the list contains a node with the specified value,
+	 * checking both ends before walking forward from the head.
+	 */
+	private boolean search(T val) {
 		if (!isEmpty()) {
-			if (head.val.equals(val) || tail.val.equals(val)) {
+			if (head.val.equals(val)) {
+				scanned = 1;
+				return true;
+			}
+			if (tail.val.equals(val)) {
+				scanned = 2;
 				return true;
 			}
 			Node<T> curr = head.next;
+			int visited = 3;
 			while (curr != null) {
 				if (curr.val.equals(val)) {
+					scanned = visited;
 					return true;
 				}
 				curr = curr.next;
+				visited++;
 			}
+			scanned = size;
 		}
 		return false;
 	}
@@ -433,6 +773,7 @@ public class LinkedList<T> {
 	 *            the new value to assign to the target node
 	 */
 	public void replace(T target, T replacement) {
+		normalize();
 		if (!isEmpty() && target != null && replacement != null) {
 			if (head.val.equals(target)) {
 				head.val = replacement;
@@ -473,40 +814,404 @@ public class LinkedList<T> {
 	}
 
 	/**
-	 * Reverses the order of all nodes in the list.
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value, searching segments of the list in parallel. Lists
+	 * smaller than the parallel threshold are searched sequentially.
+	 * 
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 * @see #setParallelThreshold(int)
 	 */
-	public void reverse() {
-		if (!isEmpty()) {
-			// First, swap the head and the tail.
-			Node<T> temp = head;
-			head = tail;
-			tail = temp;
-
-			// Then, swap the rest of the nodes.
-			Node<T> curr = head;
-			while (curr != null) {
-				temp = curr.next;
-				curr.next = curr.prev;
-				curr.prev = temp;
+	public boolean parallelContains(T val) {
+		if (val == null || !useParallel()) {
+			return contains(val);
+		}
+		Node<T>[] starts = splitPoints();
+		AtomicBoolean found = new AtomicBoolean();
+		forEachSegment(starts.length, s -> {
+			Node<T> curr = starts[s];
+			int n = segmentLength(s);
+			for (int i = 0; i < n; i++) {
+				if (curr.val.equals(val)) {
+					found.set(true);
+					return;
+				}
+				if ((i & STOP_CHECK_MASK) == 0 && found.get()) {
+					return;
+				}
 				curr = curr.next;
 			}
-		}
+		});
+		return found.get();
 	}
 
 	/**
-	 * Clears the list of all nodes and resets its size to zero.
+	 * Replaces the values of all nodes containing the specified <b>target</b>
+	 * value with the specified <b>replacement</b> value, updating segments of
+	 * the list in parallel. Lists smaller than the parallel threshold are
+	 * updated sequentially.
+	 * 
+	 * @param target
+	 *            the value of the nodes to be updated
+	 * @param replacement
+	 *            the new value to assign to the target nodes
+	 * @see #setParallelThreshold(int)
 	 */
-	public void clear() {
-		if (!isEmpty()) {
-			head.next = null;
-			head = null;
-			tail.prev = null;
-			tail = null;
-			size = 0;
+	public void parallelReplaceAll(T target, T replacement) {
+		if (target == null || replacement == null || !useParallel()) {
+			replaceAll(target, replacement);
+			return;
 		}
-	}
-
-	/**
+		Node<T>[] starts = splitPoints();
+		forEachSegment(starts.length, s -> {
+			Node<T> curr = starts[s];
+			int n = segmentLength(s);
+			for (int i = 0; i < n; i++) {
+				if (curr.val.equals(target)) {
+					curr.val = replacement;
+				}
+				curr = curr.next;
+			}
+		});
+	}
+
+	/**
+	 * Removes all occurrences of the node containing the specified value from
+	 * the list, filtering segments of the list in parallel. Each segment
+	 * chains its surviving nodes together, and the surviving chains are then
+	 * joined end to end. Lists smaller than the parallel threshold are
+	 * filtered sequentially.
+	 * 
+	 * @param val
+	 *            the value of the nodes to be removed
+	 * @see #setParallelThreshold(int)
+	 */
+	public void parallelRemoveAll(T val) {
+		if (val == null || !useParallel()) {
+			removeAll(val);
+			return;
+		}
+		Node<T>[] starts = splitPoints();
+		int segments = starts.length;
+		@SuppressWarnings("unchecked")
+		Node<T>[] firsts = (Node<T>[]) new Node<?>[segments];
+		@SuppressWarnings("unchecked")
+		Node<T>[] lasts = (Node<T>[]) new Node<?>[segments];
+		int[] kept = new int[segments];
+		forEachSegment(segments, s -> {
+			Node<T> curr = starts[s];
+			Node<T> last = null;
+			int n = segmentLength(s);
+			for (int i = 0; i < n; i++) {
+				Node<T> next = curr.next;
+				if (curr.val.equals(val)) {
+					release(curr);
+				} else {
+					if (last == null) {
+						firsts[s] = curr;
+					} else {
+						last.next = curr;
+						curr.prev = last;
+					}
+					last = curr;
+					kept[s]++;
+				}
+				curr = next;
+			}
+			lasts[s] = last;
+		});
+
+		// Join the surviving chains of the segments in order.
+		Node<T> last = null;
+		int survivors = 0;
+		for (int s = 0; s < segments; s++) {
+			if (firsts[s] != null) {
+				if (last == null) {
+					head = firsts[s];
+				} else {
+					last.next = firsts[s];
+				}
+				firsts[s].prev = last;
+				last = lasts[s];
+				survivors += kept[s];
+			}
+		}
+		if (survivors != size) {
+			if (last == null) {
+				head = null;
+			} else {
+				last.next = null;
+			}
+			tail = last;
+			size = survivors;
+			modCount++;
+			forgetPositions();
+		}
+	}
+
+	/**
+	 * Performs the specified action on the value of every node in the list,
+	 * processing segments of the list in parallel. The action may therefore
+	 * be called from several threads at once and in no particular order; it
+	 * must not modify the structure of this list. Lists smaller than the
+	 * parallel threshold are processed sequentially, from first to last.
+	 * 
+	 * @param action
+	 *            the action to perform on each value
+	 * @throws ConcurrentModificationException
+	 *             if the action modifies the structure of this list
+	 * @see #setParallelThreshold(int)
+	 */
+	public void parallelForEach(Consumer<? super T> action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		int expectedModCount = modCount;
+		if (!useParallel()) {
+			// Removed nodes lose their links, so stop as soon as the list changes.
+			Node<T> curr = first();
+			for (int i = 0; i < size && modCount == expectedModCount; i++) {
+				action.accept(curr.val);
+				curr = succ(curr);
+			}
+		} else {
+			Node<T>[] starts = splitPoints();
+			forEachSegment(starts.length, s -> {
+				Node<T> curr = starts[s];
+				int n = segmentLength(s);
+				for (int i = 0; i < n; i++) {
+					action.accept(curr.val);
+					curr = curr.next;
+				}
+			});
+		}
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * Sorts the list into the order induced by the specified comparator. The
+	 * sort is a stable, bottom-up merge sort that relinks the existing nodes
+	 * instead of copying their values out, so it takes O(n log n) time and
+	 * only a constant amount of extra memory. A <code>null</code> comparator
+	 * sorts the values by their natural ordering.
+	 * <p>
+	 * The sort only rewires the forward links until it has finished; if the
+	 * comparator throws, the list is restored to its original order before
+	 * the exception propagates.
+	 * 
+	 * @param c
+	 *            the comparator that determines the order of the values, or
+	 *            <code>null</code> for natural ordering
+	 * @throws ClassCastException
+	 *             if <code>c</code> is <code>null</code> and the values are not
+	 *             mutually comparable
+	 */
+	public void sort(Comparator<? super T> c) {
+		normalize();
+		if (size > 1) {
+			Comparator<? super T> order = comparator(c);
+			try {
+				relink(sortRun(head, order));
+			} catch (RuntimeException | Error e) {
+				restoreLinks();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Sorts the list into the order induced by the specified comparator,
+	 * sorting segments of the list in parallel and merging the sorted
+	 * segments pairwise. The result is the same as that of
+	 * {@link #sort(Comparator)}, including its stability. Lists smaller than
+	 * the parallel threshold are sorted sequentially.
+	 * 
+	 * @param c
+	 *            the comparator that determines the order of the values, or
+	 *            <code>null</code> for natural ordering
+	 * @throws ClassCastException
+	 *             if <code>c</code> is <code>null</code> and the values are not
+	 *             mutually comparable
+	 * @see #setParallelThreshold(int)
+	 */
+	public void parallelSort(Comparator<? super T> c) {
+		normalize();
+		if (!useParallel()) {
+			sort(c);
+			return;
+		}
+		Comparator<? super T> order = comparator(c);
+		Node<T>[] runs = splitPoints().clone();
+		// Cut the forward links between segments, so that each is a run of its own.
+		for (int s = 1; s < runs.length; s++) {
+			runs[s].prev.next = null;
+		}
+		/*
+		 * A task that throws would let its caller return before sibling tasks
+		 * finish, so failures are collected and rethrown only once every
+		 * segment has stopped changing links.
+		 */
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		forEachSegment(runs.length, s -> {
+			try {
+				runs[s] = sortRun(runs[s], order);
+			} catch (RuntimeException | Error e) {
+				failure.compareAndSet(null, e);
+			}
+		});
+		for (int merged = 1; merged < runs.length && failure.get() == null; merged <<= 1) {
+			int width = merged;
+			int step = width << 1;
+			forEachSegment((runs.length - width + step - 1) / step, m -> {
+				try {
+					runs[m * step] = merge(runs[m * step], runs[m * step + width], order);
+				} catch (RuntimeException | Error e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+		}
+		Throwable e = failure.get();
+		if (e != null) {
+			restoreLinks();
+			if (e instanceof Error) {
+				throw (Error) e;
+			}
+			throw (RuntimeException) e;
+		}
+		relink(runs[0]);
+	}
+
+	/**
+	 * Returns the metrics that the scanning operations of this list are
+	 * recorded in, or <code>null</code> if instrumentation is off.
+	 * 
+	 * @return the metrics of this list
+	 */
+	public ListMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Turns instrumentation on by recording every scanning operation of this
+	 * list in the specified metrics, or off if it is <code>null</code>. The
+	 * operations recorded are those listed in {@link ListMetrics.Operation};
+	 * with instrumentation off, they cost no more than a single field check.
+	 * 
+	 * @param metrics
+	 *            the metrics to record in, or <code>null</code> for none
+	 */
+	public void setMetrics(ListMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns the size below which the parallel operations of this list fall
+	 * back to their sequential counterparts.
+	 * 
+	 * @return the current parallel threshold
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the size below which the parallel operations of this list fall
+	 * back to their sequential counterparts. Splitting a list into segments
+	 * costs a walk of the list whenever its structure has changed since the
+	 * last parallel operation, so small lists are faster to scan directly.
+	 * 
+	 * @param threshold
+	 *            the smallest list size to process in parallel
+	 * @throws IllegalArgumentException
+	 *             if the threshold is less than one
+	 */
+	public void setParallelThreshold(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+		}
+		this.parallelThreshold = threshold;
+	}
+
+	/**
+	 * Reverses the order of all nodes in the list in constant time. Only the
+	 * direction in which the list is read changes; the nodes keep their links
+	 * until an operation that needs them in reading order lays them out
+	 * again, or {@link #normalize()} is called.
+	 */
+	public void reverse() {
+		if (!isEmpty()) {
+			reversed = !reversed;
+			modCount++;
+		}
+	}
+
+	/**
+	 * Relinks the nodes of the list so that their physical order matches the
+	 * order in which the list is read, undoing the effect of any pending
+	 * {@link #reverse()}. The values keep their order. This takes linear time
+	 * if the list is reversed and constant time otherwise. Operations that
+	 * depend on the physical order, such as {@link #sort(Comparator)} and
+	 * {@link #replace(Object, Object)}, call it themselves.
+	 */
+	public void normalize() {
+		if (reversed) {
+			if (!isEmpty()) {
+				// First, swap the head and the tail.
+				Node<T> temp = head;
+				head = tail;
+				tail = temp;
+
+				// Then, swap the rest of the nodes.
+				Node<T> curr = head;
+				while (curr != null) {
+					temp = curr.next;
+					curr.next = curr.prev;
+					curr.prev = temp;
+					curr = curr.next;
+				}
+				reversed = false;
+				modCount++;
+
+				// Remembered nodes keep their place, now counted from the other end.
+				if (cursor != null) {
+					cursorIndex = size - 1 - cursorIndex;
+				}
+				if (middle != null) {
+					stepMiddle(size - 1 - ((size - 1) >> 1), (size - 1) >> 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Clears the list of all nodes and resets its size to zero. Every node is
+	 * unlinked from its neighbours and its value, so that a node still held
+	 * elsewhere, such as by an abandoned iterator, keeps none of the others
+	 * reachable.
+	 */
+	public void clear() {
+		if (!isEmpty()) {
+			Node<T> curr = head;
+			while (curr != null) {
+				Node<T> next = curr.next;
+				release(curr);
+				curr = next;
+			}
+			head = null;
+			tail = null;
+			size = 0;
+			modCount++;
+			forgetPositions();
+			splits = null;
+		}
+		reversed = false;
+	}
+
+	/**
 	 * Returns <code>true</code> if and only if the list is empty.
 	 * 
 	 * @return <code>true</code> if this list is empty, <code>false</code>
@@ -532,24 +1237,1158 @@ public class LinkedList<T> {
 	 */
 	@Override
 	public String toString() {
-		if (!isEmpty()) {
-			StringBuilder list = new StringBuilder();
-			Node<T> curr = head;
-			list.append("[");
-			while (curr != tail) {
-				list.append(curr.val).append(", ");
-				curr = curr.next;
+		return appendTo(new StringBuilder(), size).toString();
+	}
+
+	/**
+	 * Returns a string representation of at most the first
+	 * <code>maxElements</code> values of the list. If the list holds more
+	 * values, the string ends with the number of values left out instead,
+	 * as in <code>[1, 2, 3, ... (7 more)]</code>. This bounds the length of
+	 * the string however long the list is, which suits log messages.
+	 * 
+	 * @param maxElements
+	 *            the largest number of values to include
+	 * @return a string representation of the start of the current list
+	 * @throws IllegalArgumentException
+	 *             if <code>maxElements</code> is negative
+	 */
+	public String toString(int maxElements) {
+		return appendTo(new StringBuilder(), maxElements).toString();
+	}
+
+	/**
+	 * Appends the string representation of the list, as returned by
+	 * {@link #toString()}, to the specified destination. Each value is
+	 * written as soon as it is reached, so the whole representation never
+	 * has to be held in memory; a <code>Writer</code> or
+	 * <code>PrintStream</code> receives it piece by piece.
+	 * 
+	 * @param out
+	 *            the destination to append to
+	 * @return the destination
+	 * @throws IOException
+	 *             if the destination cannot be appended to
+	 */
+	public <A extends Appendable> A appendTo(A out) throws IOException {
+		return appendTo(out, size);
+	}
+
+	/**
+	 * Appends the string representation of at most the first
+	 * <code>maxElements</code> values of the list, as returned by
+	 * {@link #toString(int)}, to the specified destination.
+	 * 
+	 * @param out
+	 *            the destination to append to
+	 * @param maxElements
+	 *            the largest number of values to include
+	 * @return the destination
+	 * @throws IOException
+	 *             if the destination cannot be appended to
+	 * @throws IllegalArgumentException
+	 *             if <code>maxElements</code> is negative
+	 */
+	public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+		appendValues(out, maxElements);
+		return out;
+	}
+
+	/**
+	 * Appends the string representation of the list to the specified
+	 * builder. Clearing and reusing one builder for repeated dumps avoids
+	 * growing a new one each time.
+	 * 
+	 * @param out
+	 *            the builder to append to
+	 * @return the builder
+	 */
+	public StringBuilder appendTo(StringBuilder out) {
+		return appendTo(out, size);
+	}
+
+	/**
+	 * Appends the string representation of at most the first
+	 * <code>maxElements</code> values of the list to the specified builder.
+	 * 
+	 * @param out
+	 *            the builder to append to
+	 * @param maxElements
+	 *            the largest number of values to include
+	 * @return the builder
+	 * @throws IllegalArgumentException
+	 *             if <code>maxElements</code> is negative
+	 */
+	public StringBuilder appendTo(StringBuilder out, int maxElements) {
+		try {
+			appendValues(out, maxElements);
+		} catch (IOException e) {
+			throw new AssertionError(e); // StringBuilder never throws
+		}
+		return out;
+	}
+
+	/**
+	 * Returns an iterator over the values of this list, from first to last.
+	 * The iterator supports {@link Iterator#remove()} and fails fast if the
+	 * list is modified other than through the iterator itself.
+	 * 
+	 * @return an iterator over the values of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new ListItr(0);
+	}
+
+	/**
+	 * Returns a bidirectional iterator over the values of this list, starting
+	 * at the beginning of the list.
+	 * 
+	 * @return a list iterator over the values of this list
+	 * @see #listIterator(int)
+	 */
+	public ListIterator<T> listIterator() {
+		return new ListItr(0);
+	}
+
+	/**
+	 * Returns a bidirectional iterator over the values of this list, starting
+	 * at the specified index. The iterator can remove, replace and add values
+	 * at its cursor in constant time, and fails fast if the list is modified
+	 * other than through the iterator itself. Since the list does not hold
+	 * <code>null</code> values, the iterator's <code>add</code> and
+	 * <code>set</code> methods reject them with a
+	 * {@link NullPointerException}.
+	 * 
+	 * @param index
+	 *            the index of the first value to be returned by
+	 *            {@link ListIterator#next()}
+	 * @return a list iterator over the values of this list
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is negative or greater than the size of the
+	 *             list
+	 */
+	public ListIterator<T> listIterator(int index) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return new ListItr(index);
+	}
+
+	/**
+	 * Returns a spliterator over the values of this list. The spliterator
+	 * binds to the list when it is first used, reports
+	 * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED},
+	 * {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL}, and splits
+	 * its remaining values into two equal halves.
+	 * 
+	 * @return a spliterator over the values of this list
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new NodeSpliterator(null, -1);
+	}
+
+	/**
+	 * Returns a sequential stream over the values of this list.
+	 * 
+	 * @return a sequential stream over this list
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a parallel stream over the values of this list.
+	 * 
+	 * @return a parallel stream over this list
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * Adds a node with the specified value to the beginning of the list and
+	 * returns the node, as a handle for {@link #moveToFront(Node)} and
+	 * {@link #removeNode(Node)}. The value must not be <code>null</code>.
+	 * Handles work on the physical order, so they suit lists that are never
+	 * reversed.
+	 * 
+	 * @param val
+	 *            the value of the node to be added
+	 * @return the new first node of this list
+	 */
+	Node<T> insertFirstNode(T val) {
+		linkFirst(val);
+		return head;
+	}
+
+	/**
+	 * Moves the specified node of this list to the beginning of the list in
+	 * constant time.
+	 * 
+	 * @param node
+	 *            a node of this list
+	 */
+	void moveToFront(Node<T> node) {
+		if (node != head) {
+			node.prev.next = node.next;
+			if (node == tail) {
+				tail = node.prev;
+			} else {
+				node.next.prev = node.prev;
 			}
-			list.append(curr.val).append("]");
-			return list.toString();
+			node.prev = null;
+			node.next = head;
+			head.prev = node;
+			head = node;
+			modCount++;
+			forgetPositions();
 		}
-		return "[]";
 	}
-	
+
+	/**
+	 * Removes the specified node of this list in constant time and returns
+	 * its value.
+	 * 
+	 * @param node
+	 *            a node of this list
+	 * @return the value of the removed node
+	 */
+	T removeNode(Node<T> node) {
+		// The node's index is unknown, so remembered positions cannot be adjusted.
+		forgetPositions();
+		return unlink(-1, node);
+	}
+
+	/**
+	 * Writes the opening bracket, the first maxElements values, a count of any
+	 * values left out and the closing bracket.
+	 */
+	private void appendValues(Appendable out, int maxElements) throws IOException {
+		if (maxElements < 0) {
+			throw new IllegalArgumentException("Element limit must not be negative: " + maxElements);
+		}
+		int count = Math.min(size, maxElements);
+		out.append('[');
+		Node<T> curr = first();
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			appendValue(out, curr.val);
+			curr = succ(curr);
+		}
+		if (count < size) {
+			out.append(count > 0 ? ", ... (" : "... (").append(Integer.toString(size - count)).append(" more)");
+		}
+		out.append(']');
+	}
+
+	/**
+	 * Appends one value. Boxed integers are appended to a builder as
+	 * primitives, which formats them in place instead of through a
+	 * temporary string.
+	 */
+	private static void appendValue(Appendable out, Object val) throws IOException {
+		if (out instanceof StringBuilder) {
+			StringBuilder sb = (StringBuilder) out;
+			if (val instanceof Integer) {
+				sb.append(((Integer) val).intValue());
+			} else if (val instanceof Long) {
+				sb.append(((Long) val).longValue());
+			} else {
+				sb.append(val);
+			}
+		} else {
+			out.append(String.valueOf(val));
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the physical end of the
+	 * list, whatever its orientation.
+	 */
+	private void linkLast(T val) {
+		if (val != null) {
+			Node<T> newNode = new Node<>(val);
+			if (isEmpty()) {
+				head = newNode;
+				tail = newNode;
+				size++;
+				modCount++;
+			} else {
+				tail.next = newNode;
+				newNode.prev = tail;
+				tail = newNode;
+				size++;
+				modCount++;
+			}
+			afterLink(size - 1);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value to the physical beginning of the
+	 * list, whatever its orientation.
+	 */
+	private void linkFirst(T val) {
+		if (val != null) {
+			Node<T> newNode = new Node<>(val);
+			if (isEmpty()) {
+				head = newNode;
+				tail = newNode;
+				size++;
+				modCount++;
+			} else {
+				head.prev = newNode;
+				newNode.next = head;
+				head = newNode;
+				size++;
+				modCount++;
+			}
+			afterLink(0);
+		}
+	}
+
+	/**
+	 * Removes the physically first node with the specified value and returns
+	 * its value, or <code>null</code> if there is none.
+	 */
+	private T unlinkFirstOccurrence(T val) {
+		if (!isEmpty() && val != null) {
+			if (head.val.equals(val)) {
+				scanned = 1;
+				return unlinkFirst();
+			}
+			Node<T> curr = head;
+			int index = 0;
+			while (!curr.val.equals(val)) {
+				curr = curr.next;
+				index++;
+				if (curr == null) {
+					scanned = index;
+					return null;
+				}
+			}
+			scanned = index + 1;
+			if (curr == tail) {
+				return unlinkLast();
+			}
+			beforeUnlink(index, curr);
+			curr.next.prev = curr.prev;
+			curr.prev.next = curr.next;
+			size--;
+			modCount++;
+			return release(curr);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the physically last node with the specified value and returns
+	 * its value, or <code>null</code> if there is none.
+	 */
+	private T unlinkLastOccurrence(T val) {
+		if (!isEmpty()) {
+			if (tail.val.equals(val)) {
+				scanned = 1;
+				return unlinkLast(); 
+			}
+			Node<T> curr = tail; 
+			int index = size - 1;
+			while (!curr.val.equals(val)) {
+				curr = curr.prev; 
+				index--;
+				if (curr == null) {
+					scanned = size;
+					return null; 
+				}
+			}
+			scanned = size - index;
+			if (curr == head) {
+				return unlinkFirst();
+			} else {
+				beforeUnlink(index, curr);
+				curr.next.prev = curr.prev;
+				curr.prev.next = curr.next;
+				size--;
+				modCount++;
+				return release(curr); 
+			}
+		}
+		return null; 
+	}
+
+	/**
+	 * Removes the physically first node and returns its value, or
+	 * <code>null</code> if the list is empty.
+	 */
+	private T unlinkFirst() {
+		if (!isEmpty()) {
+			beforeUnlink(0, head);
+			Node<T> first = head;
+			head = first.next;
+			if (head == null) {
+				tail = null;
+			} else {
+				head.prev = null;
+			}
+			size--;
+			modCount++;
+			return release(first);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the physically last node and returns its value, or
+	 * <code>null</code> if the list is empty.
+	 */
+	private T unlinkLast() {
+		if (!isEmpty()) {
+			if (tail.prev == null) {
+				return unlinkFirst();
+			}
+			beforeUnlink(size - 1, tail);
+			Node<T> last = tail;
+			tail = last.prev;
+			tail.next = null;
+			size--;
+			modCount++;
+			return release(last);
+		}
+		return null;
+	}
+
+	/**
+	 * Adds a node with the specified value at the specified physical index,
+	 * if it is valid.
+	 */
+	private void linkAt(int index, T val) {
+		if (val != null && index >= 0 && index <= size) {
+			if (index == 0) {
+				linkFirst(val);
+			} else if (index == size) {
+				linkLast(val);
+			} else {
+				Node<T> curr = node(index);
+				Node<T> newNode = new Node<>(val);
+				curr.prev.next = newNode;
+				newNode.prev = curr.prev;
+				newNode.next = curr;
+				curr.prev = newNode;
+				size++;
+				modCount++;
+				afterLink(index);
+			}
+		}
+	}
+
+	/**
+	 * Removes the node at the specified physical index and returns its value,
+	 * or <code>null</code> if the index is not valid.
+	 */
+	private T unlinkAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		if (index == 0) {
+			return unlinkFirst();
+		}
+		if (index == size - 1) {
+			return unlinkLast();
+		}
+		Node<T> curr = node(index);
+		beforeUnlink(index, curr);
+		curr.next.prev = curr.prev;
+		curr.prev.next = curr.next;
+		size--;
+		modCount++;
+		return release(curr);
+	}
+
+	/**
+	 * Starts recording a scan and returns its start time.
+	 */
+	private long startScan() {
+		scanned = 0;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Returns the first node in reading order, or <code>null</code> if the
+	 * list is empty.
+	 */
+	private Node<T> first() {
+		return reversed ? tail : head;
+	}
+
+	/**
+	 * Returns the last node in reading order, or <code>null</code> if the
+	 * list is empty.
+	 */
+	private Node<T> last() {
+		return reversed ? head : tail;
+	}
+
+	/**
+	 * Returns the node after the specified node in reading order.
+	 */
+	private Node<T> succ(Node<T> node) {
+		return reversed ? node.prev : node.next;
+	}
+
+	/**
+	 * Returns the node before the specified node in reading order.
+	 */
+	private Node<T> pred(Node<T> node) {
+		return reversed ? node.next : node.prev;
+	}
+
+	/**
+	 * Converts an index in reading order to a physical index. Invalid
+	 * indices stay invalid.
+	 */
+	private int physical(int index) {
+		return reversed ? size - 1 - index : index;
+	}
+
+	/**
+	 * Returns the node at the specified index, walking from whichever end of
+	 * the list, remembered position or middle node is closest to it, and
+	 * remembers the position of the node returned. The index must be valid.
+	 * 
+	 * @param index
+	 *            the zero-based location of the desired node
+	 * @return the node at the specified index
+	 */
+	private Node<T> node(int index) {
+		Node<T> curr = head;
+		int at = 0;
+		int distance = index;
+		if (size - 1 - index < distance) {
+			curr = tail;
+			at = size - 1;
+			distance = size - 1 - index;
+		}
+		if (cursor != null && Math.abs(index - cursorIndex) < distance) {
+			curr = cursor;
+			at = cursorIndex;
+			distance = Math.abs(index - cursorIndex);
+		}
+		int mid = (size - 1) >> 1;
+		if (middle != null && Math.abs(index - mid) < distance) {
+			curr = middle;
+			at = mid;
+		}
+		scanned = Math.abs(index - at);
+		for (; at < index; at++) {
+			curr = curr.next;
+		}
+		for (; at > index; at--) {
+			curr = curr.prev;
+		}
+		cursor = curr;
+		cursorIndex = index;
+		return curr;
+	}
+
+	/**
+	 * Adjusts the remembered nodes after a node has been linked at the
+	 * specified index.
+	 */
+	private void afterLink(int index) {
+		if (cursor != null && index <= cursorIndex) {
+			cursorIndex++;
+		}
+		if (size == 1) {
+			middle = head;
+		} else if (middle != null) {
+			int mid = (size - 2) >> 1;
+			stepMiddle(index <= mid ? mid + 1 : mid, (size - 1) >> 1);
+		}
+	}
+
+	/**
+	 * Adjusts the remembered nodes before the specified node, at the specified
+	 * index, is unlinked. The size of the list must not have changed yet.
+	 */
+	private void beforeUnlink(int index, Node<T> node) {
+		if (cursor == node) {
+			cursor = null;
+		} else if (cursor != null && index < cursorIndex) {
+			cursorIndex--;
+		}
+		if (middle != null) {
+			int mid = (size - 1) >> 1;
+			int target = (size - 2) >> 1;
+			if (size == 1) {
+				middle = null;
+			} else if (node == middle) {
+				middle = mid == target ? middle.next : middle.prev;
+			} else {
+				stepMiddle(index < mid ? mid - 1 : mid, target);
+			}
+		}
+	}
+
+	/**
+	 * Moves the middle node, which is at the specified index, one step towards
+	 * the specified target index if it is not already there.
+	 */
+	private void stepMiddle(int index, int target) {
+		if (index > target) {
+			middle = middle.prev;
+		} else if (index < target) {
+			middle = middle.next;
+		}
+	}
+
+	private void forgetPositions() {
+		middle = null;
+		cursor = null;
+	}
+
+	private boolean useParallel() {
+		return size >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1;
+	}
+
+	/**
+	 * Returns the first node of every segment of the list. The index is built
+	 * with a single walk and kept until the next structural modification.
+	 */
+	private Node<T>[] splitPoints() {
+		if (splits == null || splitsModCount != modCount) {
+			int segments = ForkJoinPool.getCommonPoolParallelism() * SEGMENTS_PER_THREAD;
+			int length = Math.max(MIN_SEGMENT_LENGTH, (size + segments - 1) / segments);
+			@SuppressWarnings("unchecked")
+			Node<T>[] starts = (Node<T>[]) new Node<?>[(size + length - 1) / length];
+			Node<T> curr = head;
+			for (int i = 0; i < size; i++) {
+				if (i % length == 0) {
+					starts[i / length] = curr;
+				}
+				curr = curr.next;
+			}
+			splits = starts;
+			splitLength = length;
+			splitsModCount = modCount;
+		}
+		return splits;
+	}
+
+	private int segmentLength(int segment) {
+		return Math.min(splitLength, size - segment * splitLength);
+	}
+
+	private static void forEachSegment(int segments, IntConsumer body) {
+		ForkJoinPool.commonPool().invoke(new SegmentTask(body, 0, segments));
+	}
+
+	/**
+	 * Runs a body once for every segment in a range, halving the range until
+	 * a single segment remains.
+	 */
+	private static class SegmentTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IntConsumer body;
+		private final int lo;
+		private final int hi;
+
+		SegmentTask(IntConsumer body, int lo, int hi) {
+			this.body = body;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo == 1) {
+				body.accept(lo);
+			} else {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new SegmentTask(body, lo, mid), new SegmentTask(body, mid, hi));
+			}
+		}
+	}
+
+	/**
+	 * Returns the specified comparator, or one that applies the natural
+	 * ordering of the values if it is <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Comparator<? super T> comparator(Comparator<? super T> c) {
+		return c != null ? c : (a, b) -> ((Comparable<? super T>) a).compareTo(b);
+	}
+
+	/**
+	 * Sorts the run of nodes starting at <b>first</b> and ending with a
+	 * <code>null</code> forward link. Nodes are taken off the run one at a
+	 * time and merged into a fixed set of pending sorted runs, where slot
+	 * <i>i</i> holds 2<sup><i>i</i></sup> nodes, like carries in a binary
+	 * counter. Each node is visited once per level and small merges happen
+	 * while their nodes are still in cache. Only the forward links are
+	 * changed.
+	 * 
+	 * @return the first node of the sorted run
+	 */
+	private static <T> Node<T> sortRun(Node<T> first, Comparator<? super T> c) {
+		@SuppressWarnings("unchecked")
+		Node<T>[] pending = (Node<T>[]) new Node<?>[Integer.SIZE];
+		Node<T> rest = first;
+		while (rest != null) {
+			Node<T> run = rest;
+			rest = rest.next;
+			run.next = null;
+			int i = 0;
+			for (; pending[i] != null; i++) {
+				// Pending runs hold earlier nodes, so they go first to keep the sort stable.
+				run = merge(pending[i], run, c);
+				pending[i] = null;
+			}
+			pending[i] = run;
+		}
+		Node<T> sorted = null;
+		for (Node<T> run : pending) {
+			if (run != null) {
+				sorted = sorted == null ? run : merge(run, sorted, c);
+			}
+		}
+		return sorted;
+	}
+
+	/**
+	 * Merges two sorted runs into one, taking nodes from <b>a</b> first when
+	 * values compare equal. Only the forward links are changed.
+	 * 
+	 * @return the first node of the merged run
+	 */
+	private static <T> Node<T> merge(Node<T> a, Node<T> b, Comparator<? super T> c) {
+		Node<T> first = null;
+		Node<T> last = null;
+		while (a != null && b != null) {
+			Node<T> e;
+			if (c.compare(a.val, b.val) <= 0) {
+				e = a;
+				a = a.next;
+			} else {
+				e = b;
+				b = b.next;
+			}
+			if (last == null) {
+				first = e;
+			} else {
+				last.next = e;
+			}
+			last = e;
+		}
+		Node<T> rest = a != null ? a : b;
+		if (last == null) {
+			return rest;
+		}
+		last.next = rest;
+		return first;
+	}
+
+	/**
+	 * Makes the run of nodes starting at <b>first</b> the whole list, setting
+	 * the backward links, the head and the tail in a single pass.
+	 */
+	private void relink(Node<T> first) {
+		Node<T> prev = null;
+		for (Node<T> curr = first; curr != null; curr = curr.next) {
+			curr.prev = prev;
+			prev = curr;
+		}
+		head = first;
+		tail = prev;
+		modCount++;
+		forgetPositions();
+	}
+
+	/**
+	 * Rebuilds the forward links from the backward ones, undoing a sort that
+	 * was cut short.
+	 */
+	private void restoreLinks() {
+		tail.next = null;
+		for (Node<T> curr = tail; curr != head; curr = curr.prev) {
+			curr.prev.next = curr;
+		}
+	}
+
+	/**
+	 * Chains new nodes with the non-<code>null</code> values of the specified
+	 * iterable, without linking them to the list.
+	 */
+	private Chain<T> chain(Iterable<? extends T> values) {
+		Chain<T> chain = new Chain<>();
+		for (T val : values) {
+			if (val != null) {
+				Node<T> newNode = new Node<>(val);
+				if (chain.last == null) {
+					chain.first = newNode;
+				} else {
+					chain.last.next = newNode;
+					newNode.prev = chain.last;
+				}
+				chain.last = newNode;
+				chain.size++;
+			}
+		}
+		return chain;
+	}
+
+	/**
+	 * Links the specified chain after the specified node, or at the beginning
+	 * of the list if it is <code>null</code> or the list is empty.
+	 */
+	private void linkAfter(Node<T> pred, Chain<T> chain) {
+		if (chain.size == 0) {
+			return;
+		}
+		if (isEmpty()) {
+			pred = null;
+		}
+		Node<T> succ = pred == null ? (isEmpty() ? null : head) : pred.next;
+		chain.first.prev = pred;
+		chain.last.next = succ;
+		if (pred == null) {
+			head = chain.first;
+		} else {
+			pred.next = chain.first;
+		}
+		if (succ == null) {
+			tail = chain.last;
+		} else {
+			succ.prev = chain.last;
+		}
+		size += chain.size;
+		modCount++;
+		forgetPositions();
+	}
+
+	/**
+	 * Links the specified chain, built in reading order, at the end of the
+	 * list as it is read if <b>atEnd</b> is <code>true</code>, or at its
+	 * beginning otherwise. On a reversed list the chain is turned around
+	 * first, in time linear in its own length.
+	 */
+	private void linkAtEnd(Chain<T> chain, boolean atEnd) {
+		if (reversed) {
+			chain.turnAround();
+			atEnd = !atEnd;
+		}
+		linkAfter(atEnd ? tail : null, chain);
+	}
+
+	/**
+	 * Links a new node with the specified value in front of the specified
+	 * node, or at the end of the list if it is <code>null</code>.
+	 * 
+	 * @param index
+	 *            the index of the new node
+	 * @param val
+	 *            the value of the new node
+	 * @param succ
+	 *            the node to link in front of, or <code>null</code>
+	 */
+	private void linkBefore(int index, T val, Node<T> succ) {
+		if (succ == null) {
+			linkLast(val);
+		} else if (succ == head) {
+			linkFirst(val);
+		} else {
+			Node<T> newNode = new Node<>(val);
+			succ.prev.next = newNode;
+			newNode.prev = succ.prev;
+			newNode.next = succ;
+			succ.prev = newNode;
+			size++;
+			modCount++;
+			afterLink(index);
+		}
+	}
+
+	/**
+	 * Clears the links and the value of a node that has just been taken out
+	 * of the list, and returns the value. A removed node that is still
+	 * referenced, whether by a caller or by an older generation of the heap
+	 * awaiting collection, then keeps neither its former neighbours nor its
+	 * value alive.
+	 * 
+	 * @param node
+	 *            the node that was removed
+	 * @return the value the node held
+	 */
+	private static <T> T release(Node<T> node) {
+		T val = node.val;
+		node.next = null;
+		node.prev = null;
+		node.val = null;
+		return val;
+	}
+
+	/**
+	 * Unlinks the specified node from the list and returns its value.
+	 * 
+	 * @param index
+	 *            the index of the node
+	 * @param node
+	 *            the node to remove
+	 * @return the value of the removed node
+	 */
+	private T unlink(int index, Node<T> node) {
+		if (node == head) {
+			return unlinkFirst();
+		}
+		if (node == tail) {
+			return unlinkLast();
+		}
+		beforeUnlink(index, node);
+		node.next.prev = node.prev;
+		node.prev.next = node.next;
+		size--;
+		modCount++;
+		return release(node);
+	}
+
+	/**
+	 * A bidirectional iterator with a cursor between two nodes.
+	 */
+	private class ListItr implements ListIterator<T> {
+		private Node<T> next;
+		private Node<T> lastReturned;
+		private int nextIndex;
+		private int expectedModCount = modCount;
+
+		ListItr(int index) {
+			next = index == size ? null : node(physical(index));
+			nextIndex = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public T next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = succ(next);
+			nextIndex++;
+			return lastReturned.val;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public T previous() {
+			checkForComodification();
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			next = next == null ? last() : pred(next);
+			lastReturned = next;
+			nextIndex--;
+			return lastReturned.val;
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			checkForComodification();
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (lastReturned == next) {
+				// Removing what previous() returned; the cursor keeps its index.
+				next = succ(next);
+			} else {
+				nextIndex--;
+			}
+			unlink(physical(nextIndex), lastReturned);
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(T val) {
+			if (val == null) {
+				throw new NullPointerException();
+			}
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			lastReturned.val = val;
+		}
+
+		@Override
+		public void add(T val) {
+			if (val == null) {
+				throw new NullPointerException();
+			}
+			checkForComodification();
+			lastReturned = null;
+			if (reversed) {
+				// Read backwards, the new node goes physically after the cursor.
+				linkBefore(size - nextIndex, val, next == null ? head : next.next);
+			} else {
+				linkBefore(nextIndex, val, next);
+			}
+			nextIndex++;
+			expectedModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * A spliterator over a run of consecutive nodes. Splitting walks to the
+	 * middle of the run and hands the first half off as a new spliterator.
+	 */
+	private class NodeSpliterator implements Spliterator<T> {
+		private Node<T> curr;
+		private int remaining;
+		private int expectedModCount;
+
+		/**
+		 * Creates a spliterator over <b>count</b> nodes starting at
+		 * <b>first</b>. A negative count defers binding to the whole list
+		 * until the spliterator is first used.
+		 */
+		NodeSpliterator(Node<T> first, int count) {
+			this.curr = first;
+			this.remaining = count;
+			this.expectedModCount = modCount;
+		}
+
+		private int remaining() {
+			if (remaining < 0) {
+				curr = first();
+				remaining = size;
+				expectedModCount = modCount;
+			}
+			return remaining;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int n = remaining();
+			if (n < 2) {
+				return null;
+			}
+			int half = n >>> 1;
+			Node<T> first = curr;
+			for (int i = 0; i < half; i++) {
+				curr = succ(curr);
+			}
+			remaining = n - half;
+			NodeSpliterator prefix = new NodeSpliterator(first, half);
+			prefix.expectedModCount = expectedModCount;
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (remaining() == 0) {
+				return false;
+			}
+			T val = curr.val;
+			curr = succ(curr);
+			remaining--;
+			action.accept(val);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			int n = remaining();
+			Node<T> node = curr;
+			for (int i = 0; i < n && modCount == expectedModCount; i++) {
+				action.accept(node.val);
+				node = succ(node);
+			}
+			curr = node;
+			remaining = 0;
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return remaining();
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+		}
+	}
+
+	/**
+	 * A run of linked nodes that is not yet part of any list.
+	 */
+	private static class Chain<T> {
+		Node<T> first;
+		Node<T> last;
+		int size;
+
+		/**
+		 * Swaps the links of every node in the chain, so that it runs from
+		 * its last node to its first.
+		 */
+		void turnAround() {
+			for (Node<T> curr = first; curr != null;) {
+				Node<T> next = curr.next;
+				curr.next = curr.prev;
+				curr.prev = next;
+				curr = next;
+			}
+			Node<T> temp = first;
+			first = last;
+			last = temp;
+		}
+	}
+
 	/**
-	 * Represents a doubly-linked list node.
+	 * Represents a doubly-linked list node. Classes in this package may hold
+	 * on to nodes as handles, but only this class changes their links.
 	 */
-	private static class Node<T> {
+	static class Node<T> {
 		/**
 		 * The node following this node.
 		 */
@@ -0,0 +1,425 @@
+/*
+ * File: ListMetrics.java
+ */
+package aghannam.list;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Records how often the scanning operations of a {@link LinkedList} run, how
+ * long they take and how many nodes they walk past. Instrumentation is opt-in:
+ * a list records nothing until it is given a metrics instance with
+ * {@link LinkedList#setMetrics(ListMetrics)}, and until then each scanning
+ * operation pays for a single <code>null</code> check.
+ * <p>
+ * For every operation, the number of nodes traversed is also kept as a
+ * histogram with power-of-two buckets: bucket 0 counts calls that walked no
+ * nodes, and bucket <i>k</i> counts calls that walked at least
+ * 2<sup><i>k</i>-1</sup> and fewer than 2<sup><i>k</i></sup> nodes. One
+ * instance may be shared by several lists, including lists used by different
+ * threads. It can be published through JMX with {@link #register(String)},
+ * and while a JDK Flight Recorder recording is running, every recorded call
+ * is also emitted as an <code>aghannam.list.Scan</code> event.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class ListMetrics implements ListMetricsMXBean {
+
+	/**
+	 * The operations of {@link LinkedList} that walk the list and are
+	 * therefore recorded.
+	 */
+	public enum Operation {
+		/** {@link LinkedList#contains(Object)} */
+		CONTAINS,
+		/** {@link LinkedList#remove(Object)} */
+		REMOVE,
+		/** {@link LinkedList#removeLastOccurrence(Object)} */
+		REMOVE_LAST_OCCURRENCE,
+		/** {@link LinkedList#insertBefore(Object, Object)} */
+		INSERT_BEFORE,
+		/** {@link LinkedList#insertAfter(Object, Object)} */
+		INSERT_AFTER,
+		/** {@link LinkedList#getAt(int)} */
+		GET_AT,
+		/** {@link LinkedList#setAt(int, Object)} */
+		SET_AT,
+		/** {@link LinkedList#insertAt(int, Object)} */
+		INSERT_AT,
+		/** {@link LinkedList#removeAt(int)} */
+		REMOVE_AT
+	}
+
+	/**
+	 * The number of buckets in each histogram of nodes traversed.
+	 */
+	public static final int BUCKETS = Integer.SIZE + 1;
+
+	/*
+	 * Whether the flight recorder API is present, so that JVMs without it
+	 * never load ScanEvent.
+	 */
+	private static final boolean FLIGHT_RECORDER = hasFlightRecorder();
+
+	private final Stats[] stats = new Stats[Operation.values().length];
+
+	private ObjectName objectName;
+
+	/**
+	 * Constructs a new metrics instance with nothing recorded.
+	 */
+	public ListMetrics() {
+		for (int i = 0; i < stats.length; i++) {
+			stats[i] = new Stats();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of what has been recorded for the specified
+	 * operation.
+	 *
+	 * @param operation
+	 *            the operation to look up
+	 * @return the totals and histogram of the operation
+	 */
+	public Snapshot snapshot(Operation operation) {
+		return stats[operation.ordinal()].snapshot(operation);
+	}
+
+	/**
+	 * Returns a snapshot of what has been recorded for every operation, in
+	 * the order in which the operations are declared. The snapshots of
+	 * different operations are taken one after another, so calls recorded in
+	 * the meantime may show up in some of them only.
+	 *
+	 * @return the snapshot of each operation
+	 */
+	public Map<Operation, Snapshot> snapshot() {
+		Map<Operation, Snapshot> snapshots = new EnumMap<>(Operation.class);
+		for (Operation operation : Operation.values()) {
+			snapshots.put(operation, snapshot(operation));
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Discards everything recorded so far.
+	 */
+	@Override
+	public void reset() {
+		for (Stats s : stats) {
+			s.reset();
+		}
+	}
+
+	@Override
+	public Map<String, Long> getCounts() {
+		return attribute(Snapshot::getCount);
+	}
+
+	@Override
+	public Map<String, Long> getMeanNanos() {
+		return attribute(s -> s.getTotalNanos() / s.getCount());
+	}
+
+	@Override
+	public Map<String, Long> getMaxNanos() {
+		return attribute(Snapshot::getMaxNanos);
+	}
+
+	@Override
+	public Map<String, Long> getNodesTraversed() {
+		return attribute(Snapshot::getNodesTraversed);
+	}
+
+	@Override
+	public Map<String, Long> getMaxNodesTraversed() {
+		return attribute(Snapshot::getMaxNodesTraversed);
+	}
+
+	/**
+	 * Registers this instance with the platform MBean server under the name
+	 * <code>aghannam.list:type=ListMetrics,name=</code><i>name</i>, replacing
+	 * any earlier registration of this instance.
+	 *
+	 * @param name
+	 *            the value of the <code>name</code> key of the object name
+	 * @return the object name this instance was registered under
+	 * @throws IllegalStateException
+	 *             if another MBean is already registered under the name
+	 */
+	public synchronized ObjectName register(String name) {
+		unregister();
+		try {
+			ObjectName on = new ObjectName("aghannam.list:type=ListMetrics,name=" + ObjectName.quote(name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+			objectName = on;
+			return on;
+		} catch (JMException e) {
+			throw new IllegalStateException("Cannot register list metrics as " + name, e);
+		}
+	}
+
+	/**
+	 * Removes this instance from the platform MBean server, if it is
+	 * registered.
+	 */
+	public synchronized void unregister() {
+		if (objectName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+			} catch (JMException e) {
+				// Already unregistered through the server itself.
+			}
+			objectName = null;
+		}
+	}
+
+	/**
+	 * Returns a string representation of the metrics, listing the call count
+	 * of every operation recorded at least once.
+	 *
+	 * @return a string representation of these metrics
+	 */
+	@Override
+	public String toString() {
+		return getCounts().toString();
+	}
+
+	/**
+	 * Records one call of the specified operation, which started at the
+	 * specified {@link System#nanoTime()} and walked past the specified number
+	 * of nodes of a list of the specified size.
+	 */
+	void record(Operation operation, long start, int nodesTraversed, int size) {
+		long nanos = System.nanoTime() - start;
+		stats[operation.ordinal()].record(nanos, nodesTraversed);
+		if (FLIGHT_RECORDER) {
+			ScanEvent.emit(operation, nodesTraversed, size, nanos);
+		}
+	}
+
+	/**
+	 * Returns the histogram bucket for the specified number of nodes.
+	 */
+	static int bucket(int nodesTraversed) {
+		return Integer.SIZE - Integer.numberOfLeadingZeros(nodesTraversed);
+	}
+
+	/**
+	 * Maps the name of every operation recorded at least once to the
+	 * specified value of its snapshot.
+	 */
+	private Map<String, Long> attribute(ToLongFunction<Snapshot> value) {
+		Map<String, Long> values = new TreeMap<>();
+		for (Snapshot s : snapshot().values()) {
+			if (s.getCount() > 0) {
+				values.put(s.getOperation().name(), value.applyAsLong(s));
+			}
+		}
+		return Collections.unmodifiableMap(values);
+	}
+
+	private static boolean hasFlightRecorder() {
+		try {
+			Class.forName("jdk.jfr.Event", false, ListMetrics.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Holds the running totals of one operation.
+	 */
+	private static class Stats {
+		final LongAdder count = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		final LongAdder nodes = new LongAdder();
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		final LongAccumulator maxNodes = new LongAccumulator(Math::max, 0);
+		final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+		Stats() {
+			for (int i = 0; i < BUCKETS; i++) {
+				histogram[i] = new LongAdder();
+			}
+		}
+
+		void record(long nanos, int nodesTraversed) {
+			count.increment();
+			this.nanos.add(nanos);
+			nodes.add(nodesTraversed);
+			maxNanos.accumulate(nanos);
+			maxNodes.accumulate(nodesTraversed);
+			histogram[bucket(nodesTraversed)].increment();
+		}
+
+		Snapshot snapshot(Operation operation) {
+			long[] buckets = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = histogram[i].sum();
+			}
+			return new Snapshot(operation, count.sum(), nanos.sum(), maxNanos.get(), nodes.sum(), maxNodes.get(),
+					buckets);
+		}
+
+		void reset() {
+			count.reset();
+			nanos.reset();
+			nodes.reset();
+			maxNanos.reset();
+			maxNodes.reset();
+			for (LongAdder bucket : histogram) {
+				bucket.reset();
+			}
+		}
+	}
+
+	/**
+	 * Represents what had been recorded for one operation when the snapshot
+	 * was taken. The totals are read one after another while calls may still
+	 * be recorded, so they can be off by the calls recorded in the meantime.
+	 */
+	public static final class Snapshot {
+		private final Operation operation;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final long nodesTraversed;
+		private final long maxNodesTraversed;
+		private final long[] histogram;
+
+		Snapshot(Operation operation, long count, long totalNanos, long maxNanos, long nodesTraversed,
+				long maxNodesTraversed, long[] histogram) {
+			this.operation = operation;
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.nodesTraversed = nodesTraversed;
+			this.maxNodesTraversed = maxNodesTraversed;
+			this.histogram = histogram;
+		}
+
+		/**
+		 * Returns the operation this snapshot belongs to.
+		 *
+		 * @return the recorded operation
+		 */
+		public Operation getOperation() {
+			return operation;
+		}
+
+		/**
+		 * Returns the number of calls recorded.
+		 *
+		 * @return the call count
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the time, in nanoseconds, that all recorded calls took
+		 * together.
+		 *
+		 * @return the total latency
+		 */
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		/**
+		 * Returns the longest time, in nanoseconds, that a single call took.
+		 *
+		 * @return the maximum latency
+		 */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+		 * Returns the number of nodes that all recorded calls walked past
+		 * together.
+		 *
+		 * @return the total number of nodes traversed
+		 */
+		public long getNodesTraversed() {
+			return nodesTraversed;
+		}
+
+		/**
+		 * Returns the largest number of nodes that a single call walked past.
+		 *
+		 * @return the longest scan
+		 */
+		public long getMaxNodesTraversed() {
+			return maxNodesTraversed;
+		}
+
+		/**
+		 * Returns the histogram of nodes traversed per call, with the buckets
+		 * described in {@link ListMetrics}.
+		 *
+		 * @return a copy of the {@link ListMetrics#BUCKETS} bucket counts
+		 */
+		public long[] getHistogram() {
+			return histogram.clone();
+		}
+
+		/**
+		 * Returns an upper bound on the number of nodes traversed by the
+		 * specified fraction of the recorded calls, read from the histogram:
+		 * the largest count that falls in the bucket reaching that fraction.
+		 * If no calls are recorded, this method returns zero.
+		 *
+		 * @param fraction
+		 *            the fraction of calls, between zero and one
+		 * @return the number of nodes that at least that fraction of calls
+		 *         stayed within
+		 * @throws IllegalArgumentException
+		 *             if <code>fraction</code> is not between zero and one
+		 */
+		public long nodesTraversedAt(double fraction) {
+			if (!(fraction >= 0 && fraction <= 1)) {
+				throw new IllegalArgumentException("Fraction out of range: " + fraction);
+			}
+			long total = 0;
+			for (long c : histogram) {
+				total += c;
+			}
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += histogram[i];
+				if (seen > 0 && seen >= fraction * total) {
+					return i == 0 ? 0 : Math.min((1L << i) - 1, maxNodesTraversed);
+				}
+			}
+			return 0;
+		}
+
+		/**
+		 * Returns a string representation of the snapshot with its count,
+		 * mean latency and mean number of nodes traversed.
+		 *
+		 * @return a string representation of this snapshot
+		 */
+		@Override
+		public String toString() {
+			long n = Math.max(count, 1);
+			return operation + "[count=" + count + ", meanNanos=" + totalNanos / n + ", meanNodes=" + nodesTraversed / n
+					+ ", maxNodes=" + maxNodesTraversed + "]";
+		}
+	}
+}
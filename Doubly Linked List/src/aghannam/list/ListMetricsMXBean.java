@@ -0,0 +1,60 @@
+/*
+ * File: ListMetricsMXBean.java
+ */
+package aghannam.list;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link ListMetrics}, through which JMX clients
+ * such as JConsole can read the totals recorded for each scanning operation.
+ * Every map is keyed by the name of a {@link ListMetrics.Operation} and holds
+ * an entry for each operation recorded at least once.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public interface ListMetricsMXBean {
+
+	/**
+	 * Returns the number of calls recorded for each operation.
+	 *
+	 * @return the call count of each operation
+	 */
+	Map<String, Long> getCounts();
+
+	/**
+	 * Returns the mean time, in nanoseconds, that each operation took.
+	 *
+	 * @return the mean latency of each operation
+	 */
+	Map<String, Long> getMeanNanos();
+
+	/**
+	 * Returns the longest time, in nanoseconds, that a single call of each
+	 * operation took.
+	 *
+	 * @return the maximum latency of each operation
+	 */
+	Map<String, Long> getMaxNanos();
+
+	/**
+	 * Returns the total number of nodes that each operation walked past.
+	 *
+	 * @return the nodes traversed by each operation
+	 */
+	Map<String, Long> getNodesTraversed();
+
+	/**
+	 * Returns the largest number of nodes that a single call of each
+	 * operation walked past.
+	 *
+	 * @return the longest scan of each operation
+	 */
+	Map<String, Long> getMaxNodesTraversed();
+
+	/**
+	 * Discards everything recorded so far.
+	 */
+	void reset();
+}
@@ -0,0 +1,201 @@
+/*
+ * File: ListSerializer.java
+ */
+package aghannam.list;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves a {@link LinkedList} to a channel in a compact binary format and
+ * loads it back. Values are encoded by a {@link Codec} and pass through a
+ * single direct buffer of a fixed size, which is written out whenever it
+ * fills up. Saving or loading a list therefore takes a constant amount of
+ * memory beyond the list itself, however long the list is.
+ * <p>
+ * The format starts with a header of four big-endian fields: the magic number
+ * {@link #MAGIC}, the format {@link #VERSION}, the width of an encoded value
+ * and the number of values, as a <code>long</code>. The encoded values follow
+ * in list order, with nothing between them.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public final class ListSerializer {
+
+	/**
+	 * The first four bytes of every serialized list, "DLLS" in ASCII.
+	 */
+	public static final int MAGIC = 0x444C4C53;
+
+	/**
+	 * The version of the format written by this class.
+	 */
+	public static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * Writes the header and every value of the specified list to the
+	 * specified channel. The channel is left open.
+	 *
+	 * @param list
+	 *            the list to save
+	 * @param codec
+	 *            the codec that encodes values of the list
+	 * @param out
+	 *            the channel to write to
+	 * @throws IOException
+	 *             if the channel cannot be written to
+	 */
+	public static <T> void write(LinkedList<T> list, Codec<T> codec, WritableByteChannel out) throws IOException {
+		int width = codec.size();
+		ByteBuffer buf = ByteBuffer.allocateDirect(capacity(width));
+		buf.putInt(MAGIC).putInt(VERSION).putInt(width).putLong(list.size());
+		for (T val : list) {
+			if (buf.remaining() < width) {
+				drain(buf, out);
+			}
+			codec.encode(val, buf, buf.position());
+			((Buffer) buf).position(buf.position() + width);
+		}
+		drain(buf, out);
+	}
+
+	/**
+	 * Reads a list written by {@link #write(LinkedList, Codec, WritableByteChannel)}
+	 * from the specified channel. Values are linked into the new list as soon
+	 * as they are decoded. The channel is left open, positioned after the
+	 * last value.
+	 *
+	 * @param codec
+	 *            the codec that decodes values of the list
+	 * @param in
+	 *            the channel to read from
+	 * @return a new list with the values read
+	 * @throws StreamCorruptedException
+	 *             if the header does not describe a list of values of the
+	 *             codec's width in a supported format
+	 * @throws EOFException
+	 *             if the channel ends before the last value
+	 * @throws IOException
+	 *             if the channel cannot be read from
+	 */
+	public static <T> LinkedList<T> read(Codec<T> codec, ReadableByteChannel in) throws IOException {
+		int width = codec.size();
+		ByteBuffer buf = ByteBuffer.allocateDirect(capacity(width));
+		((Buffer) buf).limit(HEADER_SIZE);
+		fill(buf, in);
+		((Buffer) buf).flip();
+		if (buf.getInt() != MAGIC) {
+			throw new StreamCorruptedException("Not a serialized list");
+		}
+		int version = buf.getInt();
+		if (version != VERSION) {
+			throw new StreamCorruptedException("Unsupported format version " + version);
+		}
+		int stored = buf.getInt();
+		if (stored != width) {
+			throw new StreamCorruptedException("Values are " + stored + " bytes wide, codec expects " + width);
+		}
+		long count = buf.getLong();
+		if (count < 0 || count > Integer.MAX_VALUE) {
+			throw new StreamCorruptedException("Invalid value count " + count);
+		}
+
+		LinkedList<T> list = new LinkedList<>();
+		int records = buf.capacity() / width;
+		for (long left = count; left > 0;) {
+			int batch = (int) Math.min(records, left);
+			((Buffer) buf).clear();
+			((Buffer) buf).limit(batch * width);
+			fill(buf, in);
+			for (int i = 0; i < batch; i++) {
+				list.insert(codec.decode(buf, i * width));
+			}
+			left -= batch;
+		}
+		return list;
+	}
+
+	/**
+	 * Saves the specified list to the file at the specified path, replacing
+	 * any existing file.
+	 *
+	 * @param list
+	 *            the list to save
+	 * @param codec
+	 *            the codec that encodes values of the list
+	 * @param path
+	 *            the file to write
+	 * @throws IOException
+	 *             if the file cannot be written
+	 */
+	public static <T> void save(LinkedList<T> list, Codec<T> codec, Path path) throws IOException {
+		try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			write(list, codec, out);
+		}
+	}
+
+	/**
+	 * Loads a list from the file at the specified path.
+	 *
+	 * @param codec
+	 *            the codec that decodes values of the list
+	 * @param path
+	 *            the file to read
+	 * @return a new list with the values read
+	 * @throws IOException
+	 *             if the file cannot be read or does not hold a list of
+	 *             values of the codec's width
+	 */
+	public static <T> LinkedList<T> load(Codec<T> codec, Path path) throws IOException {
+		try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+			return read(codec, in);
+		}
+	}
+
+	/**
+	 * Returns the size of a buffer that holds the header and a whole number
+	 * of values of the specified width.
+	 */
+	private static int capacity(int width) {
+		return Math.max(HEADER_SIZE, Math.max(width, CHUNK_SIZE / width * width));
+	}
+
+	/**
+	 * Writes the contents of the buffer to the channel and clears it.
+	 */
+	private static void drain(ByteBuffer buf, WritableByteChannel out) throws IOException {
+		((Buffer) buf).flip();
+		while (buf.hasRemaining()) {
+			out.write(buf);
+		}
+		((Buffer) buf).clear();
+	}
+
+	/**
+	 * Reads from the channel until the buffer is full up to its limit.
+	 */
+	private static void fill(ByteBuffer buf, ReadableByteChannel in) throws IOException {
+		while (buf.hasRemaining()) {
+			if (in.read(buf) < 0) {
+				throw new EOFException("Stream ended " + buf.remaining() + " bytes early");
+			}
+		}
+	}
+
+	private ListSerializer() {
+		/* Static methods only */
+	}
+}
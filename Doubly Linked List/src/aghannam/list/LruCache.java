@@ -0,0 +1,329 @@
+/*
+ * File: LruCache.java
+ */
+package aghannam.list;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Implements a bounded cache that evicts its least recently used entries.
+ * Recency is kept in a {@link LinkedList}, most recently used first, and a
+ * hash map leads from each key straight to its node in that list. Looking up,
+ * adding, refreshing and evicting an entry therefore all run in <i>O(1)</i>
+ * expected time, where a list on its own would have to scan for the entry
+ * before moving it to the front.
+ * <p>
+ * The cache holds at most a maximum number of entries and, if a weigher is
+ * given, at most a maximum total weight. Whenever an insertion takes it over
+ * either bound, entries are evicted from the least recently used end until it
+ * is within both again, and the eviction listener, if any, is told about each
+ * of them. The cache counts the hits and misses of {@link #get(Object)}.
+ * <code>null</code> keys and values are ignored. The cache is not
+ * thread-safe.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class LruCache<K, V> {
+	private final LinkedList<Entry<K, V>> order = new LinkedList<>();
+	private final Map<K, LinkedList.Node<Entry<K, V>>> index = new HashMap<>();
+
+	private final int maxSize;
+	private final long maxWeight;
+	private final ToLongBiFunction<? super K, ? super V> weigher;
+	private BiConsumer<? super K, ? super V> evictionListener;
+
+	private long weight = 0;
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * Constructs a new cache that holds at most the specified number of
+	 * entries.
+	 *
+	 * @param maxSize
+	 *            the largest number of entries to keep
+	 * @throws IllegalArgumentException
+	 *             if <code>maxSize</code> is less than one
+	 */
+	public LruCache(int maxSize) {
+		this(maxSize, Long.MAX_VALUE, (k, v) -> 0);
+	}
+
+	/**
+	 * Constructs a new cache that holds at most the specified number of
+	 * entries, whose weights, as given by the specified weigher, add up to at
+	 * most the specified maximum weight. The weight of an entry is computed
+	 * once, when it is added.
+	 *
+	 * @param maxSize
+	 *            the largest number of entries to keep
+	 * @param maxWeight
+	 *            the largest total weight of the entries to keep
+	 * @param weigher
+	 *            the function that returns the non-negative weight of an entry
+	 * @throws IllegalArgumentException
+	 *             if <code>maxSize</code> or <code>maxWeight</code> is less than
+	 *             one
+	 * @throws NullPointerException
+	 *             if <code>weigher</code> is <code>null</code>
+	 */
+	public LruCache(int maxSize, long maxWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+		}
+		if (maxWeight < 1) {
+			throw new IllegalArgumentException("Maximum weight must be positive: " + maxWeight);
+		}
+		if (weigher == null) {
+			throw new NullPointerException("weigher");
+		}
+		this.maxSize = maxSize;
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+	}
+
+	/**
+	 * Sets the listener that is told about every entry the cache evicts to
+	 * stay within its bounds. Entries that are removed or replaced explicitly
+	 * are not reported.
+	 *
+	 * @param listener
+	 *            the listener to notify, or <code>null</code> for none
+	 */
+	public void setEvictionListener(BiConsumer<? super K, ? super V> listener) {
+		this.evictionListener = listener;
+	}
+
+	/**
+	 * Returns the value cached for the specified key and marks the entry as
+	 * the most recently used one. If the key is not cached, this method
+	 * returns <code>null</code>.
+	 *
+	 * @param key
+	 *            the key to look up
+	 * @return the value cached for the key
+	 */
+	public V get(K key) {
+		if (key == null) {
+			return null;
+		}
+		LinkedList.Node<Entry<K, V>> node = index.get(key);
+		if (node == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		order.moveToFront(node);
+		return node.val.value;
+	}
+
+	/**
+	 * Caches the specified value for the specified key as the most recently
+	 * used entry, replacing any value already cached for the key, and evicts
+	 * entries if the cache is over its bounds. An entry that is heavier than
+	 * the maximum weight on its own is evicted straight away, without
+	 * disturbing the other entries, and any value previously cached for the
+	 * key is removed.
+	 *
+	 * @param key
+	 *            the key to cache the value for
+	 * @param value
+	 *            the value to cache
+	 * @return the value previously cached for the key, or <code>null</code>
+	 * @throws IllegalArgumentException
+	 *             if the weigher returns a negative weight
+	 */
+	public V put(K key, V value) {
+		if (key == null || value == null) {
+			return null;
+		}
+		long w = weigher.applyAsLong(key, value);
+		if (w < 0) {
+			throw new IllegalArgumentException("Negative weight " + w + " for key " + key);
+		}
+		if (w > maxWeight) {
+			// Caching it would flush every other entry only to evict it next.
+			V previous = remove(key);
+			evicted(key, value);
+			return previous;
+		}
+		V previous = null;
+		LinkedList.Node<Entry<K, V>> node = index.get(key);
+		if (node != null) {
+			Entry<K, V> entry = node.val;
+			previous = entry.value;
+			weight += w - entry.weight;
+			entry.value = value;
+			entry.weight = w;
+			order.moveToFront(node);
+		} else {
+			index.put(key, order.insertFirstNode(new Entry<>(key, value, w)));
+			weight += w;
+		}
+		evict();
+		return previous;
+	}
+
+	/**
+	 * Removes the entry for the specified key and returns its value. If the
+	 * key is not cached, this method returns <code>null</code>.
+	 *
+	 * @param key
+	 *            the key of the entry to remove
+	 * @return the value that was cached for the key
+	 */
+	public V remove(K key) {
+		LinkedList.Node<Entry<K, V>> node = key == null ? null : index.remove(key);
+		if (node == null) {
+			return null;
+		}
+		Entry<K, V> entry = order.removeNode(node);
+		weight -= entry.weight;
+		return entry.value;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if a value is cached for the
+	 * specified key. Unlike {@link #get(Object)}, this neither changes the
+	 * recency of the entry nor counts as a hit or miss.
+	 *
+	 * @param key
+	 *            the key to look up
+	 * @return <code>true</code> if the key is cached, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean containsKey(K key) {
+		return key != null && index.containsKey(key);
+	}
+
+	/**
+	 * Removes every entry without notifying the eviction listener. The hit,
+	 * miss and eviction counts are kept.
+	 */
+	public void clear() {
+		order.clear();
+		index.clear();
+		weight = 0;
+	}
+
+	/**
+	 * Returns the number of entries in the cache.
+	 *
+	 * @return the number of entries currently cached
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	/**
+	 * Returns the total weight of the entries in the cache.
+	 *
+	 * @return the sum of the weights of the cached entries
+	 */
+	public long weight() {
+		return weight;
+	}
+
+	/**
+	 * Returns the largest number of entries the cache keeps.
+	 *
+	 * @return the maximum size of this cache
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the largest total weight of the entries the cache keeps.
+	 *
+	 * @return the maximum weight of this cache
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that found a value.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long hitCount() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that found no value.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long missCount() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of entries evicted to keep the cache within its
+	 * bounds.
+	 *
+	 * @return the number of evictions
+	 */
+	public long evictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * Returns a string representation of the cache, listing its entries from
+	 * the most to the least recently used.
+	 *
+	 * @return a string representation of the current cache
+	 */
+	@Override
+	public String toString() {
+		return order.toString();
+	}
+
+	/**
+	 * Evicts the least recently used entries until the cache is within both
+	 * of its bounds.
+	 */
+	private void evict() {
+		while (index.size() > maxSize || weight > maxWeight) {
+			Entry<K, V> entry = order.removeLast();
+			index.remove(entry.key);
+			weight -= entry.weight;
+			evicted(entry.key, entry.value);
+		}
+	}
+
+	private void evicted(K key, V value) {
+		evictions++;
+		if (evictionListener != null) {
+			evictionListener.accept(key, value);
+		}
+	}
+
+	/**
+	 * Represents a cached key and value, together with the weight the value
+	 * had when it was cached.
+	 */
+	private static class Entry<K, V> {
+		final K key;
+		V value;
+		long weight;
+
+		Entry(K key, V value, long weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+}
@@ -0,0 +1,818 @@
+/*
+ * File: MappedLinkedList.java
+ */
+package aghannam.list;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * Implements a persistent doubly-linked list of fixed-width values whose
+ * nodes live in a memory-mapped file. Every node is a record of two
+ * <code>int</code> links followed by the value, encoded by a {@link Codec},
+ * and the file starts with a small header that holds the ends of the list,
+ * its size and its free list. Opening an existing file maps it and reads the
+ * header, so it takes the same short time however long the list is; records
+ * are mapped in chunks of about a megabyte, or of a single wider record, as
+ * they are first touched.
+ * <p>
+ * A single operation changes several records, and a crash between those
+ * changes would leave the links inconsistent. Every operation is therefore
+ * first appended to a redo log next to the data file, named after it with a
+ * <code>.log</code> suffix, as a checksummed transaction of the bytes it is
+ * about to write. Only then is the transaction applied to the mapped file.
+ * On opening, every complete transaction in the log is applied again, in
+ * order, and a transaction cut short by a crash is discarded, so the list
+ * always comes back in the state of its last complete operation. Every
+ * logged write is a full image of the bytes it covers, so replaying a
+ * transaction that already reached the data file changes nothing; and since
+ * the header and the records are written back independently, the header
+ * alone cannot tell which ones did.
+ * <p>
+ * The log and the mapped file are written through the operating system's
+ * page cache, so a crash of the process loses nothing. To survive a crash of
+ * the machine too, construct the list with <code>syncEachOperation</code>
+ * set, which forces every transaction to disk before it is applied, or call
+ * {@link #checkpoint()} at suitable points. A checkpoint forces the mapped
+ * file to disk and empties the log; one is also taken whenever the log
+ * outgrows {@link #CHECKPOINT_LOG_BYTES}, and when the list is closed.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class MappedLinkedList<T> implements Iterable<T>, AutoCloseable {
+
+	/**
+	 * The size the redo log may reach before a checkpoint empties it.
+	 */
+	public static final long CHECKPOINT_LOG_BYTES = 64L << 20;
+
+	private static final int NIL = -1;
+	private static final int MAGIC = 0x444C4C4D;
+	private static final int VERSION = 1;
+	private static final int TXN_MAGIC = 0x54584E31;
+
+	/*
+	 * Header layout. The fields from HEAD_OFFSET onwards change with every
+	 * operation and are logged together as one write.
+	 */
+	private static final int HEADER_SIZE = 64;
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int RECORD_SIZE_OFFSET = 8;
+	private static final int HEAD_OFFSET = 12;
+	private static final int STATE_SIZE = 5 * Integer.BYTES + Long.BYTES;
+
+	/*
+	 * Record layout, and the number of bytes mapped at a time.
+	 */
+	private static final int NEXT = 0;
+	private static final int PREV = Integer.BYTES;
+	private static final int LINKS = 2 * Integer.BYTES;
+	private static final int CHUNK_BYTES = 1 << 20;
+
+	/*
+	 * A transaction is framed by its magic number, sequence number and body
+	 * length, and followed by a CRC-32 of everything but the magic number.
+	 * Each write in the body is a file offset, a length and the bytes.
+	 */
+	private static final int TXN_HEADER = Integer.BYTES + Long.BYTES + Integer.BYTES;
+	private static final int WRITE_HEADER = Long.BYTES + Integer.BYTES;
+
+	private final Codec<T> codec;
+	private final int recordSize;
+
+	/*
+	 * A record number splits into a chunk index and a record within the
+	 * chunk at chunkShift, chosen from the record width so that a chunk
+	 * stays within CHUNK_BYTES and every offset in it fits an int.
+	 */
+	private final int chunkShift;
+	private final int chunkMask;
+	private final boolean syncEachOperation;
+	private final FileChannel data;
+	private final FileChannel log;
+	private final MappedByteBuffer header;
+	private MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+	private ByteBuffer txn;
+	private long logSize;
+	private boolean closed = false;
+
+	/*
+	 * The header fields, kept in memory and written back by every operation.
+	 */
+	private int head;
+	private int tail;
+	private int size;
+	private int used;
+	private int free;
+	private long seq;
+	private int modCount = 0;
+
+	/**
+	 * Opens the list stored in the specified file, or creates an empty one if
+	 * the file does not exist yet. Transactions are not forced to disk.
+	 *
+	 * @param file
+	 *            the data file of the list
+	 * @param codec
+	 *            the codec that stores values of the list
+	 * @throws IOException
+	 *             if the files cannot be opened, or the data file holds a
+	 *             different kind of list
+	 * @throws IllegalArgumentException
+	 *             if a transaction on records of the codec's width does not
+	 *             fit a single buffer
+	 */
+	public MappedLinkedList(Path file, Codec<T> codec) throws IOException {
+		this(file, codec, false);
+	}
+
+	/**
+	 * Opens the list stored in the specified file, or creates an empty one if
+	 * the file does not exist yet.
+	 *
+	 * @param file
+	 *            the data file of the list
+	 * @param codec
+	 *            the codec that stores values of the list
+	 * @param syncEachOperation
+	 *            whether every operation forces its transaction to disk
+	 *            before returning
+	 * @throws IOException
+	 *             if the files cannot be opened, or the data file holds a
+	 *             different kind of list
+	 * @throws IllegalArgumentException
+	 *             if a transaction on records of the codec's width does not
+	 *             fit a single buffer
+	 */
+	public MappedLinkedList(Path file, Codec<T> codec, boolean syncEachOperation) throws IOException {
+		this.codec = codec;
+		long width = LINKS + (long) codec.size();
+		long txnSize = TXN_HEADER + 4 * (WRITE_HEADER + width) + WRITE_HEADER + STATE_SIZE + Long.BYTES;
+		if (txnSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Records of " + width + " bytes do not fit a transaction");
+		}
+		this.recordSize = (int) width;
+		this.chunkShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, CHUNK_BYTES / recordSize));
+		this.chunkMask = (1 << chunkShift) - 1;
+		this.syncEachOperation = syncEachOperation;
+		this.txn = ByteBuffer.allocate((int) txnSize);
+		this.data = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		FileChannel logChannel = null;
+		try {
+			boolean created = data.size() == 0;
+			header = data.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+			if (created) {
+				header.putInt(MAGIC_OFFSET, MAGIC);
+				header.putInt(VERSION_OFFSET, VERSION);
+				header.putInt(RECORD_SIZE_OFFSET, recordSize);
+				head = NIL;
+				tail = NIL;
+				free = NIL;
+				writeState(header, HEAD_OFFSET);
+				header.force();
+			} else if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+				throw new IOException(file + " does not hold a mapped list");
+			} else if (header.getInt(RECORD_SIZE_OFFSET) != recordSize) {
+				throw new IOException(file + " holds records of " + header.getInt(RECORD_SIZE_OFFSET)
+						+ " bytes, codec needs " + recordSize);
+			}
+			logChannel = FileChannel.open(file.resolveSibling(file.getFileName() + ".log"),
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			log = logChannel;
+			readState();
+			recover();
+		} catch (IOException | RuntimeException e) {
+			data.close();
+			if (logChannel != null) {
+				logChannel.close();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Appends the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			try {
+				int n = allocate(val);
+				logInt(n, NEXT, NIL);
+				logInt(n, PREV, tail);
+				if (isEmpty()) {
+					head = n;
+				} else {
+					logInt(tail, NEXT, n);
+				}
+				tail = n;
+				size++;
+			} catch (RuntimeException | Error e) {
+				abort();
+				throw e;
+			}
+			commit();
+		}
+	}
+
+	/**
+	 * Appends the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			try {
+				int n = allocate(val);
+				logInt(n, NEXT, head);
+				logInt(n, PREV, NIL);
+				if (isEmpty()) {
+					tail = n;
+				} else {
+					logInt(head, PREV, n);
+				}
+				head = n;
+				size++;
+			} catch (RuntimeException | Error e) {
+				abort();
+				throw e;
+			}
+			commit();
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified value and returns it. If
+	 * the value is not found, this method returns <code>null</code>.
+	 *
+	 * @param val
+	 *            the value to remove from the list
+	 * @return the removed value
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public T remove(T val) {
+		if (val != null) {
+			int n = find(val);
+			if (n != NIL) {
+				return unlink(n);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the value at the beginning of the list and returns it. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the removed value
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public T removeFirst() {
+		ensureOpen();
+		return isEmpty() ? null : unlink(head);
+	}
+
+	/**
+	 * Removes the value at the end of the list and returns it. If the list is
+	 * empty, this method returns <code>null</code>.
+	 *
+	 * @return the removed value
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public T removeLast() {
+		ensureOpen();
+		return isEmpty() ? null : unlink(tail);
+	}
+
+	/**
+	 * Replaces the first occurrence of the specified <b>target</b> value with
+	 * the specified <b>replacement</b> value. If the target value is not
+	 * found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value to be updated
+	 * @param replacement
+	 *            the new value
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public void replace(T target, T replacement) {
+		if (target != null && replacement != null) {
+			int n = find(target);
+			if (n != NIL) {
+				try {
+					logValue(n, replacement);
+				} catch (RuntimeException | Error e) {
+					abort();
+					throw e;
+				}
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * Returns the value at the beginning of this list, without removing it.
+	 *
+	 * @return the first value in this list
+	 */
+	public T getFirst() {
+		ensureOpen();
+		return isEmpty() ? null : read(head);
+	}
+
+	/**
+	 * Returns the value at the end of the list, without removing it.
+	 *
+	 * @return the last value in the list
+	 */
+	public T getLast() {
+		ensureOpen();
+		return isEmpty() ? null : read(tail);
+	}
+
+	/**
+	 * Returns the value at the specified index. If the list is empty or the
+	 * specified index is not valid, this method returns <code>null</code>.
+	 * The list is walked from whichever end is closer to the index.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired value in this list
+	 * @return the value at the specified index or location
+	 */
+	public T getAt(int index) {
+		ensureOpen();
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		int curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = link(curr, NEXT);
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = link(curr, PREV);
+			}
+		}
+		return read(curr);
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains the
+	 * specified value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the target value
+	 *         <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return val != null && find(val) != NIL;
+	}
+
+	/**
+	 * Clears the list of all values and resets its size to zero. The file
+	 * keeps its length, and its records are reused by later insertions.
+	 *
+	 * @throws UncheckedIOException
+	 *             if the operation cannot be logged or applied
+	 */
+	public void clear() {
+		ensureOpen();
+		head = NIL;
+		tail = NIL;
+		size = 0;
+		used = 0;
+		free = NIL;
+		commit();
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * @return the number of values currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Forces the mapped file to disk and empties the redo log. After a
+	 * checkpoint, the list survives a crash of the machine in its current
+	 * state.
+	 *
+	 * @throws IOException
+	 *             if the files cannot be forced or the log truncated
+	 */
+	public void checkpoint() throws IOException {
+		ensureOpen();
+		for (MappedByteBuffer chunk : chunks) {
+			chunk.force();
+		}
+		header.force();
+		log.truncate(0);
+		log.force(true);
+		logSize = 0;
+	}
+
+	/**
+	 * Takes a checkpoint and closes the files of this list. Closing a closed
+	 * list has no effect.
+	 *
+	 * @throws IOException
+	 *             if the checkpoint fails or the files cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			try {
+				checkpoint();
+			} finally {
+				closed = true;
+				chunks = new MappedByteBuffer[0];
+				modCount++;
+				try {
+					log.close();
+				} finally {
+					data.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns an iterator over the values of this list, from first to last.
+	 * The iterator fails fast if the list is modified while it is in use.
+	 *
+	 * @return an iterator over the values of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		ensureOpen();
+		return new Iterator<T>() {
+			private int curr = head;
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return curr != NIL;
+			}
+
+			@Override
+			public T next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (curr == NIL) {
+					throw new NoSuchElementException();
+				}
+				T val = read(curr);
+				curr = link(curr, NEXT);
+				return val;
+			}
+		};
+	}
+
+	/**
+	 * Returns a string representation of the list and its values.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (closed) {
+			return "[closed]";
+		}
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			int curr = head;
+			list.append("[");
+			while (curr != tail) {
+				list.append(read(curr)).append(", ");
+				curr = link(curr, NEXT);
+			}
+			list.append(read(curr)).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("List is closed");
+		}
+	}
+
+	private int find(T val) {
+		ensureOpen();
+		for (int curr = head; curr != NIL; curr = link(curr, NEXT)) {
+			if (val.equals(read(curr))) {
+				return curr;
+			}
+		}
+		return NIL;
+	}
+
+	/**
+	 * Takes a record from the free list, or from the end of the used records,
+	 * and logs the write of the specified value into it. The caller logs its
+	 * links.
+	 */
+	private int allocate(T val) {
+		ensureOpen();
+		int n;
+		if (free != NIL) {
+			n = free;
+			free = link(n, NEXT);
+		} else {
+			n = used++;
+		}
+		logValue(n, val);
+		return n;
+	}
+
+	/**
+	 * Logs and applies the writes that unlink the specified record and put
+	 * it on the free list, and returns its value.
+	 */
+	private T unlink(int n) {
+		T removed = read(n);
+		try {
+			int p = link(n, PREV);
+			int s = link(n, NEXT);
+			if (p == NIL) {
+				head = s;
+			} else {
+				logInt(p, NEXT, s);
+			}
+			if (s == NIL) {
+				tail = p;
+			} else {
+				logInt(s, PREV, p);
+			}
+			size--;
+			if (size == 0) {
+				used = 0;
+				free = NIL;
+			} else {
+				logInt(n, NEXT, free);
+				free = n;
+			}
+		} catch (RuntimeException | Error e) {
+			abort();
+			throw e;
+		}
+		commit();
+		return removed;
+	}
+
+	private long offset(int n) {
+		return HEADER_SIZE + (long) n * recordSize;
+	}
+
+	private MappedByteBuffer chunk(int n) {
+		int c = n >>> chunkShift;
+		if (c >= chunks.length) {
+			mapChunks(c + 1);
+		}
+		return chunks[c];
+	}
+
+	private int local(int n) {
+		return (n & chunkMask) * recordSize;
+	}
+
+	private int link(int n, int which) {
+		return chunk(n).getInt(local(n) + which);
+	}
+
+	private T read(int n) {
+		return codec.decode(chunk(n), local(n) + LINKS);
+	}
+
+	private void mapChunks(int count) {
+		MappedByteBuffer[] grown = new MappedByteBuffer[count];
+		System.arraycopy(chunks, 0, grown, 0, chunks.length);
+		try {
+			for (int c = chunks.length; c < count; c++) {
+				long position = offset(c << chunkShift);
+				grown[c] = data.map(FileChannel.MapMode.READ_WRITE, position, (long) recordSize << chunkShift);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		chunks = grown;
+	}
+
+	/*
+	 * Building, logging and applying transactions.
+	 */
+
+	private void logInt(int n, int which, int val) {
+		startWrite(offset(n) + which, Integer.BYTES);
+		txn.putInt(val);
+	}
+
+	private void logValue(int n, T val) {
+		startWrite(offset(n) + LINKS, codec.size());
+		codec.encode(val, txn, txn.position());
+		((Buffer) txn).position(txn.position() + codec.size());
+	}
+
+	private void startWrite(long offset, int length) {
+		if (txn.position() == 0) {
+			((Buffer) txn).position(TXN_HEADER);
+		}
+		txn.putLong(offset).putInt(length);
+	}
+
+	/**
+	 * Drops the transaction being built and restores the header fields from
+	 * the file, which it has not touched, after a failure such as a codec
+	 * throwing before the transaction was committed.
+	 */
+	private void abort() {
+		((Buffer) txn).clear();
+		readState();
+	}
+
+	private void writeState(ByteBuffer buf, int offset) {
+		buf.putInt(offset, head);
+		buf.putInt(offset + 4, tail);
+		buf.putInt(offset + 8, size);
+		buf.putInt(offset + 12, used);
+		buf.putInt(offset + 16, free);
+		buf.putLong(offset + 20, seq);
+	}
+
+	private void readState() {
+		head = header.getInt(HEAD_OFFSET);
+		tail = header.getInt(HEAD_OFFSET + 4);
+		size = header.getInt(HEAD_OFFSET + 8);
+		used = header.getInt(HEAD_OFFSET + 12);
+		free = header.getInt(HEAD_OFFSET + 16);
+		seq = header.getLong(HEAD_OFFSET + 20);
+	}
+
+	/**
+	 * Adds the header fields to the pending transaction, appends it to the
+	 * log and then applies it to the mapped file. If the log cannot be
+	 * written, the header fields are restored from the file, which the
+	 * transaction has not touched.
+	 */
+	private void commit() {
+		seq++;
+		startWrite(HEAD_OFFSET, STATE_SIZE);
+		writeState(txn, txn.position());
+		((Buffer) txn).position(txn.position() + STATE_SIZE);
+
+		int end = txn.position();
+		txn.putInt(0, TXN_MAGIC).putLong(4, seq).putInt(12, end - TXN_HEADER);
+		CRC32 crc = new CRC32();
+		((Buffer) txn).limit(end).position(Integer.BYTES);
+		crc.update(txn);
+		((Buffer) txn).limit(txn.capacity()).position(end);
+		txn.putLong(crc.getValue());
+		((Buffer) txn).flip();
+		long start = logSize;
+		try {
+			while (txn.hasRemaining()) {
+				logSize += log.write(txn, logSize);
+			}
+			if (syncEachOperation) {
+				log.force(false);
+			}
+		} catch (IOException e) {
+			logSize = start;
+			readState();
+			try {
+				log.truncate(start);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw new UncheckedIOException(e);
+		} finally {
+			((Buffer) txn).clear();
+		}
+		apply(txn, TXN_HEADER, end);
+		modCount++;
+		if (logSize > CHECKPOINT_LOG_BYTES) {
+			try {
+				checkpoint();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Copies every write in the transaction body between the specified
+	 * offsets of the buffer to the mapped file.
+	 */
+	private void apply(ByteBuffer body, int from, int to) {
+		int pos = from;
+		while (pos < to) {
+			long offset = body.getLong(pos);
+			int length = body.getInt(pos + Long.BYTES);
+			pos += WRITE_HEADER;
+			ByteBuffer target;
+			int at;
+			if (offset < HEADER_SIZE) {
+				target = header;
+				at = (int) offset;
+			} else {
+				long rel = offset - HEADER_SIZE;
+				int n = (int) (rel / recordSize);
+				target = chunk(n);
+				at = local(n) + (int) (rel % recordSize);
+			}
+			for (int i = 0; i < length; i++) {
+				target.put(at + i, body.get(pos + i));
+			}
+			pos += length;
+		}
+	}
+
+	/**
+	 * Applies every complete transaction in the log, in order, discards
+	 * whatever follows the last complete one, and reloads the header fields.
+	 * The log only holds transactions since the last checkpoint, and the
+	 * header may have reached the disk ahead of the records those
+	 * transactions wrote, so none of them is skipped.
+	 */
+	private void recover() throws IOException {
+		long pos = 0;
+		ByteBuffer frame = ByteBuffer.allocate(TXN_HEADER);
+		while (true) {
+			((Buffer) frame).clear();
+			if (!readFully(frame, pos) || frame.getInt(0) != TXN_MAGIC) {
+				break;
+			}
+			int length = frame.getInt(12);
+			if (length < 0 || length > log.size() - pos) {
+				break;
+			}
+			ByteBuffer body = ByteBuffer.allocate(TXN_HEADER + length + Long.BYTES);
+			if (!readFully(body, pos)) {
+				break;
+			}
+			CRC32 crc = new CRC32();
+			((Buffer) body).limit(TXN_HEADER + length).position(Integer.BYTES);
+			crc.update(body);
+			((Buffer) body).clear();
+			if (crc.getValue() != body.getLong(TXN_HEADER + length)) {
+				break;
+			}
+			apply(body, TXN_HEADER, TXN_HEADER + length);
+			pos += body.capacity();
+		}
+		log.truncate(pos);
+		logSize = pos;
+		readState();
+	}
+
+	private boolean readFully(ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			if (log.read(buf, position + buf.position()) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
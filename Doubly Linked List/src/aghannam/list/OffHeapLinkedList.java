@@ -0,0 +1,444 @@
+/*
+ * File: OffHeapLinkedList.java
+ */
+package aghannam.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements a bounded doubly-linked list of fixed-width values that lives in
+ * native memory, outside the Java heap. Every node is a record of two
+ * <code>int</code> links followed by the value, encoded by a {@link Codec}.
+ * Records are carved out of direct buffers (<i>slabs</i>) that are allocated
+ * on demand, up to a byte budget fixed at construction, so even a very large
+ * list adds only a handful of objects for the garbage collector to trace.
+ * Slabs hold a power-of-two number of records in about a megabyte, or a
+ * single record if it is wider than that.
+ * <p>
+ * Values are decoded on every read, so each access returns a new object for
+ * reference types. Slots freed by removals are reused before new ones are
+ * carved out. Once the list is no longer needed, {@link #close()} drops the
+ * slabs; any further use throws {@link IllegalStateException}.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class OffHeapLinkedList<T> implements Iterable<T>, AutoCloseable {
+	private static final int NIL = -1;
+	private static final int LINKS = 2 * Integer.BYTES;
+	private static final int SLAB_BYTES = 1 << 20;
+
+	private final Codec<T> codec;
+	private final int recordSize;
+	private final int maxRecords;
+
+	/*
+	 * A record number splits into a slab index and a record within the slab
+	 * at slabShift, chosen from the record width so that a slab stays within
+	 * SLAB_BYTES and every offset in it fits an int.
+	 */
+	private final int slabShift;
+	private final int slabMask;
+
+	private ByteBuffer[] slabs = new ByteBuffer[0];
+	private boolean closed = false;
+
+	/*
+	 * Byte offsets of the two links within a record. reverse() swaps them,
+	 * which is why free slots are chained through both.
+	 */
+	private int nextOff = 0;
+	private int prevOff = Integer.BYTES;
+
+	private int head = NIL;
+	private int tail = NIL;
+	private int size = 0;
+	private int used = 0;
+	private int free = NIL;
+	private int modCount = 0;
+
+	/**
+	 * Constructs a new off-heap list instance without any values.
+	 *
+	 * @param codec
+	 *            the codec that stores values of the list
+	 * @param maxBytes
+	 *            the maximum amount of native memory the list may allocate
+	 * @throws IllegalArgumentException
+	 *             if the budget does not fit a single record, or a record
+	 *             does not fit a single buffer
+	 */
+	public OffHeapLinkedList(Codec<T> codec, long maxBytes) {
+		this.codec = codec;
+		long width = LINKS + (long) codec.size();
+		if (width > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Records of " + width + " bytes do not fit a buffer");
+		}
+		this.recordSize = (int) width;
+		long records = maxBytes / recordSize;
+		if (records < 1) {
+			throw new IllegalArgumentException("Budget of " + maxBytes + " bytes is below one record");
+		}
+		this.maxRecords = (int) Math.min(records, Integer.MAX_VALUE);
+		this.slabShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, SLAB_BYTES / recordSize));
+		this.slabMask = (1 << slabShift) - 1;
+	}
+
+	/**
+	 * Appends the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 * @throws IllegalStateException
+	 *             if the list is closed or its memory budget is exhausted
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			int n = allocate(val);
+			if (isEmpty()) {
+				head = n;
+			} else {
+				setNext(tail, n);
+				setPrev(n, tail);
+			}
+			tail = n;
+			size++;
+			modCount++;
+		}
+	}
+
+	/**
+	 * Appends the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 * @throws IllegalStateException
+	 *             if the list is closed or its memory budget is exhausted
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			int n = allocate(val);
+			if (isEmpty()) {
+				tail = n;
+			} else {
+				setPrev(head, n);
+				setNext(n, head);
+			}
+			head = n;
+			size++;
+			modCount++;
+		}
+	}
+
+	/**
+	 * Removes the value at the beginning of the list and returns it. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the removed value
+	 */
+	public T removeFirst() {
+		ensureOpen();
+		return isEmpty() ? null : unlink(head);
+	}
+
+	/**
+	 * Removes the value at the end of the list and returns it. If the list is
+	 * empty, this method returns <code>null</code>.
+	 *
+	 * @return the removed value
+	 */
+	public T removeLast() {
+		ensureOpen();
+		return isEmpty() ? null : unlink(tail);
+	}
+
+	/**
+	 * Returns the value at the beginning of this list, without removing it.
+	 *
+	 * @return the first value in this list
+	 */
+	public T getFirst() {
+		ensureOpen();
+		return isEmpty() ? null : read(head);
+	}
+
+	/**
+	 * Returns the value at the end of the list, without removing it.
+	 *
+	 * @return the last value in the list
+	 */
+	public T getLast() {
+		ensureOpen();
+		return isEmpty() ? null : read(tail);
+	}
+
+	/**
+	 * Returns the value at the specified index. If the list is empty or the
+	 * specified index is not valid, this method returns <code>null</code>.
+	 * The list is walked from whichever end is closer to the index.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired value in this list
+	 * @return the value at the specified index or location
+	 */
+	public T getAt(int index) {
+		ensureOpen();
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		int curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = next(curr);
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = prev(curr);
+			}
+		}
+		return read(curr);
+	}
+
+	/**
+	 * Reverses the order of all values in the list. This takes constant time:
+	 * the two links of every record simply trade roles.
+	 */
+	public void reverse() {
+		ensureOpen();
+		int temp = nextOff;
+		nextOff = prevOff;
+		prevOff = temp;
+		temp = head;
+		head = tail;
+		tail = temp;
+		modCount++;
+	}
+
+	/**
+	 * Clears the list of all values and resets its size to zero. The slabs
+	 * allocated so far are kept for reuse.
+	 */
+	public void clear() {
+		ensureOpen();
+		head = NIL;
+		tail = NIL;
+		size = 0;
+		used = 0;
+		free = NIL;
+		modCount++;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * @return the number of values currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of bytes of native memory allocated by this list.
+	 *
+	 * @return the combined capacity of the slabs, in bytes
+	 */
+	public long allocatedBytes() {
+		long bytes = 0;
+		for (ByteBuffer slab : slabs) {
+			bytes += slab.capacity();
+		}
+		return bytes;
+	}
+
+	/**
+	 * Releases the native memory held by this list. The memory is handed back
+	 * as soon as the JDK reclaims the slabs, which no longer have any
+	 * reference from this list. Closing a closed list has no effect.
+	 */
+	@Override
+	public void close() {
+		slabs = new ByteBuffer[0];
+		head = NIL;
+		tail = NIL;
+		size = 0;
+		used = 0;
+		free = NIL;
+		closed = true;
+		modCount++;
+	}
+
+	/**
+	 * Returns an iterator over the values of this list, from first to last.
+	 * The iterator fails fast if the list is modified while it is in use.
+	 *
+	 * @return an iterator over the values of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		ensureOpen();
+		return new Iterator<T>() {
+			private int curr = head;
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return curr != NIL;
+			}
+
+			@Override
+			public T next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (curr == NIL) {
+					throw new NoSuchElementException();
+				}
+				T val = read(curr);
+				curr = OffHeapLinkedList.this.next(curr);
+				return val;
+			}
+		};
+	}
+
+	/**
+	 * Returns a string representation of the list and its values.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (closed) {
+			return "[closed]";
+		}
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			int curr = head;
+			list.append("[");
+			while (curr != tail) {
+				list.append(read(curr)).append(", ");
+				curr = next(curr);
+			}
+			list.append(read(curr)).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("List is closed");
+		}
+	}
+
+	private ByteBuffer slab(int n) {
+		return slabs[n >>> slabShift];
+	}
+
+	private int offset(int n) {
+		return (n & slabMask) * recordSize;
+	}
+
+	private int next(int n) {
+		return slab(n).getInt(offset(n) + nextOff);
+	}
+
+	private int prev(int n) {
+		return slab(n).getInt(offset(n) + prevOff);
+	}
+
+	private void setNext(int n, int link) {
+		slab(n).putInt(offset(n) + nextOff, link);
+	}
+
+	private void setPrev(int n, int link) {
+		slab(n).putInt(offset(n) + prevOff, link);
+	}
+
+	private T read(int n) {
+		return codec.decode(slab(n), offset(n) + LINKS);
+	}
+
+	/**
+	 * Takes a record from the free list, or carves out a new one, and stores
+	 * the specified value in it with no links. The value is encoded before
+	 * the record is taken, so if the codec fails the record stays free.
+	 */
+	private int allocate(T val) {
+		ensureOpen();
+		int n = free;
+		if (n == NIL) {
+			if (used == maxRecords) {
+				throw new IllegalStateException("Memory budget exhausted at " + used + " values");
+			}
+			n = used;
+			if ((n >>> slabShift) == slabs.length) {
+				addSlab();
+			}
+		}
+		codec.encode(val, slab(n), offset(n) + LINKS);
+		if (n == free) {
+			free = next(n);
+		} else {
+			used++;
+		}
+		setNext(n, NIL);
+		setPrev(n, NIL);
+		return n;
+	}
+
+	private void addSlab() {
+		int first = slabs.length << slabShift;
+		int records = Math.min(slabMask + 1, maxRecords - first);
+		ByteBuffer[] grown = new ByteBuffer[slabs.length + 1];
+		System.arraycopy(slabs, 0, grown, 0, slabs.length);
+		grown[slabs.length] = ByteBuffer.allocateDirect(records * recordSize).order(ByteOrder.nativeOrder());
+		slabs = grown;
+	}
+
+	/**
+	 * Unlinks the specified record, returns it to the free list and returns
+	 * its value.
+	 */
+	private T unlink(int n) {
+		T removed = read(n);
+		int p = prev(n);
+		int s = next(n);
+		if (p == NIL) {
+			head = s;
+		} else {
+			setNext(p, s);
+		}
+		if (s == NIL) {
+			tail = p;
+		} else {
+			setPrev(s, p);
+		}
+		size--;
+		modCount++;
+		if (size == 0) {
+			used = 0;
+			free = NIL;
+		} else {
+			setNext(n, free);
+			setPrev(n, free);
+			free = n;
+		}
+		return removed;
+	}
+}
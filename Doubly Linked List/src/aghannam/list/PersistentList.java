@@ -0,0 +1,507 @@
+/*
+ * File: PersistentList.java
+ */
+package aghannam.list;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements an immutable list whose update operations return new versions of
+ * the list instead of changing it. A version can be handed to any number of
+ * readers, on any thread, and stays exactly as it was while writers derive
+ * new versions from it, so taking a snapshot costs nothing more than keeping
+ * a reference.
+ * <p>
+ * The values are kept, in list order, in a height-balanced binary tree whose
+ * nodes record the size of their subtree. An update copies only the nodes on
+ * the path to the position it changes, together with the few nodes that
+ * rebalancing touches, and shares every other node with the version it
+ * started from. Reading or updating by index therefore takes
+ * <i>O(log n)</i> time, as do {@link #getFirst()}, {@link #getLast()} and
+ * {@link #getMiddle()}; looking a value up with {@link #contains(Object)},
+ * {@link #remove(Object)} or {@link #replace(Object, Object)} takes linear
+ * time, as it does in {@link LinkedList}. <code>null</code> values are
+ * ignored: an update with a <code>null</code> value, an invalid index or a
+ * value that is not found returns the list it was called on.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public final class PersistentList<T> implements Iterable<T> {
+	private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+	private final Node<T> root;
+
+	private PersistentList(Node<T> root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns the empty list.
+	 *
+	 * @return a list without any values
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentList<T> empty() {
+		return (PersistentList<T>) EMPTY;
+	}
+
+	/**
+	 * Returns a list with the non-<code>null</code> values of the specified
+	 * array, in order. The list is built in linear time.
+	 *
+	 * @param a
+	 *            the array whose values are to be placed in the list
+	 * @return a list with the values of the array
+	 */
+	@SafeVarargs
+	public static <T> PersistentList<T> of(T... a) {
+		List<T> buffer = new ArrayList<>(a.length);
+		for (T val : a) {
+			if (val != null) {
+				buffer.add(val);
+			}
+		}
+		return fromBuffer(buffer);
+	}
+
+	/**
+	 * Returns a list with the non-<code>null</code> values of the specified
+	 * iterable, in order. The list is built in linear time, so this is also
+	 * the cheapest way to take a first snapshot of a {@link LinkedList}.
+	 *
+	 * @param values
+	 *            the iterable whose values are to be placed in the list
+	 * @return a list with the values of the iterable
+	 */
+	public static <T> PersistentList<T> copyOf(Iterable<? extends T> values) {
+		List<T> buffer = new ArrayList<>();
+		for (T val : values) {
+			if (val != null) {
+				buffer.add(val);
+			}
+		}
+		return fromBuffer(buffer);
+	}
+
+	/**
+	 * Returns a list with the specified value added at the end of this list.
+	 *
+	 * @param val
+	 *            the value to be added
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> insert(T val) {
+		return insertAt(size(), val);
+	}
+
+	/**
+	 * Returns a list with the specified value added at the beginning of this
+	 * list.
+	 *
+	 * @param val
+	 *            the value to be added
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> insertFirst(T val) {
+		return insertAt(0, val);
+	}
+
+	/**
+	 * Returns a list with the specified value added at the specified index of
+	 * this list, before the value currently at that index, if any. An index
+	 * equal to the size of the list appends the value.
+	 *
+	 * @param index
+	 *            the zero-based location at which to add the value
+	 * @param val
+	 *            the value to be added
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> insertAt(int index, T val) {
+		if (val == null || index < 0 || index > size()) {
+			return this;
+		}
+		return new PersistentList<>(insertAt(root, index, val));
+	}
+
+	/**
+	 * Returns a list without the first occurrence of the specified value.
+	 *
+	 * @param val
+	 *            the value to be removed
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> remove(T val) {
+		return removeAt(indexOf(val));
+	}
+
+	/**
+	 * Returns a list without the value at the specified index.
+	 *
+	 * @param index
+	 *            the zero-based location of the value to be removed
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> removeAt(int index) {
+		if (index < 0 || index >= size()) {
+			return this;
+		}
+		Node<T> removed = removeAt(root, index);
+		return removed == null ? empty() : new PersistentList<>(removed);
+	}
+
+	/**
+	 * Returns a list without the first value of this list.
+	 *
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> removeFirst() {
+		return removeAt(0);
+	}
+
+	/**
+	 * Returns a list without the last value of this list.
+	 *
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> removeLast() {
+		return removeAt(size() - 1);
+	}
+
+	/**
+	 * Returns a list in which the first occurrence of the specified
+	 * <b>target</b> value is replaced with the specified <b>replacement</b>
+	 * value.
+	 *
+	 * @param target
+	 *            the value to be replaced
+	 * @param replacement
+	 *            the value to put in its place
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> replace(T target, T replacement) {
+		return replacement == null ? this : setAt(indexOf(target), replacement);
+	}
+
+	/**
+	 * Returns a list in which the value at the specified index is replaced
+	 * with the specified value.
+	 *
+	 * @param index
+	 *            the zero-based location of the value to be replaced
+	 * @param val
+	 *            the value to put in its place
+	 * @return the new version of the list
+	 */
+	public PersistentList<T> setAt(int index, T val) {
+		if (val == null || index < 0 || index >= size()) {
+			return this;
+		}
+		return new PersistentList<>(setAt(root, index, val));
+	}
+
+	/**
+	 * Returns the first value in the list, or <code>null</code> if the list is
+	 * empty.
+	 *
+	 * @return the value at the beginning of the list
+	 */
+	public T getFirst() {
+		return getAt(0);
+	}
+
+	/**
+	 * Returns the last value in the list, or <code>null</code> if the list is
+	 * empty.
+	 *
+	 * @return the value at the end of the list
+	 */
+	public T getLast() {
+		return getAt(size() - 1);
+	}
+
+	/**
+	 * Returns the value at index <code>(size - 1) / 2</code>, the same middle
+	 * value that {@link LinkedList#getMiddle()} returns, or <code>null</code>
+	 * if the list is empty.
+	 *
+	 * @return the value in the middle of the list
+	 */
+	public T getMiddle() {
+		return getAt((size() - 1) >> 1);
+	}
+
+	/**
+	 * Returns the value at the specified index, or <code>null</code> if the
+	 * index is not valid.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired value
+	 * @return the value at the specified index
+	 */
+	public T getAt(int index) {
+		if (index < 0 || index >= size()) {
+			return null;
+		}
+		Node<T> curr = root;
+		while (true) {
+			int leftSize = size(curr.left);
+			if (index < leftSize) {
+				curr = curr.left;
+			} else if (index > leftSize) {
+				index -= leftSize + 1;
+				curr = curr.right;
+			} else {
+				return curr.val;
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains the specified
+	 * value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the value,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return indexOf(val) >= 0;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified value, or -1
+	 * if the list does not contain it.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return the zero-based location of the value, or -1
+	 */
+	public int indexOf(T val) {
+		if (val != null) {
+			int index = 0;
+			for (T curr : this) {
+				if (curr.equals(val)) {
+					return index;
+				}
+				index++;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns a new {@link LinkedList} with the values of this list, in order.
+	 *
+	 * @return a mutable copy of this list
+	 */
+	public LinkedList<T> toLinkedList() {
+		LinkedList<T> list = new LinkedList<>();
+		list.insertAll(this);
+		return list;
+	}
+
+	/**
+	 * Returns <code>true</code> if the list holds no values.
+	 *
+	 * @return <code>true</code> if the list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * @return the size of this list
+	 */
+	public int size() {
+		return size(root);
+	}
+
+	/**
+	 * Returns an iterator over the values of the list, in order. The iterator
+	 * does not support removal, and since the list never changes, it never
+	 * fails.
+	 *
+	 * @return an iterator over the values of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			// The nodes whose value and right subtree are still to be visited.
+			private final Node<T>[] stack = newNodeArray(root == null ? 0 : root.height);
+			private int depth = 0;
+
+			{
+				descend(root);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return depth > 0;
+			}
+
+			@Override
+			public T next() {
+				if (depth == 0) {
+					throw new NoSuchElementException();
+				}
+				Node<T> curr = stack[--depth];
+				descend(curr.right);
+				return curr.val;
+			}
+
+			private void descend(Node<T> node) {
+				for (; node != null; node = node.left) {
+					stack[depth++] = node;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns a string representation of the list, in the same format as
+	 * {@link LinkedList#toString()}.
+	 *
+	 * @return a string representation of this list
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (T val : this) {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(val);
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * Returns a list with the specified values, which contain no
+	 * <code>null</code>.
+	 */
+	private static <T> PersistentList<T> fromBuffer(List<T> buffer) {
+		return buffer.isEmpty() ? empty() : new PersistentList<>(build(buffer, 0, buffer.size()));
+	}
+
+	/**
+	 * Builds a perfectly balanced tree from the specified range of values.
+	 */
+	private static <T> Node<T> build(List<T> values, int from, int to) {
+		if (from == to) {
+			return null;
+		}
+		int mid = (from + to) >>> 1;
+		return new Node<>(build(values, from, mid), values.get(mid), build(values, mid + 1, to));
+	}
+
+	private static <T> Node<T> insertAt(Node<T> node, int index, T val) {
+		if (node == null) {
+			return new Node<>(null, val, null);
+		}
+		int leftSize = size(node.left);
+		if (index <= leftSize) {
+			return balance(insertAt(node.left, index, val), node.val, node.right);
+		}
+		return balance(node.left, node.val, insertAt(node.right, index - leftSize - 1, val));
+	}
+
+	private static <T> Node<T> removeAt(Node<T> node, int index) {
+		int leftSize = size(node.left);
+		if (index < leftSize) {
+			return balance(removeAt(node.left, index), node.val, node.right);
+		}
+		if (index > leftSize) {
+			return balance(node.left, node.val, removeAt(node.right, index - leftSize - 1));
+		}
+		if (node.left == null) {
+			return node.right;
+		}
+		if (node.right == null) {
+			return node.left;
+		}
+		// Pull the next value up into the place of the removed one.
+		Node<T> next = node.right;
+		while (next.left != null) {
+			next = next.left;
+		}
+		return balance(node.left, next.val, removeAt(node.right, 0));
+	}
+
+	private static <T> Node<T> setAt(Node<T> node, int index, T val) {
+		int leftSize = size(node.left);
+		if (index < leftSize) {
+			return new Node<>(setAt(node.left, index, val), node.val, node.right);
+		}
+		if (index > leftSize) {
+			return new Node<>(node.left, node.val, setAt(node.right, index - leftSize - 1, val));
+		}
+		return new Node<>(node.left, val, node.right);
+	}
+
+	/**
+	 * Joins the specified subtrees under a new node with the specified value,
+	 * rotating once or twice if their heights differ by two, as they can
+	 * after a single insertion or removal.
+	 */
+	private static <T> Node<T> balance(Node<T> left, T val, Node<T> right) {
+		int lh = height(left);
+		int rh = height(right);
+		if (lh > rh + 1) {
+			if (height(left.left) >= height(left.right)) {
+				return new Node<>(left.left, left.val, new Node<>(left.right, val, right));
+			}
+			Node<T> lr = left.right;
+			return new Node<>(new Node<>(left.left, left.val, lr.left), lr.val, new Node<>(lr.right, val, right));
+		}
+		if (rh > lh + 1) {
+			if (height(right.right) >= height(right.left)) {
+				return new Node<>(new Node<>(left, val, right.left), right.val, right.right);
+			}
+			Node<T> rl = right.left;
+			return new Node<>(new Node<>(left, val, rl.left), rl.val, new Node<>(rl.right, right.val, right.right));
+		}
+		return new Node<>(left, val, right);
+	}
+
+	private static int size(Node<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static int height(Node<?> node) {
+		return node == null ? 0 : node.height;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T>[] newNodeArray(int length) {
+		return (Node<T>[]) new Node<?>[length];
+	}
+
+	/**
+	 * Represents an immutable tree node with the size and height of the
+	 * subtree it roots.
+	 */
+	private static final class Node<T> {
+		final Node<T> left;
+		final T val;
+		final Node<T> right;
+		final int size;
+		final int height;
+
+		Node(Node<T> left, T val, Node<T> right) {
+			this.left = left;
+			this.val = val;
+			this.right = right;
+			this.size = size(left) + 1 + size(right);
+			this.height = Math.max(height(left), height(right)) + 1;
+		}
+	}
+}
@@ -0,0 +1,584 @@
+/*
+ * File: PooledLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.Arrays;
+
+/**
+ * Implements an unbounded doubly-linked list whose nodes live in a pool of
+ * parallel arrays rather than in individual objects. A node is an index into
+ * those arrays, its links are indices too, and slots freed by removals go on
+ * a free list that later insertions take from. Once the pool has grown to the
+ * list's working size, queue-style churn (for example {@link #insert(Object)}
+ * followed by {@link #removeFirst()}) allocates nothing.
+ * <p>
+ * Heavy churn scatters consecutive values across the pool. {@link #compact()}
+ * rebuilds the pool in traversal order, after which walking the list reads
+ * the arrays sequentially again.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class PooledLinkedList<T> {
+	private static final int NIL = -1;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] vals;
+	private int[] next;
+	private int[] prev;
+	private int head = NIL;
+	private int tail = NIL;
+	private int size = 0;
+
+	/*
+	 * Slots below the high-water mark have been used at least once; those not
+	 * in the list are chained through next[] starting at free.
+	 */
+	private int used = 0;
+	private int free = NIL;
+
+	/**
+	 * Constructs a new pooled list instance without any nodes.
+	 */
+	public PooledLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new pooled list instance without any nodes, whose pool
+	 * starts with room for the specified number of nodes.
+	 *
+	 * @param initialCapacity
+	 *            the number of nodes the pool can hold before it has to grow
+	 * @throws IllegalArgumentException
+	 *             if the initial capacity is negative
+	 */
+	public PooledLinkedList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		vals = new Object[initialCapacity];
+		next = new int[initialCapacity];
+		prev = new int[initialCapacity];
+	}
+
+	/**
+	 * Constructs a new pooled list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public PooledLinkedList(T[] a) {
+		this(Math.max(a.length, DEFAULT_CAPACITY));
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			int n = allocate(val);
+			if (isEmpty()) {
+				head = n;
+			} else {
+				next[tail] = n;
+				prev[n] = tail;
+			}
+			tail = n;
+			size++;
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value immediately before the first
+	 * occurrence of the node with the specified <b>before</b> value. If the
+	 * target node is not found, the list remains unchanged.
+	 *
+	 * @param before
+	 *            the value of the target node before which to add the new node
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertBefore(T before, T val) {
+		if (before == null || val == null) {
+			return;
+		}
+		int target = indexOfNode(before);
+		if (target == NIL) {
+			return;
+		}
+		if (target == head) {
+			insertFirst(val);
+		} else {
+			int n = allocate(val);
+			int p = prev[target];
+			next[p] = n;
+			prev[n] = p;
+			next[n] = target;
+			prev[target] = n;
+			size++;
+		}
+	}
+
+	/**
+	 * Appends a node with the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			int n = allocate(val);
+			if (isEmpty()) {
+				tail = n;
+			} else {
+				prev[head] = n;
+				next[n] = head;
+			}
+			head = n;
+			size++;
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value immediately following the first
+	 * occurrence of the node with the specified <b>after</b> value. If the
+	 * target node is not found, the list remains unchanged.
+	 *
+	 * @param after
+	 *            the value of the target node after which to add the new node
+	 * @param val
+	 *            the value of the node to be added
+	 */
+	public void insertAfter(T after, T val) {
+		if (after == null || val == null) {
+			return;
+		}
+		int target = indexOfNode(after);
+		if (target == NIL) {
+			return;
+		}
+		if (target == tail) {
+			insert(val);
+		} else {
+			int n = allocate(val);
+			int s = next[target];
+			prev[s] = n;
+			next[n] = s;
+			prev[n] = target;
+			next[target] = n;
+			size++;
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the node containing the specified value
+	 * and returns its value. If no such node exists, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node to remove from the list
+	 * @return the value of the removed node
+	 */
+	public T remove(T val) {
+		int target = indexOfNode(val);
+		return target == NIL ? null : unlink(target);
+	}
+
+	/**
+	 * Removes all occurrences of the node containing the specified value from
+	 * the list.
+	 *
+	 * @param val
+	 *            the value of the nodes to be removed
+	 */
+	public void removeAll(T val) {
+		if (val != null) {
+			int curr = head;
+			while (curr != NIL) {
+				int n = next[curr];
+				if (vals[curr].equals(val)) {
+					unlink(curr);
+				}
+				curr = n;
+			}
+		}
+	}
+
+	/**
+	 * Removes the last occurrence of the node with the specified value.
+	 *
+	 * @param val
+	 *            the value of the node to be removed
+	 * @return the value of the removed node
+	 */
+	public T removeLastOccurrence(T val) {
+		if (val != null) {
+			for (int curr = tail; curr != NIL; curr = prev[curr]) {
+				if (vals[curr].equals(val)) {
+					return unlink(curr);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the node at the beginning of the list and returns its value. If
+	 * the list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public T removeFirst() {
+		return isEmpty() ? null : unlink(head);
+	}
+
+	/**
+	 * Removes the node at the end of the list and returns its value. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public T removeLast() {
+		return isEmpty() ? null : unlink(tail);
+	}
+
+	/**
+	 * Returns the value of the node preceding the first occurrence of the node
+	 * with the specified value. If no node with the specified value is found,
+	 * or it is the first node, this method returns <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of node before which to return
+	 * @return the value of the node before the specified node
+	 */
+	public T getBefore(T val) {
+		int target = indexOfNode(val);
+		return target == NIL || target == head ? null : get(prev[target]);
+	}
+
+	/**
+	 * Returns the value of the node at the beginning of this list, without
+	 * removing it.
+	 *
+	 * @return the value of the first node in this list
+	 */
+	public T getFirst() {
+		return isEmpty() ? null : get(head);
+	}
+
+	/**
+	 * Returns the value of the node following the first occurrence of the node
+	 * with the specified value, without removing it. If no node with the
+	 * specified value is found, or it is the last node, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node after which to return
+	 * @return the value of the node after the specified node
+	 */
+	public T getAfter(T val) {
+		int target = indexOfNode(val);
+		return target == NIL || target == tail ? null : get(next[target]);
+	}
+
+	/**
+	 * Returns the value of the middle node in the list, without removing it.
+	 *
+	 * @return the value of the middle node in this list
+	 */
+	public T getMiddle() {
+		return isEmpty() ? null : get(node((size - 1) / 2));
+	}
+
+	/**
+	 * Returns the value of the node at the end of the list, without removing
+	 * it.
+	 *
+	 * @return the value of the last node in the list
+	 */
+	public T getLast() {
+		return isEmpty() ? null : get(tail);
+	}
+
+	/**
+	 * Returns the value of the node at the specified index. If the list is
+	 * empty or the specified index is not valid, this method returns
+	 * <code>null</code>. The list is walked from whichever end is closer to
+	 * the index.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired node in this list
+	 * @return the value of the node at the specified index or location
+	 */
+	public T getAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		return get(node(index));
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		if (val != null && free == NIL) {
+			// No holes: every used slot is in the list, so scan the array.
+			for (int i = 0; i < used; i++) {
+				if (vals[i].equals(val)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return indexOfNode(val) != NIL;
+	}
+
+	/**
+	 * Replaces the value of the first occurrence of the node containing the
+	 * specified <b>target</b> value with the specified <b>replacement</b>
+	 * value. If the target node is not found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value of the node to be updated
+	 * @param replacement
+	 *            the new value to assign to the target node
+	 */
+	public void replace(T target, T replacement) {
+		if (replacement != null) {
+			int n = indexOfNode(target);
+			if (n != NIL) {
+				vals[n] = replacement;
+			}
+		}
+	}
+
+	/**
+	 * Replaces the values of all nodes containing the specified <b>target</b>
+	 * value with the specified <b>replacement</b> value.
+	 *
+	 * @param target
+	 *            the value of the nodes to be updated
+	 * @param replacement
+	 *            the new value to assign to the target nodes
+	 */
+	public void replaceAll(T target, T replacement) {
+		if (target != null && replacement != null) {
+			for (int curr = head; curr != NIL; curr = next[curr]) {
+				if (vals[curr].equals(target)) {
+					vals[curr] = replacement;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reverses the order of all nodes in the list.
+	 */
+	public void reverse() {
+		int curr = head;
+		while (curr != NIL) {
+			int temp = next[curr];
+			next[curr] = prev[curr];
+			prev[curr] = temp;
+			curr = temp;
+		}
+		int temp = head;
+		head = tail;
+		tail = temp;
+	}
+
+	/**
+	 * Rebuilds the pool so that the nodes occupy its first slots in traversal
+	 * order, with no free slots in between. Walking the list afterwards reads
+	 * the arrays sequentially, and {@link #contains(Object)} can scan the
+	 * values directly. The pool keeps its capacity.
+	 */
+	public void compact() {
+		int capacity = vals.length;
+		Object[] newVals = new Object[capacity];
+		int[] newNext = new int[capacity];
+		int[] newPrev = new int[capacity];
+		int i = 0;
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			newVals[i] = vals[curr];
+			newPrev[i] = i - 1;
+			newNext[i] = i + 1;
+			i++;
+		}
+		vals = newVals;
+		next = newNext;
+		prev = newPrev;
+		used = size;
+		free = NIL;
+		if (isEmpty()) {
+			head = NIL;
+			tail = NIL;
+		} else {
+			head = 0;
+			tail = size - 1;
+			next[tail] = NIL;
+		}
+	}
+
+	/**
+	 * Clears the list of all nodes and resets its size to zero. The pool keeps
+	 * its capacity for reuse.
+	 */
+	public void clear() {
+		Arrays.fill(vals, 0, used, null);
+		head = NIL;
+		tail = NIL;
+		size = 0;
+		used = 0;
+		free = NIL;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of nodes in the list.
+	 *
+	 * @return the number of nodes currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a string representation of the list and its nodes.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			int curr = head;
+			list.append("[");
+			while (curr != tail) {
+				list.append(vals[curr]).append(", ");
+				curr = next[curr];
+			}
+			list.append(vals[curr]).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	@SuppressWarnings("unchecked")
+	private T get(int n) {
+		return (T) vals[n];
+	}
+
+	/**
+	 * Returns the slot of the first node holding the specified value, or
+	 * {@link #NIL} if there is none.
+	 */
+	private int indexOfNode(T val) {
+		if (val != null) {
+			for (int curr = head; curr != NIL; curr = next[curr]) {
+				if (vals[curr].equals(val)) {
+					return curr;
+				}
+			}
+		}
+		return NIL;
+	}
+
+	/**
+	 * Returns the slot of the node at the specified index, walking from
+	 * whichever end of the list is closer. The index must be valid.
+	 */
+	private int node(int index) {
+		int curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = next[curr];
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = prev[curr];
+			}
+		}
+		return curr;
+	}
+
+	/**
+	 * Takes a slot from the free list, or the next unused one, growing the
+	 * pool if needed, and stores the specified value in it with no links.
+	 */
+	private int allocate(T val) {
+		int n;
+		if (free != NIL) {
+			n = free;
+			free = next[n];
+		} else {
+			if (used == vals.length) {
+				int capacity = vals.length + (vals.length >> 1) + 1;
+				vals = Arrays.copyOf(vals, capacity);
+				next = Arrays.copyOf(next, capacity);
+				prev = Arrays.copyOf(prev, capacity);
+			}
+			n = used++;
+		}
+		vals[n] = val;
+		next[n] = NIL;
+		prev[n] = NIL;
+		return n;
+	}
+
+	/**
+	 * Unlinks the node in the specified slot, returns the slot to the free
+	 * list and returns the node's value.
+	 */
+	private T unlink(int n) {
+		int p = prev[n];
+		int s = next[n];
+		if (p == NIL) {
+			head = s;
+		} else {
+			next[p] = s;
+		}
+		if (s == NIL) {
+			tail = p;
+		} else {
+			prev[s] = p;
+		}
+		T removed = get(n);
+		vals[n] = null;
+		size--;
+		if (size == 0) {
+			// Nothing left to link to, so drop the holes along with the list.
+			used = 0;
+			free = NIL;
+		} else {
+			next[n] = free;
+			free = n;
+		}
+		return removed;
+	}
+}
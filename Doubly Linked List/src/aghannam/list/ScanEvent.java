@@ -0,0 +1,55 @@
+/*
+ * File: ScanEvent.java
+ */
+package aghannam.list;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event for one scanning operation recorded by
+ * {@link ListMetrics}. The class is only loaded once the recorder is known to
+ * be available, so that the list still runs on JVMs without it.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+@Name("aghannam.list.Scan")
+@Label("Linked List Scan")
+@Category("Linked List")
+@Description("A linked list operation that walks the list")
+@StackTrace(false)
+final class ScanEvent extends jdk.jfr.Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Nodes Traversed")
+	int nodesTraversed;
+
+	@Label("List Size")
+	int size;
+
+	@Label("Latency")
+	@Timespan(Timespan.NANOSECONDS)
+	long latency;
+
+	/**
+	 * Commits an event for the specified call if the recorder is currently
+	 * recording this event type.
+	 */
+	static void emit(ListMetrics.Operation operation, int nodesTraversed, int size, long latency) {
+		ScanEvent event = new ScanEvent();
+		if (event.isEnabled()) {
+			event.operation = operation.name();
+			event.nodesTraversed = nodesTraversed;
+			event.size = size;
+			event.latency = latency;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,295 @@
+/*
+ * File: SnapshotLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.Iterator;
+
+/**
+ * Implements a thread-safe list for read-heavy use, in which any number of
+ * threads read while writers insert and remove. Reads never lock and never
+ * wait: the list keeps its contents as an immutable {@link PersistentList}
+ * in a volatile field, every read works on the version it finds there, and
+ * every write derives a new version and publishes it in one store. A reader
+ * therefore always sees a complete version, never a half-linked node, and
+ * can iterate over it for as long as it likes while writers continue.
+ * <p>
+ * Writes are serialized with the list's monitor, which is uncontended with a
+ * single writer and keeps the list correct if there are more. Because
+ * versions share all unchanged structure, a write takes <i>O(log n)</i> time
+ * and allocates <i>O(log n)</i> nodes instead of copying the list. Indexed
+ * reads and the ends take <i>O(log n)</i> time; value lookups are linear, as
+ * in {@link LinkedList}. Call {@link #snapshot()} to run several reads
+ * against the same version.
+ * <p>
+ * As with the other lists, <code>null</code> values are ignored, and the
+ * removal and access methods return <code>null</code> when there is nothing
+ * to return.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class SnapshotLinkedList<T> implements Iterable<T> {
+	private volatile PersistentList<T> current = PersistentList.empty();
+
+	/**
+	 * Constructs a new snapshot list instance without any nodes.
+	 */
+	public SnapshotLinkedList() {
+		/* Empty list */
+	}
+
+	/**
+	 * Constructs a new snapshot list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public SnapshotLinkedList(T[] a) {
+		current = PersistentList.of(a);
+	}
+
+	/**
+	 * Returns the current version of the list. It never changes, so reads
+	 * made on it agree with each other however many writes happen meanwhile.
+	 *
+	 * @return an immutable snapshot of this list
+	 */
+	public PersistentList<T> snapshot() {
+		return current;
+	}
+
+	/**
+	 * Appends a node with the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public synchronized void insert(T val) {
+		current = current.insert(val);
+	}
+
+	/**
+	 * Appends a node with the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public synchronized void insertFirst(T val) {
+		current = current.insertFirst(val);
+	}
+
+	/**
+	 * Adds a node with the specified value at the specified index. If the
+	 * index is not valid, the list remains unchanged.
+	 *
+	 * @param index
+	 *            the zero-based location at which to add the new node
+	 * @param val
+	 *            the value of the node to be added to this list
+	 */
+	public synchronized void insertAt(int index, T val) {
+		current = current.insertAt(index, val);
+	}
+
+	/**
+	 * Removes the first occurrence of the node containing the specified value
+	 * and returns its value. If there is none, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node to remove from the list
+	 * @return the value of the removed node
+	 */
+	public synchronized T remove(T val) {
+		PersistentList<T> list = current;
+		int index = list.indexOf(val);
+		return index < 0 ? null : removeAt(list, index);
+	}
+
+	/**
+	 * Removes the node at the specified index and returns its value. If the
+	 * index is not valid, this method returns <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the node to remove
+	 * @return the value of the removed node
+	 */
+	public synchronized T removeAt(int index) {
+		return removeAt(current, index);
+	}
+
+	/**
+	 * Removes the node at the beginning of the list and returns its value. If
+	 * the list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public synchronized T removeFirst() {
+		return removeAt(current, 0);
+	}
+
+	/**
+	 * Removes the node at the end of the list and returns its value. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public synchronized T removeLast() {
+		PersistentList<T> list = current;
+		return removeAt(list, list.size() - 1);
+	}
+
+	/**
+	 * Replaces the value of the first occurrence of the node containing the
+	 * specified <b>target</b> value with the specified <b>replacement</b>
+	 * value. If the target node is not found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value of the node to be updated
+	 * @param replacement
+	 *            the new value to assign to the target node
+	 */
+	public synchronized void replace(T target, T replacement) {
+		current = current.replace(target, replacement);
+	}
+
+	/**
+	 * Replaces the value of the node at the specified index with the specified
+	 * value and returns the value it previously held. If the specified index
+	 * is not valid, no changes are made and this method returns
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the node to be updated
+	 * @param val
+	 *            the new value to assign to the node
+	 * @return the previous value of the node at the specified index
+	 */
+	public synchronized T setAt(int index, T val) {
+		PersistentList<T> list = current;
+		if (val == null) {
+			return null;
+		}
+		T previous = list.getAt(index);
+		current = list.setAt(index, val);
+		return previous;
+	}
+
+	/**
+	 * Clears the list of all nodes. Readers still holding an earlier version
+	 * keep it.
+	 */
+	public synchronized void clear() {
+		current = PersistentList.empty();
+	}
+
+	/**
+	 * Returns the value of the first node in the list, or <code>null</code> if
+	 * the list is empty.
+	 *
+	 * @return the value at the beginning of the list
+	 */
+	public T getFirst() {
+		return current.getFirst();
+	}
+
+	/**
+	 * Returns the value of the last node in the list, or <code>null</code> if
+	 * the list is empty.
+	 *
+	 * @return the value at the end of the list
+	 */
+	public T getLast() {
+		return current.getLast();
+	}
+
+	/**
+	 * Returns the value of the middle node in the list, or <code>null</code>
+	 * if the list is empty.
+	 *
+	 * @return the value in the middle of the list
+	 */
+	public T getMiddle() {
+		return current.getMiddle();
+	}
+
+	/**
+	 * Returns the value of the node at the specified index, or
+	 * <code>null</code> if the index is not valid.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired node in this list
+	 * @return the value of the node at the specified index
+	 */
+	public T getAt(int index) {
+		return current.getAt(index);
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains a node with the target
+	 *         value, <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return current.contains(val);
+	}
+
+	/**
+	 * Returns <code>true</code> if the list has no nodes.
+	 *
+	 * @return <code>true</code> if the list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return current.isEmpty();
+	}
+
+	/**
+	 * Returns the number of nodes in the list.
+	 *
+	 * @return the size of this list
+	 */
+	public int size() {
+		return current.size();
+	}
+
+	/**
+	 * Returns an iterator over the version of the list current when this
+	 * method is called. Later writes do not affect it. The iterator does not
+	 * support removal.
+	 *
+	 * @return an iterator over a snapshot of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return current.iterator();
+	}
+
+	/**
+	 * Returns a string representation of the current version of the list.
+	 *
+	 * @return a string representation of this list
+	 */
+	@Override
+	public String toString() {
+		return current.toString();
+	}
+
+	/**
+	 * Publishes the specified version without the value at the specified
+	 * index and returns that value, or <code>null</code> if the index is not
+	 * valid.
+	 */
+	private T removeAt(PersistentList<T> list, int index) {
+		T val = list.getAt(index);
+		if (val != null) {
+			current = list.removeAt(index);
+		}
+		return val;
+	}
+}
@@ -0,0 +1,509 @@
+/*
+ * File: SortedLinkedList.java
+ */
+package aghannam.list;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements an unbounded doubly-linked list that keeps its values in sorted
+ * order, with a skip index layered over its node chain so that ordered
+ * inserts, lookups and removals run in <i>O(log n)</i> expected time instead
+ * of the linear walks done by {@link LinkedList#insertBefore(Object, Object)}
+ * and {@link LinkedList#contains(Object)}.
+ * <p>
+ * Every node takes part in the ordinary doubly-linked chain and, with
+ * probability <code>1/4</code> per level, in a sparser express lane above
+ * it, as in {@link IndexedLinkedList}. A search descends from the sparsest
+ * lane to the chain, skipping over runs of smaller values. Values are
+ * ordered by a comparator, or by their natural ordering if none is given;
+ * values that compare equal keep the order in which they were inserted.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class SortedLinkedList<T> implements Iterable<T> {
+	/**
+	 * The maximum number of levels, which comfortably covers lists of up to
+	 * <code>4^16</code> nodes.
+	 */
+	private static final int MAX_LEVEL = 16;
+
+	/*
+	 * Sentinels before the smallest and after the largest value. They are as
+	 * tall as the tallest possible node, so a lane that holds no nodes simply
+	 * links head to tail.
+	 */
+	private final Node<T> head = new Node<>(null, MAX_LEVEL);
+	private final Node<T> tail = new Node<>(null, MAX_LEVEL);
+
+	/*
+	 * Scratch space for searches: the last node before the search position
+	 * on every level in use.
+	 */
+	private final Node<T>[] update = newNodeArray(MAX_LEVEL);
+
+	private final Comparator<? super T> comparator;
+
+	private int level = 1;
+	private int size = 0;
+	private int modCount = 0;
+	private int seed = 0x2545F491;
+
+	/**
+	 * Constructs a new sorted list instance without any nodes, ordered by the
+	 * natural ordering of its values.
+	 */
+	public SortedLinkedList() {
+		this((Comparator<? super T>) null);
+	}
+
+	/**
+	 * Constructs a new sorted list instance without any nodes, ordered by the
+	 * specified comparator.
+	 *
+	 * @param comparator
+	 *            the comparator that determines the order of the values, or
+	 *            <code>null</code> for natural ordering
+	 */
+	@SuppressWarnings("unchecked")
+	public SortedLinkedList(Comparator<? super T> comparator) {
+		this.comparator = comparator != null ? comparator : (a, b) -> ((Comparable<? super T>) a).compareTo(b);
+		reset();
+	}
+
+	/**
+	 * Constructs a new sorted list instance from the specified array, ordered
+	 * by the natural ordering of its values.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public SortedLinkedList(T[] a) {
+		this();
+		for (int i = 0; i < a.length; i++) {
+			insertSorted(a[i]);
+		}
+	}
+
+	/**
+	 * Adds a node with the specified value at its place in the sort order,
+	 * after any values that compare equal to it.
+	 *
+	 * @param val
+	 *            the value of the node to be added to this list
+	 * @throws ClassCastException
+	 *             if the list uses natural ordering and the value cannot be
+	 *             compared to the values in the list
+	 */
+	public void insertSorted(T val) {
+		if (val != null) {
+			findPredecessors(val, true);
+			link(val);
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the node containing the specified value
+	 * and returns its value. If no such node exists, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value of the node to remove from the list
+	 * @return the value of the removed node
+	 */
+	public T remove(T val) {
+		Node<T> x = find(val);
+		return x == null ? null : unlink(x);
+	}
+
+	/**
+	 * Removes the node at the beginning of the list, which holds the smallest
+	 * value, and returns its value. If the list is empty, this method returns
+	 * <code>null</code>.
+	 *
+	 * @return the value of the node removed
+	 */
+	public T removeFirst() {
+		return isEmpty() ? null : unlink(head.next[0]);
+	}
+
+	/**
+	 * Removes the node at the end of the list, which holds the largest value,
+	 * and returns its value. If the list is empty, this method returns
+	 * <code>null</code>.
+	 *
+	 * @return the value of the removed node
+	 */
+	public T removeLast() {
+		return isEmpty() ? null : unlink(tail.prev[0]);
+	}
+
+	/**
+	 * Returns the value of the node at the beginning of this list, without
+	 * removing it.
+	 *
+	 * @return the smallest value in this list
+	 */
+	public T getFirst() {
+		return isEmpty() ? null : head.next[0].val;
+	}
+
+	/**
+	 * Returns the value of the node at the end of the list, without removing
+	 * it.
+	 *
+	 * @return the largest value in this list
+	 */
+	public T getLast() {
+		return isEmpty() ? null : tail.prev[0].val;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains a node with
+	 * the specified value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the a node with the
+	 *         target value <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return find(val) != null;
+	}
+
+	/**
+	 * Returns a new list with the values of this list that are strictly less
+	 * than <b>toVal</b>, in order. If <b>toVal</b> is <code>null</code>, the
+	 * returned list is empty.
+	 *
+	 * @param toVal
+	 *            the exclusive upper bound of the values to return
+	 * @return a list of the values below the bound
+	 */
+	public LinkedList<T> headList(T toVal) {
+		return toVal == null ? new LinkedList<T>() : copyRange(head.next[0], toVal);
+	}
+
+	/**
+	 * Returns a new list with the values of this list that are greater than
+	 * or equal to <b>fromVal</b>, in order. If <b>fromVal</b> is
+	 * <code>null</code>, the returned list is empty.
+	 *
+	 * @param fromVal
+	 *            the inclusive lower bound of the values to return
+	 * @return a list of the values from the bound on
+	 */
+	public LinkedList<T> tailList(T fromVal) {
+		return fromVal == null ? new LinkedList<T>() : copyRange(ceiling(fromVal), null);
+	}
+
+	/**
+	 * Returns a new list with the values of this list that are greater than
+	 * or equal to <b>fromVal</b> and strictly less than <b>toVal</b>, in
+	 * order. If either bound is <code>null</code> or <b>fromVal</b> is greater
+	 * than <b>toVal</b>, the returned list is empty.
+	 *
+	 * @param fromVal
+	 *            the inclusive lower bound of the values to return
+	 * @param toVal
+	 *            the exclusive upper bound of the values to return
+	 * @return a list of the values between the bounds
+	 */
+	public LinkedList<T> subRange(T fromVal, T toVal) {
+		if (fromVal == null || toVal == null || comparator.compare(fromVal, toVal) > 0) {
+			return new LinkedList<T>();
+		}
+		return copyRange(ceiling(fromVal), toVal);
+	}
+
+	/**
+	 * Clears the list of all nodes and resets its size to zero.
+	 */
+	public void clear() {
+		Node<T> x = head.next[0];
+		while (x != tail) {
+			Node<T> next = x.next[0];
+			x.val = null;
+			for (int i = 0; i < x.next.length; i++) {
+				x.next[i] = null;
+				x.prev[i] = null;
+			}
+			x = next;
+		}
+		reset();
+		modCount++;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of nodes in the list.
+	 *
+	 * @return the number of nodes currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns an iterator over the values of this list, from smallest to
+	 * largest. The iterator does not support removal and fails fast if the
+	 * list is modified while it is in use.
+	 *
+	 * @return an iterator over the values of this list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node<T> next = head.next[0];
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return next != tail;
+			}
+
+			@Override
+			public T next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (next == tail) {
+					throw new NoSuchElementException();
+				}
+				T val = next.val;
+				next = next.next[0];
+				return val;
+			}
+		};
+	}
+
+	/**
+	 * Returns a string representation of the list and its nodes.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			Node<T> curr = head.next[0];
+			list.append("[");
+			while (curr.next[0] != tail) {
+				list.append(curr.val).append(", ");
+				curr = curr.next[0];
+			}
+			list.append(curr.val).append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	/**
+	 * Links the two sentinels directly on every level, leaving an empty list.
+	 */
+	private void reset() {
+		for (int i = 0; i < MAX_LEVEL; i++) {
+			head.next[i] = tail;
+			tail.prev[i] = head;
+		}
+		level = 1;
+		size = 0;
+	}
+
+	/**
+	 * Fills {@link #update} with, for every level in use, the last node whose
+	 * value is less than the specified value, or less than or equal to it if
+	 * <b>after</b> is <code>true</code>.
+	 *
+	 * @param val
+	 *            the value to search for
+	 * @param after
+	 *            whether the search passes over values equal to <b>val</b>
+	 */
+	private void findPredecessors(T val, boolean after) {
+		Node<T> x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (precedes(x.next[i], val, after)) {
+				x = x.next[i];
+			}
+			update[i] = x;
+		}
+	}
+
+	private boolean precedes(Node<T> x, T val, boolean after) {
+		if (x == tail) {
+			return false;
+		}
+		int c = comparator.compare(x.val, val);
+		return c < 0 || (after && c == 0);
+	}
+
+	/**
+	 * Returns the first node whose value is greater than or equal to the
+	 * specified value, or the tail sentinel if there is none.
+	 */
+	private Node<T> ceiling(T val) {
+		findPredecessors(val, false);
+		return update[0].next[0];
+	}
+
+	/**
+	 * Returns the first node holding a value equal to the specified value, or
+	 * <code>null</code> if there is none. Only the nodes that compare equal to
+	 * the value are checked with {@link Object#equals(Object)}.
+	 */
+	private Node<T> find(T val) {
+		if (val != null && !isEmpty()) {
+			for (Node<T> x = ceiling(val); x != tail && comparator.compare(x.val, val) == 0; x = x.next[0]) {
+				if (x.val.equals(val)) {
+					return x;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Copies the values from the specified node up to, but not including, the
+	 * first value that is not less than <b>toVal</b> into a new list. A
+	 * <code>null</code> bound copies up to the end of the list.
+	 */
+	private LinkedList<T> copyRange(Node<T> from, T toVal) {
+		LinkedList<T> range = new LinkedList<>();
+		for (Node<T> x = from; x != tail; x = x.next[0]) {
+			if (toVal != null && comparator.compare(x.val, toVal) >= 0) {
+				break;
+			}
+			range.insert(x.val);
+		}
+		return range;
+	}
+
+	/**
+	 * Links a new node with the specified value after the nodes in
+	 * {@link #update}, which must be filled for every level in use.
+	 *
+	 * @param val
+	 *            the value of the new node
+	 */
+	private void link(T val) {
+		int h = randomLevel();
+		if (h > level) {
+			for (int i = level; i < h; i++) {
+				update[i] = head;
+			}
+			level = h;
+		}
+		Node<T> x = new Node<>(val, h);
+		for (int i = 0; i < h; i++) {
+			Node<T> pred = update[i];
+			Node<T> succ = pred.next[i];
+			x.next[i] = succ;
+			x.prev[i] = pred;
+			pred.next[i] = x;
+			succ.prev[i] = x;
+		}
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Unlinks the specified node from every level it takes part in and
+	 * returns its value.
+	 *
+	 * @param x
+	 *            the node to remove
+	 * @return the value of the removed node
+	 */
+	private T unlink(Node<T> x) {
+		for (int i = 0; i < x.next.length; i++) {
+			Node<T> pred = x.prev[i];
+			Node<T> succ = x.next[i];
+			pred.next[i] = succ;
+			succ.prev[i] = pred;
+			x.next[i] = null;
+			x.prev[i] = null;
+		}
+		while (level > 1 && head.next[level - 1] == tail) {
+			level--;
+		}
+		size--;
+		modCount++;
+		T removed = x.val;
+		x.val = null;
+		return removed;
+	}
+
+	/**
+	 * Returns a random node height, where each additional level is kept with
+	 * probability <code>1/4</code>.
+	 *
+	 * @return a height between one and {@link #MAX_LEVEL}
+	 */
+	private int randomLevel() {
+		// xorshift32: cheap, and never yields zero from a non-zero seed.
+		int x = seed;
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		seed = x;
+		int h = 1;
+		while ((x & 3) == 0 && h < MAX_LEVEL) {
+			h++;
+			x >>>= 2;
+		}
+		return h;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T>[] newNodeArray(int length) {
+		return (Node<T>[]) new Node<?>[length];
+	}
+
+	/**
+	 * Represents a node that takes part in one or more levels of the list.
+	 */
+	private static class Node<T> {
+		/**
+		 * The nodes following this node, one per level.
+		 */
+		final Node<T>[] next;
+
+		/**
+		 * The nodes preceding this node, one per level.
+		 */
+		final Node<T>[] prev;
+
+		/**
+		 * The value of this node.
+		 */
+		T val;
+
+		/**
+		 * Constructs a new node containing the specified value.
+		 *
+		 * @param val
+		 *            the value to associate to this node
+		 * @param height
+		 *            the number of levels this node takes part in
+		 */
+		Node(T val, int height) {
+			this.val = val;
+			this.next = newNodeArray(height);
+			this.prev = newNodeArray(height);
+		}
+	}
+}
@@ -0,0 +1,826 @@
+/*
+ * File: UnrolledLinkedList.java
+ */
+package aghannam.list;
+
+/**
+ * Implements an unbounded unrolled doubly-linked list: instead of one node per
+ * value, each node (a <i>chunk</i>) holds a small array of consecutive values.
+ * This drops the per-value overhead from a whole node object to a single array
+ * slot and turns traversals such as {@link #contains(Object)},
+ * {@link #getAt(int)}, {@link #reverse()} and {@link #toString()} into
+ * sequential array scans, with a pointer dereference only once per chunk.
+ * <p>
+ * Values inside a chunk occupy a contiguous range that may start anywhere in
+ * its array, so that adding or removing at either end of the list never moves
+ * other values. A full chunk is split in half when a value has to be added to
+ * it, and sparse chunks are merged with a neighbour after a removal from the
+ * middle of the list.
+ *
+ * @author Ahmed Ghannam
+ *
+ */
+public class UnrolledLinkedList<T> {
+	/**
+	 * The number of values each chunk holds unless a capacity is specified.
+	 */
+	public static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+	private final int capacity;
+	private Chunk head;
+	private Chunk tail;
+	private int size = 0;
+
+	/*
+	 * Results of the last search, reused to avoid returning a pair.
+	 */
+	private Chunk found;
+	private int foundIndex;
+
+	/**
+	 * Constructs a new unrolled list instance without any values, using the
+	 * default chunk capacity.
+	 */
+	public UnrolledLinkedList() {
+		this(DEFAULT_CHUNK_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new unrolled list instance without any values, whose chunks
+	 * hold up to the specified number of values each.
+	 *
+	 * @param chunkCapacity
+	 *            the number of values per chunk, at least two
+	 * @throws IllegalArgumentException
+	 *             if the chunk capacity is less than two
+	 */
+	public UnrolledLinkedList(int chunkCapacity) {
+		if (chunkCapacity < 2) {
+			throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+		}
+		this.capacity = chunkCapacity;
+	}
+
+	/**
+	 * Constructs a new unrolled list instance that contains the specified
+	 * value.
+	 *
+	 * @param val
+	 *            the value to be assigned to the first position of this list
+	 */
+	public UnrolledLinkedList(T val) {
+		this();
+		insert(val);
+	}
+
+	/**
+	 * Constructs a new unrolled list instance from the specified array.
+	 *
+	 * @param a
+	 *            the array whose elements are to be added to this list
+	 */
+	public UnrolledLinkedList(T[] a) {
+		this();
+		for (int i = 0; i < a.length; i++) {
+			insert(a[i]);
+		}
+	}
+
+	/**
+	 * Appends the specified value to the end of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insert(T val) {
+		if (val != null) {
+			if (tail == null || tail.count == capacity) {
+				linkChunkAfter(tail, new Chunk(0));
+			} else if (tail.start + tail.count == capacity) {
+				moveRange(tail, 0);
+			}
+			tail.vals[tail.start + tail.count] = val;
+			tail.count++;
+			size++;
+		}
+	}
+
+	/**
+	 * Adds the specified value immediately before the first occurrence of the
+	 * specified <b>before</b> value. If the target value is not found, the
+	 * list remains unchanged.
+	 *
+	 * @param before
+	 *            the value before which to add the new value
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insertBefore(T before, T val) {
+		if (before != null && val != null && findFirst(before)) {
+			insertInto(found, foundIndex, val);
+		}
+	}
+
+	/**
+	 * Appends the specified value to the beginning of the list.
+	 *
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insertFirst(T val) {
+		if (val != null) {
+			if (head == null || head.count == capacity) {
+				linkChunkAfter(null, new Chunk(capacity));
+			} else if (head.start == 0) {
+				moveRange(head, capacity - head.count);
+			}
+			head.vals[--head.start] = val;
+			head.count++;
+			size++;
+		}
+	}
+
+	/**
+	 * Adds the specified value immediately following the first occurrence of
+	 * the specified <b>after</b> value. If the target value is not found, the
+	 * list remains unchanged.
+	 *
+	 * @param after
+	 *            the value after which to add the new value
+	 * @param val
+	 *            the value to be added
+	 */
+	public void insertAfter(T after, T val) {
+		if (after != null && val != null && findFirst(after)) {
+			insertInto(found, foundIndex + 1, val);
+		}
+	}
+
+	/**
+	 * Adds the specified value at the specified index, shifting the value
+	 * currently at that index (if any) and all subsequent values one position
+	 * towards the end of the list. An index equal to the size of the list
+	 * appends the value. If the index is not valid, the list remains
+	 * unchanged.
+	 *
+	 * @param index
+	 *            the zero-based location at which to add the new value
+	 * @param val
+	 *            the value to be added to this list
+	 */
+	public void insertAt(int index, T val) {
+		if (val != null && index >= 0 && index <= size) {
+			if (index == size) {
+				insert(val);
+			} else {
+				locate(index);
+				insertInto(found, foundIndex, val);
+			}
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified value and returns it. If
+	 * the value is not found, this method returns <code>null</code>.
+	 *
+	 * @param val
+	 *            the value to remove from the list
+	 * @return the removed value
+	 */
+	public T remove(T val) {
+		if (val != null && findFirst(val)) {
+			return removeFrom(found, foundIndex);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes all occurrences of the specified value from the list.
+	 *
+	 * @param val
+	 *            the value to be removed
+	 */
+	public void removeAll(T val) {
+		if (val == null) {
+			return;
+		}
+		Chunk c = head;
+		while (c != null) {
+			Chunk next = c.next;
+			int end = c.start + c.count;
+			int kept = c.start;
+			for (int i = c.start; i < end; i++) {
+				Object v = c.vals[i];
+				if (!v.equals(val)) {
+					c.vals[kept++] = v;
+				}
+			}
+			for (int i = kept; i < end; i++) {
+				c.vals[i] = null;
+			}
+			size -= end - kept;
+			c.count = kept - c.start;
+			if (c.count == 0) {
+				unlinkChunk(c);
+			} else if (c.prev != null && c.prev.count + c.count <= capacity) {
+				merge(c.prev, c);
+			}
+			c = next;
+		}
+	}
+
+	/**
+	 * Removes the last occurrence of the specified value and returns it. If
+	 * the value is not found, this method returns <code>null</code>.
+	 *
+	 * @param val
+	 *            the value to be removed
+	 * @return the removed value
+	 */
+	public T removeLastOccurrence(T val) {
+		if (val != null && findLast(val)) {
+			return removeFrom(found, foundIndex);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the value at the beginning of the list and returns it. If the
+	 * list is empty, this method returns <code>null</code>.
+	 *
+	 * @return the removed value
+	 */
+	public T removeFirst() {
+		if (isEmpty()) {
+			return null;
+		}
+		Chunk c = head;
+		T removed = c.get(c.start);
+		c.vals[c.start++] = null;
+		if (--c.count == 0) {
+			unlinkChunk(c);
+		}
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Removes the value at the end of the list and returns it. If the list is
+	 * empty, this method returns <code>null</code>.
+	 *
+	 * @return the removed value
+	 */
+	public T removeLast() {
+		if (isEmpty()) {
+			return null;
+		}
+		Chunk c = tail;
+		int last = c.start + c.count - 1;
+		T removed = c.get(last);
+		c.vals[last] = null;
+		if (--c.count == 0) {
+			unlinkChunk(c);
+		}
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Removes the value at the specified index and returns it. If the list is
+	 * empty or the specified index is not valid, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the value to remove
+	 * @return the removed value
+	 */
+	public T removeAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		locate(index);
+		return removeFrom(found, foundIndex);
+	}
+
+	/**
+	 * Returns the value preceding the first occurrence of the specified value.
+	 * If the value is not found, or it is the first value, this method returns
+	 * <code>null</code>.
+	 *
+	 * @param val
+	 *            the value before which to return
+	 * @return the value before the specified value
+	 */
+	public T getBefore(T val) {
+		if (val != null && findFirst(val)) {
+			if (foundIndex > found.start) {
+				return found.get(foundIndex - 1);
+			}
+			Chunk prev = found.prev;
+			return prev == null ? null : prev.get(prev.start + prev.count - 1);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value at the beginning of this list, without removing it.
+	 *
+	 * @return the first value in this list
+	 */
+	public T getFirst() {
+		return isEmpty() ? null : head.get(head.start);
+	}
+
+	/**
+	 * Returns the value following the first occurrence of the specified
+	 * value. If the value is not found, or it is the last value, this method
+	 * returns <code>null</code>.
+	 *
+	 * @param val
+	 *            the value after which to return
+	 * @return the value after the specified value
+	 */
+	public T getAfter(T val) {
+		if (val != null && findFirst(val)) {
+			if (foundIndex < found.start + found.count - 1) {
+				return found.get(foundIndex + 1);
+			}
+			Chunk next = found.next;
+			return next == null ? null : next.get(next.start);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the middle value in the list, without removing it.
+	 *
+	 * @return the middle value in this list
+	 */
+	public T getMiddle() {
+		return getAt((size - 1) / 2);
+	}
+
+	/**
+	 * Returns the value at the end of the list, without removing it.
+	 *
+	 * @return the last value in the list
+	 */
+	public T getLast() {
+		return isEmpty() ? null : tail.get(tail.start + tail.count - 1);
+	}
+
+	/**
+	 * Returns the value at the specified index. If the list is empty or the
+	 * specified index is not valid, this method returns <code>null</code>.
+	 * Whole chunks are skipped from whichever end is closer to the index.
+	 *
+	 * @param index
+	 *            the zero-based location of the desired value in this list
+	 * @return the value at the specified index or location
+	 */
+	public T getAt(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		locate(index);
+		return found.get(foundIndex);
+	}
+
+	/**
+	 * Replaces the value at the specified index with the specified value and
+	 * returns the value it previously held. If the specified index is not
+	 * valid, no changes are made and this method returns <code>null</code>.
+	 *
+	 * @param index
+	 *            the zero-based location of the value to be updated
+	 * @param val
+	 *            the new value
+	 * @return the previous value at the specified index
+	 */
+	public T setAt(int index, T val) {
+		if (val == null || index < 0 || index >= size) {
+			return null;
+		}
+		locate(index);
+		T previous = found.get(foundIndex);
+		found.vals[foundIndex] = val;
+		return previous;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list contains the specified
+	 * value.
+	 *
+	 * @param val
+	 *            the value to search for in this list
+	 * @return <code>true</code> if the list contains the target value
+	 *         <code>false</code> otherwise
+	 */
+	public boolean contains(T val) {
+		return val != null && findFirst(val);
+	}
+
+	/**
+	 * Replaces the first occurrence of the specified <b>target</b> value with
+	 * the specified <b>replacement</b> value. If the target value is not
+	 * found, no changes are made to the list.
+	 *
+	 * @param target
+	 *            the value to be updated
+	 * @param replacement
+	 *            the new value to assign
+	 */
+	public void replace(T target, T replacement) {
+		if (target != null && replacement != null && findFirst(target)) {
+			found.vals[foundIndex] = replacement;
+		}
+	}
+
+	/**
+	 * Replaces all occurrences of the specified <b>target</b> value with the
+	 * specified <b>replacement</b> value.
+	 *
+	 * @param target
+	 *            the value to be updated
+	 * @param replacement
+	 *            the new value to assign
+	 */
+	public void replaceAll(T target, T replacement) {
+		if (target != null && replacement != null) {
+			for (Chunk c = head; c != null; c = c.next) {
+				int end = c.start + c.count;
+				for (int i = c.start; i < end; i++) {
+					if (c.vals[i].equals(target)) {
+						c.vals[i] = replacement;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reverses the order of all values in the list.
+	 */
+	public void reverse() {
+		Chunk temp = head;
+		head = tail;
+		tail = temp;
+
+		Chunk c = head;
+		while (c != null) {
+			int lo = c.start;
+			int hi = c.start + c.count - 1;
+			while (lo < hi) {
+				Object v = c.vals[lo];
+				c.vals[lo++] = c.vals[hi];
+				c.vals[hi--] = v;
+			}
+			temp = c.next;
+			c.next = c.prev;
+			c.prev = temp;
+			c = c.next;
+		}
+	}
+
+	/**
+	 * Clears the list of all values and resets its size to zero.
+	 */
+	public void clear() {
+		Chunk c = head;
+		while (c != null) {
+			Chunk next = c.next;
+			c.next = null;
+			c.prev = null;
+			c = next;
+		}
+		head = null;
+		tail = null;
+		found = null;
+		size = 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the list is empty.
+	 *
+	 * @return <code>true</code> if this list is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * @return the number of values currently in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a string representation of the list and its values.
+	 *
+	 * @return a string representation of the current list
+	 */
+	@Override
+	public String toString() {
+		if (!isEmpty()) {
+			StringBuilder list = new StringBuilder();
+			list.append("[");
+			for (Chunk c = head; c != null; c = c.next) {
+				int end = c.start + c.count;
+				for (int i = c.start; i < end; i++) {
+					list.append(c.vals[i]).append(", ");
+				}
+			}
+			list.setLength(list.length() - 2);
+			list.append("]");
+			return list.toString();
+		}
+		return "[]";
+	}
+
+	/**
+	 * Finds the first occurrence of the specified value, leaving its position
+	 * in {@link #found} and {@link #foundIndex}.
+	 *
+	 * @param val
+	 *            the value to search for
+	 * @return <code>true</code> if the value was found
+	 */
+	private boolean findFirst(Object val) {
+		for (Chunk c = head; c != null; c = c.next) {
+			int end = c.start + c.count;
+			for (int i = c.start; i < end; i++) {
+				if (c.vals[i].equals(val)) {
+					found = c;
+					foundIndex = i;
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the last occurrence of the specified value, leaving its position
+	 * in {@link #found} and {@link #foundIndex}.
+	 *
+	 * @param val
+	 *            the value to search for
+	 * @return <code>true</code> if the value was found
+	 */
+	private boolean findLast(Object val) {
+		for (Chunk c = tail; c != null; c = c.prev) {
+			for (int i = c.start + c.count - 1; i >= c.start; i--) {
+				if (c.vals[i].equals(val)) {
+					found = c;
+					foundIndex = i;
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the chunk and array slot of the specified index, walking from
+	 * whichever end of the list is closer. The index must be valid.
+	 *
+	 * @param index
+	 *            the zero-based location to find
+	 */
+	private void locate(int index) {
+		Chunk c;
+		if (index < (size >> 1)) {
+			c = head;
+			while (index >= c.count) {
+				index -= c.count;
+				c = c.next;
+			}
+		} else {
+			c = tail;
+			int back = size - 1 - index;
+			while (back >= c.count) {
+				back -= c.count;
+				c = c.prev;
+			}
+			index = c.count - 1 - back;
+		}
+		found = c;
+		foundIndex = c.start + index;
+	}
+
+	/**
+	 * Inserts a value into the specified chunk in front of the specified array
+	 * slot, which may be one past the chunk's last value. A full chunk is
+	 * first split in half.
+	 *
+	 * @param c
+	 *            the chunk to insert into
+	 * @param i
+	 *            the array slot the new value will occupy
+	 * @param val
+	 *            the value to insert
+	 */
+	private void insertInto(Chunk c, int i, T val) {
+		if (c.count == capacity) {
+			// A full chunk always starts at slot zero.
+			Chunk n = new Chunk(0);
+			int half = capacity / 2;
+			int keep = capacity - half;
+			System.arraycopy(c.vals, keep, n.vals, 0, half);
+			for (int j = keep; j < capacity; j++) {
+				c.vals[j] = null;
+			}
+			n.count = half;
+			c.count = keep;
+			linkChunkAfter(c, n);
+			if (i > keep) {
+				c = n;
+				i -= keep;
+			}
+		}
+		int end = c.start + c.count;
+		if (end < capacity && (c.start == 0 || i - c.start >= end - i)) {
+			System.arraycopy(c.vals, i, c.vals, i + 1, end - i);
+		} else {
+			System.arraycopy(c.vals, c.start, c.vals, c.start - 1, i - c.start);
+			c.start--;
+			i--;
+		}
+		c.vals[i] = val;
+		c.count++;
+		size++;
+	}
+
+	/**
+	 * Removes the value at the specified array slot of the specified chunk,
+	 * shifting whichever side of the chunk is shorter, then merges the chunk
+	 * with a neighbour if it has become sparse.
+	 *
+	 * @param c
+	 *            the chunk to remove from
+	 * @param i
+	 *            the array slot of the value to remove
+	 * @return the removed value
+	 */
+	private T removeFrom(Chunk c, int i) {
+		T removed = c.get(i);
+		int end = c.start + c.count;
+		if (i - c.start < end - 1 - i) {
+			System.arraycopy(c.vals, c.start, c.vals, c.start + 1, i - c.start);
+			c.vals[c.start++] = null;
+		} else {
+			System.arraycopy(c.vals, i + 1, c.vals, i, end - 1 - i);
+			c.vals[end - 1] = null;
+		}
+		c.count--;
+		size--;
+		if (c.count == 0) {
+			unlinkChunk(c);
+		} else if (c.count < capacity / 2) {
+			if (c.next != null && c.count + c.next.count <= capacity) {
+				merge(c, c.next);
+			} else if (c.prev != null && c.prev.count + c.count <= capacity) {
+				merge(c.prev, c);
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Moves the values of chunk <b>b</b> to the end of chunk <b>a</b>, which
+	 * directly precedes it, and unlinks <b>b</b>. Their combined size must not
+	 * exceed the chunk capacity.
+	 *
+	 * @param a
+	 *            the chunk that receives the values
+	 * @param b
+	 *            the chunk that follows it
+	 */
+	private void merge(Chunk a, Chunk b) {
+		if (a.start + a.count + b.count > capacity) {
+			moveRange(a, 0);
+		}
+		System.arraycopy(b.vals, b.start, a.vals, a.start + a.count, b.count);
+		a.count += b.count;
+		unlinkChunk(b);
+	}
+
+	/**
+	 * Moves the values of a chunk so that they start at the specified slot.
+	 *
+	 * @param c
+	 *            the chunk whose values to move
+	 * @param start
+	 *            the new first slot
+	 */
+	private void moveRange(Chunk c, int start) {
+		System.arraycopy(c.vals, c.start, c.vals, start, c.count);
+		if (start < c.start) {
+			for (int i = Math.max(start + c.count, c.start); i < c.start + c.count; i++) {
+				c.vals[i] = null;
+			}
+		} else {
+			for (int i = c.start; i < Math.min(start, c.start + c.count); i++) {
+				c.vals[i] = null;
+			}
+		}
+		c.start = start;
+	}
+
+	/**
+	 * Links a new chunk after the specified chunk, or at the beginning of the
+	 * list if it is <code>null</code>.
+	 *
+	 * @param c
+	 *            the chunk to link after, or <code>null</code>
+	 * @param n
+	 *            the chunk to link
+	 */
+	private void linkChunkAfter(Chunk c, Chunk n) {
+		Chunk next = c == null ? head : c.next;
+		n.prev = c;
+		n.next = next;
+		if (c == null) {
+			head = n;
+		} else {
+			c.next = n;
+		}
+		if (next == null) {
+			tail = n;
+		} else {
+			next.prev = n;
+		}
+	}
+
+	/**
+	 * Unlinks the specified chunk from the chain of chunks.
+	 *
+	 * @param c
+	 *            the chunk to unlink
+	 */
+	private void unlinkChunk(Chunk c) {
+		if (c.prev == null) {
+			head = c.next;
+		} else {
+			c.prev.next = c.next;
+		}
+		if (c.next == null) {
+			tail = c.prev;
+		} else {
+			c.next.prev = c.prev;
+		}
+		c.next = null;
+		c.prev = null;
+	}
+
+	/**
+	 * Represents a node of the list holding a contiguous run of values.
+	 */
+	private class Chunk {
+		/**
+		 * The chunk following this chunk.
+		 */
+		Chunk next;
+
+		/**
+		 * The chunk preceding this chunk.
+		 */
+		Chunk prev;
+
+		/**
+		 * The values of this chunk, stored in slots
+		 * <code>[start, start + count)</code>.
+		 */
+		final Object[] vals = new Object[capacity];
+
+		/**
+		 * The slot of the first value.
+		 */
+		int start;
+
+		/**
+		 * The number of values in this chunk.
+		 */
+		int count;
+
+		/**
+		 * Constructs a new empty chunk whose values will start at the
+		 * specified slot.
+		 *
+		 * @param start
+		 *            the slot of the first value to be stored
+		 */
+		Chunk(int start) {
+			this.start = start;
+		}
+
+		@SuppressWarnings("unchecked")
+		T get(int i) {
+			return (T) vals[i];
+		}
+	}
+}
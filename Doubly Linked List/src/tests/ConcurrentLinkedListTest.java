@@ -0,0 +1,154 @@
+/*
+ * File: ConcurrentLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.ConcurrentLinkedList;
+
+/**
+ * This class is a collection of unit tests for the concurrent list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class ConcurrentLinkedListTest {
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private ConcurrentLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new ConcurrentLinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ConcurrentLinkedList#insert(java.lang.Object)}
+	 * and {@link aghannam.list.ConcurrentLinkedList#insertFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsert() {
+		list.insert(11);
+		list.insertFirst(0);
+		list.insert(null);
+		assertEquals(12, list.size());
+		assertEquals(Integer.valueOf(0), list.getFirst());
+		assertEquals(Integer.valueOf(11), list.getLast());
+		assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ConcurrentLinkedList#removeFirst()}
+	 * and {@link aghannam.list.ConcurrentLinkedList#removeLast()}.
+	 */
+	@Test
+	public void testRemoveFirstAndLast() {
+		assertEquals(Integer.valueOf(1), list.removeFirst());
+		assertEquals(Integer.valueOf(10), list.removeLast());
+		assertEquals(8, list.size());
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(0, list.size());
+		assertNull(list.removeFirst());
+		assertNull(list.removeLast());
+		assertNull(list.getFirst());
+		assertNull(list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ConcurrentLinkedList#contains(java.lang.Object)}.
+	 */
+	@Test
+	public void testContains() {
+		assertTrue(list.contains(5));
+		assertFalse(list.contains(11));
+		assertFalse(list.contains(null));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ConcurrentLinkedList#iterator()}.
+	 */
+	@Test
+	public void testIterator() {
+		int expected = 1;
+		for (Integer val : list) {
+			assertEquals(Integer.valueOf(expected++), val);
+		}
+		Iterator<Integer> it = list.iterator();
+		it.next();
+		try {
+			it.remove();
+			fail("Expected UnsupportedOperationException");
+		} catch (UnsupportedOperationException e) {
+		}
+	}
+
+	/**
+	 * Has producers insert at both ends while consumers remove from both ends,
+	 * then checks that every value came out exactly once.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testConcurrentProducersAndConsumers() throws Exception {
+		final int threads = 4;
+		final int perThread = 50000;
+		ConcurrentLinkedList<Integer> shared = new ConcurrentLinkedList<>();
+		ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(2 * threads);
+		try {
+			Future<?>[] tasks = new Future<?>[2 * threads];
+			for (int t = 0; t < threads; t++) {
+				final int base = t * perThread;
+				tasks[t] = pool.submit(() -> {
+					start.await();
+					for (int i = 0; i < perThread; i++) {
+						if ((i & 1) == 0) {
+							shared.insert(base + i);
+						} else {
+							shared.insertFirst(base + i);
+						}
+					}
+					return null;
+				});
+				final boolean fromFront = (t & 1) == 0;
+				tasks[threads + t] = pool.submit(() -> {
+					start.await();
+					for (int taken = 0; taken < perThread;) {
+						Integer val = fromFront ? shared.removeFirst() : shared.removeLast();
+						if (val != null) {
+							assertNull(seen.put(val, Boolean.TRUE));
+							taken++;
+						}
+					}
+					return null;
+				});
+			}
+			start.countDown();
+			for (Future<?> task : tasks) {
+				task.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		assertEquals(threads * perThread, seen.size());
+		assertTrue(shared.isEmpty());
+		assertEquals(0, shared.size());
+	}
+}
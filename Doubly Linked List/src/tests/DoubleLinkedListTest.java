@@ -0,0 +1,76 @@
+/*
+ * File: DoubleLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.DoubleLinkedList;
+
+/**
+ * This class is a collection of unit tests for the primitive double list
+ * class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class DoubleLinkedListTest {
+
+	private double[] data = {0.5, 1.5, 2.5, Double.NaN, 0.0};
+
+	private DoubleLinkedList list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new DoubleLinkedList(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.DoubleLinkedList#insert(double)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertArrayEquals(data, list.toArray(), 0.0);
+		list.insert(3.5);
+		assertEquals(3.5, list.getLast(), 0.0);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.DoubleLinkedList#contains(double)},
+	 * which follows {@link Double#equals(Object)}.
+	 */
+	@Test
+	public void testContainsUsesDoubleEquality() {
+		assertTrue(list.contains(Double.NaN));
+		assertTrue(list.contains(0.0));
+		assertFalse(list.contains(-0.0));
+		assertTrue(list.remove(Double.NaN));
+		assertFalse(list.contains(Double.NaN));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.DoubleLinkedList#replaceAll(double, double)}.
+	 */
+	@Test
+	public void testReplaceAll() {
+		list.insert(0.5);
+		list.replaceAll(0.5, 9.0);
+		assertEquals("[9.0, 1.5, 2.5, NaN, 0.0, 9.0]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.DoubleLinkedList#insertAfter(double, double)}.
+	 */
+	@Test
+	public void testInsertAfter() {
+		list.insertAfter(1.5, 2.0);
+		assertEquals(2.0, list.getAfter(1.5), 0.0);
+		assertEquals(2.0, list.getBefore(2.5), 0.0);
+		assertEquals(6, list.size());
+	}
+}
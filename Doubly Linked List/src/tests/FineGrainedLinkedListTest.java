@@ -0,0 +1,184 @@
+/*
+ * File: FineGrainedLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.FineGrainedLinkedList;
+
+/**
+ * This class is a collection of unit tests for the fine-grained list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class FineGrainedLinkedListTest {
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private FineGrainedLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new FineGrainedLinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.FineGrainedLinkedList#insert(java.lang.Object)}
+	 * and {@link aghannam.list.FineGrainedLinkedList#insertFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsert() {
+		list.insert(11);
+		list.insertFirst(0);
+		list.insert(null);
+		assertEquals(12, list.size());
+		assertEquals(Integer.valueOf(0), list.getFirst());
+		assertEquals(Integer.valueOf(11), list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.FineGrainedLinkedList#insertBefore(java.lang.Object, java.lang.Object)}
+	 * and {@link aghannam.list.FineGrainedLinkedList#insertAfter(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertBeforeAndAfter() {
+		list.insertBefore(1, 0);
+		list.insertAfter(10, 11);
+		list.insertBefore(5, 15);
+		list.insertAfter(5, 16);
+		list.insertAfter(100, 0);
+		assertEquals("[0, 1, 2, 3, 4, 15, 5, 16, 6, 7, 8, 9, 10, 11]", list.toString());
+		assertEquals(14, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.FineGrainedLinkedList#remove(java.lang.Object)},
+	 * {@link aghannam.list.FineGrainedLinkedList#removeFirst()} and
+	 * {@link aghannam.list.FineGrainedLinkedList#removeLast()}.
+	 */
+	@Test
+	public void testRemove() {
+		assertEquals(Integer.valueOf(5), list.remove(5));
+		assertNull(list.remove(5));
+		assertEquals(Integer.valueOf(1), list.removeFirst());
+		assertEquals(Integer.valueOf(10), list.removeLast());
+		assertEquals("[2, 3, 4, 6, 7, 8, 9]", list.toString());
+		while (!list.isEmpty()) {
+			list.removeLast();
+		}
+		assertNull(list.removeFirst());
+		assertNull(list.removeLast());
+		assertNull(list.getFirst());
+		assertNull(list.getLast());
+		assertEquals(0, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.FineGrainedLinkedList#replace(java.lang.Object, java.lang.Object)},
+	 * {@link aghannam.list.FineGrainedLinkedList#contains(java.lang.Object)} and
+	 * {@link aghannam.list.FineGrainedLinkedList#getAt(int)}.
+	 */
+	@Test
+	public void testReplaceAndRead() {
+		list.replace(5, 50);
+		assertFalse(list.contains(5));
+		assertTrue(list.contains(50));
+		assertEquals(Integer.valueOf(50), list.getAt(4));
+		assertEquals(Integer.valueOf(10), list.getAt(9));
+		assertNull(list.getAt(10));
+		assertNull(list.getAt(-1));
+	}
+
+	/**
+	 * Has every thread edit its own region of one list at random, then checks
+	 * that the list is the concatenation of the regions each thread expects.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testConcurrentRegionEdits() throws Exception {
+		final int threads = 4;
+		final int regionSize = 50;
+		FineGrainedLinkedList<Integer> shared = new FineGrainedLinkedList<>();
+		List<List<Integer>> regions = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			List<Integer> region = new ArrayList<>();
+			for (int i = 0; i < regionSize; i++) {
+				region.add(t * 1000000 + i);
+				shared.insert(t * 1000000 + i);
+			}
+			regions.add(region);
+		}
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				final int base = t * 1000000;
+				final List<Integer> region = regions.get(t);
+				tasks.add(pool.submit(() -> {
+					Random random = new Random(base);
+					int next = regionSize;
+					start.await();
+					for (int step = 0; step < 5000; step++) {
+						// The first value of every region is never removed.
+						int i = random.nextInt(region.size());
+						Integer val = region.get(i);
+						switch (random.nextInt(4)) {
+						case 0:
+							region.add(i + 1, base + next);
+							shared.insertAfter(val, base + next++);
+							break;
+						case 1:
+							if (i > 0) {
+								region.add(i, base + next);
+								shared.insertBefore(val, base + next++);
+							}
+							break;
+						case 2:
+							if (i > 0) {
+								region.remove(i);
+								assertEquals(val, shared.remove(val));
+							}
+							break;
+						default:
+							region.set(i, base + next);
+							shared.replace(val, base + next++);
+							break;
+						}
+						assertTrue(shared.contains(region.get(0)));
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> task : tasks) {
+				task.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		List<Integer> expected = new ArrayList<>();
+		for (List<Integer> region : regions) {
+			expected.addAll(region);
+		}
+		assertEquals(expected.toString(), shared.toString());
+		assertEquals(expected.size(), shared.size());
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * File: HashedLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.HashedLinkedList;
+
+/**
+ * This class is a collection of unit tests for the hashed list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class HashedLinkedListTest {
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private HashedLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new HashedLinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#insertBefore(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertBefore() {
+		list.insertBefore(5, 15);
+		assertEquals(Integer.valueOf(15), list.getBefore(5));
+		list.insertBefore(1, 0);
+		assertEquals(Integer.valueOf(0), list.getFirst());
+		list.insertBefore(100, 0);
+		assertEquals(12, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#insertAfter(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertAfter() {
+		list.insertAfter(5, 15);
+		assertEquals(Integer.valueOf(15), list.getAfter(5));
+		list.insertAfter(10, 11);
+		assertEquals(Integer.valueOf(11), list.getLast());
+		assertEquals(12, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#remove(java.lang.Object)}
+	 * with duplicate values.
+	 */
+	@Test
+	public void testRemoveDuplicates() {
+		list.insertAfter(3, 7);
+		list.insert(7);
+		assertEquals(3, list.count(7));
+		assertEquals(Integer.valueOf(7), list.remove(7));
+		assertEquals(Integer.valueOf(4), list.getAfter(3));
+		assertEquals(Integer.valueOf(6), list.getBefore(7));
+		assertEquals(Integer.valueOf(7), list.removeLastOccurrence(7));
+		assertEquals(Integer.valueOf(10), list.getLast());
+		assertEquals(1, list.count(7));
+		assertNull(list.remove(100));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#removeAll(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemoveAll() {
+		list.insertFirst(5);
+		list.insertAfter(8, 5);
+		list.insert(5);
+		list.removeAll(5);
+		assertFalse(list.contains(5));
+		assertEquals(9, list.size());
+		assertEquals("[1, 2, 3, 4, 6, 7, 8, 9, 10]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#replace(java.lang.Object, java.lang.Object)}
+	 * and {@link aghannam.list.HashedLinkedList#replaceAll(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testReplace() {
+		list.replace(5, 33);
+		assertFalse(list.contains(5));
+		assertEquals(Integer.valueOf(33), list.getMiddle());
+		list.replaceAll(2, 9);
+		assertEquals(2, list.count(9));
+		assertEquals(Integer.valueOf(9), list.removeLastOccurrence(9));
+		assertEquals(Integer.valueOf(10), list.getAfter(8));
+		assertEquals(Integer.valueOf(9), list.remove(9));
+		assertEquals(Integer.valueOf(3), list.getAfter(1));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#reverse()}.
+	 */
+	@Test
+	public void testReverse() {
+		list.insert(1);
+		list.reverse();
+		assertEquals("[1, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1]", list.toString());
+		assertEquals(Integer.valueOf(10), list.getAfter(1));
+		assertEquals(Integer.valueOf(1), list.removeLastOccurrence(1));
+		assertEquals(Integer.valueOf(2), list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.HashedLinkedList#clear()}.
+	 */
+	@Test
+	public void testClear() {
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.contains(1));
+		assertEquals("[]", list.toString());
+		list.insertBefore(1, 2);
+		list.insertAfter(1, 2);
+		assertTrue(list.isEmpty());
+	}
+
+	/**
+	 * Runs a long random mix of value-keyed operations with many duplicates
+	 * against a {@link java.util.List}, checking the index stays in step.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(7);
+		List<Integer> expected = new ArrayList<>();
+		HashedLinkedList<Integer> actual = new HashedLinkedList<>();
+		for (int step = 0; step < 20000; step++) {
+			Integer a = random.nextInt(20);
+			Integer b = random.nextInt(20);
+			switch (random.nextInt(9)) {
+			case 0:
+				expected.add(a);
+				actual.insert(a);
+				break;
+			case 1:
+				expected.add(0, a);
+				actual.insertFirst(a);
+				break;
+			case 2: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.add(i, b);
+				}
+				actual.insertBefore(a, b);
+				break;
+			}
+			case 3: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.add(i + 1, b);
+				}
+				actual.insertAfter(a, b);
+				break;
+			}
+			case 4:
+				assertEquals(expected.remove(a) ? a : null, actual.remove(a));
+				break;
+			case 5: {
+				int i = expected.lastIndexOf(a);
+				if (i >= 0) {
+					expected.remove(i);
+				}
+				assertEquals(i >= 0 ? a : null, actual.removeLastOccurrence(a));
+				break;
+			}
+			case 6: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.set(i, b);
+				}
+				actual.replace(a, b);
+				break;
+			}
+			case 7:
+				if (random.nextInt(10) == 0) {
+					Collections.replaceAll(expected, a, b);
+					actual.replaceAll(a, b);
+				} else {
+					Collections.reverse(expected);
+					actual.reverse();
+				}
+				break;
+			default:
+				expected.removeAll(Collections.singleton(a));
+				actual.removeAll(a);
+				break;
+			}
+			assertEquals(expected.size(), actual.size());
+			assertEquals(expected.contains(b), actual.contains(b));
+			assertEquals(Collections.frequency(expected, b), actual.count(b));
+		}
+		assertEquals(expected.toString(), actual.toString());
+	}
+}
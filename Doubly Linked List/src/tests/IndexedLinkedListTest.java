@@ -0,0 +1,194 @@
+/*
+ * File: IndexedLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.IndexedLinkedList;
+
+/**
+ * This class is a collection of unit tests for the indexed list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class IndexedLinkedListTest {
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private IndexedLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new IndexedLinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#insert(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertEquals(10, list.size());
+		assertArrayEquals(data, toArray(list));
+		list.insert(11);
+		assertEquals(Integer.valueOf(11), list.getLast());
+		assertEquals(Integer.valueOf(11), list.getAt(10));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#insertFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertFirst() {
+		list.insertFirst(0);
+		list.insertFirst(-1);
+		assertEquals(12, list.size());
+		assertEquals(Integer.valueOf(-1), list.getFirst());
+		assertEquals(Integer.valueOf(0), list.getAt(1));
+		assertEquals(Integer.valueOf(10), list.getAt(11));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#insertAt(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertAt() {
+		list.insertAt(5, 55);
+		assertEquals(Integer.valueOf(55), list.getAt(5));
+		assertEquals(Integer.valueOf(6), list.getAt(6));
+		list.insertAt(11, 11);
+		assertEquals(Integer.valueOf(11), list.getLast());
+		list.insertAt(13, 100);
+		assertEquals(12, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#removeAt(int)}.
+	 */
+	@Test
+	public void testRemoveAt() {
+		assertEquals(Integer.valueOf(1), list.removeAt(0));
+		assertEquals(Integer.valueOf(10), list.removeAt(8));
+		assertEquals(Integer.valueOf(5), list.removeAt(3));
+		assertArrayEquals(new Integer[] {2, 3, 4, 6, 7, 8, 9}, toArray(list));
+		assertNull(list.removeAt(7));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#remove(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemove() {
+		assertEquals(Integer.valueOf(8), list.remove(8));
+		assertNull(list.remove(100));
+		assertEquals(9, list.size());
+		assertFalse(list.contains(8));
+		assertEquals(Integer.valueOf(9), list.getAt(7));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#removeFirst()} and
+	 * {@link aghannam.list.IndexedLinkedList#removeLast()}.
+	 */
+	@Test
+	public void testRemoveFirstAndLast() {
+		assertEquals(Integer.valueOf(1), list.removeFirst());
+		assertEquals(Integer.valueOf(10), list.removeLast());
+		assertEquals(8, list.size());
+		while (!list.isEmpty()) {
+			list.removeLast();
+		}
+		assertNull(list.removeFirst());
+		assertNull(list.removeLast());
+		assertEquals("[]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#getMiddle()}.
+	 */
+	@Test
+	public void testGetMiddle() {
+		assertEquals(Integer.valueOf(5), list.getMiddle());
+		list.insert(11);
+		assertEquals(Integer.valueOf(6), list.getMiddle());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#setAt(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testSetAt() {
+		assertEquals(Integer.valueOf(4), list.setAt(3, 40));
+		assertEquals(Integer.valueOf(40), list.getAt(3));
+		assertNull(list.setAt(10, 0));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IndexedLinkedList#clear()}.
+	 */
+	@Test
+	public void testClear() {
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertNull(list.getAt(0));
+		list.insert(1);
+		assertEquals(Integer.valueOf(1), list.getAt(0));
+	}
+
+	/**
+	 * Runs a long random mix of operations against an {@link ArrayList} so
+	 * that the span bookkeeping is exercised at many levels.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(42);
+		List<Integer> expected = new ArrayList<>();
+		IndexedLinkedList<Integer> actual = new IndexedLinkedList<>();
+		for (int step = 0; step < 20000; step++) {
+			int op = random.nextInt(6);
+			int value = random.nextInt(1000);
+			if (op == 0) {
+				expected.add(value);
+				actual.insert(value);
+			} else if (op == 1) {
+				expected.add(0, value);
+				actual.insertFirst(value);
+			} else if (op == 2) {
+				int index = random.nextInt(expected.size() + 1);
+				expected.add(index, value);
+				actual.insertAt(index, value);
+			} else if (op == 3 && !expected.isEmpty()) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.remove(index), actual.removeAt(index));
+			} else if (op == 4 && !expected.isEmpty()) {
+				assertEquals(expected.remove(0), actual.removeFirst());
+			} else if (op == 5 && !expected.isEmpty()) {
+				assertEquals(expected.remove(expected.size() - 1), actual.removeLast());
+			}
+			assertEquals(expected.size(), actual.size());
+			if (!expected.isEmpty()) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.get(index), actual.getAt(index));
+			}
+		}
+		assertArrayEquals(expected.toArray(new Integer[0]), toArray(actual));
+	}
+
+	private Integer[] toArray(IndexedLinkedList<Integer> l) {
+		Integer[] a = new Integer[l.size()];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = l.getAt(i);
+		}
+		return a;
+	}
+}
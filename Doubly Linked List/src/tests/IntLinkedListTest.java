@@ -0,0 +1,236 @@
+/*
+ * File: IntLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.IntLinkedList;
+
+/**
+ * This class is a collection of unit tests for the primitive int list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class IntLinkedListTest {
+
+	private int[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private IntLinkedList list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new IntLinkedList(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#insert(int)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertEquals(10, list.size());
+		assertArrayEquals(data, list.toArray());
+		list.insert(11);
+		assertEquals(11, list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#insertBefore(int, int)}
+	 * and {@link aghannam.list.IntLinkedList#insertAfter(int, int)}.
+	 */
+	@Test
+	public void testInsertBeforeAndAfter() {
+		list.insertBefore(5, 15);
+		list.insertAfter(5, 16);
+		assertEquals(15, list.getBefore(5));
+		assertEquals(16, list.getAfter(5));
+		list.insertBefore(1, 0);
+		list.insertAfter(10, 11);
+		list.insertAfter(100, 0);
+		assertEquals("[0, 1, 2, 3, 4, 15, 5, 16, 6, 7, 8, 9, 10, 11]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#insertFirst(int)}.
+	 */
+	@Test
+	public void testInsertFirst() {
+		list.insertFirst(0);
+		assertEquals(0, list.getFirst());
+		assertEquals(11, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#remove(int)} and
+	 * {@link aghannam.list.IntLinkedList#removeLastOccurrence(int)}.
+	 */
+	@Test
+	public void testRemove() {
+		list.insert(5);
+		assertTrue(list.remove(5));
+		assertEquals(6, list.getAfter(4));
+		assertTrue(list.removeLastOccurrence(5));
+		assertFalse(list.contains(5));
+		assertFalse(list.remove(100));
+		assertEquals(9, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#removeAll(int)} and
+	 * {@link aghannam.list.IntLinkedList#replaceAll(int, int)}.
+	 */
+	@Test
+	public void testRemoveAllAndReplaceAll() {
+		list.replaceAll(3, 2);
+		list.replace(4, 2);
+		list.removeAll(2);
+		assertEquals("[1, 5, 6, 7, 8, 9, 10]", list.toString());
+		list.replaceAll(5, 50);
+		assertEquals(50, list.getAt(1));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#removeFirst()} and
+	 * {@link aghannam.list.IntLinkedList#removeLast()}.
+	 */
+	@Test
+	public void testRemoveFirstAndLast() {
+		assertEquals(1, list.removeFirst());
+		assertEquals(10, list.removeLast());
+		while (!list.isEmpty()) {
+			list.removeLast();
+		}
+		try {
+			list.removeFirst();
+			fail("Expected NoSuchElementException");
+		} catch (NoSuchElementException expected) {
+			// Expected.
+		}
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#getBefore(int)}.
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testGetBeforeFirst() {
+		list.getBefore(1);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#getAt(int)}.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetAtInvalid() {
+		list.getAt(10);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#getMiddle()}.
+	 */
+	@Test
+	public void testGetMiddle() {
+		assertEquals(5, list.getMiddle());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#reverse()}.
+	 */
+	@Test
+	public void testReverse() {
+		list.remove(4);
+		list.reverse();
+		assertEquals("[10, 9, 8, 7, 6, 5, 3, 2, 1]", list.toString());
+		list.insert(0);
+		list.insertFirst(11);
+		assertEquals("[11, 10, 9, 8, 7, 6, 5, 3, 2, 1, 0]", list.toString());
+		assertEquals(8, list.getAt(3));
+		assertEquals(2, list.getAt(8));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.IntLinkedList#clear()}.
+	 */
+	@Test
+	public void testClear() {
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.contains(1));
+		assertEquals("[]", list.toString());
+	}
+
+	/**
+	 * Runs a long random mix of operations against a {@link java.util.List},
+	 * exercising slot reuse through the free list.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(3);
+		List<Integer> expected = new ArrayList<>();
+		IntLinkedList actual = new IntLinkedList();
+		for (int step = 0; step < 20000; step++) {
+			int a = random.nextInt(20);
+			int b = random.nextInt(20);
+			switch (random.nextInt(9)) {
+			case 0:
+				expected.add(a);
+				actual.insert(a);
+				break;
+			case 1:
+				expected.add(0, a);
+				actual.insertFirst(a);
+				break;
+			case 2: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.add(i, b);
+				}
+				actual.insertBefore(a, b);
+				break;
+			}
+			case 3:
+				assertEquals(expected.remove(Integer.valueOf(a)), actual.remove(a));
+				break;
+			case 4: {
+				int i = expected.lastIndexOf(a);
+				if (i >= 0) {
+					expected.remove(i);
+				}
+				assertEquals(i >= 0, actual.removeLastOccurrence(a));
+				break;
+			}
+			case 5:
+				if (!expected.isEmpty()) {
+					assertEquals((int) expected.remove(0), actual.removeFirst());
+				}
+				break;
+			case 6:
+				Collections.reverse(expected);
+				actual.reverse();
+				break;
+			case 7:
+				Collections.replaceAll(expected, a, b);
+				actual.replaceAll(a, b);
+				break;
+			default:
+				expected.removeAll(Collections.singleton(a));
+				actual.removeAll(a);
+				break;
+			}
+			assertEquals(expected.size(), actual.size());
+			assertEquals(expected.contains(b), actual.contains(b));
+		}
+		assertEquals(expected.toString(), actual.toString());
+	}
+}
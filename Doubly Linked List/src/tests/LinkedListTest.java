@@ -5,6 +5,23 @@ package tests;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.Before;
@@ -225,8 +242,77 @@ public class LinkedListTest {
 	 */
 	@Test
 	public void testGetAt() {
-		// Already tested by the following call. 
-		assertArrayEquals(toArray(list), data); 
+		for (int i = 0; i < data.length; i++) {
+			assertEquals(data[i], list.getAt(i)); 
+		}
+		assertNull(list.getAt(data.length)); 
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#getAt(int)}, walking 
+	 * from either end. 
+	 */
+	@Test
+	public void testGetAtBothEnds() {
+		assertEquals(Integer.valueOf(1), list.getAt(0));
+		assertEquals(Integer.valueOf(4), list.getAt(3));
+		assertEquals(Integer.valueOf(8), list.getAt(7));
+		assertEquals(Integer.valueOf(10), list.getAt(9));
+		assertNull(list.getAt(-1));
+		assertNull(list.getAt(10));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#insertAt(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertAt() {
+		list.insertAt(0, 0);
+		assertEquals(Integer.valueOf(0), list.getFirst());
+		list.insertAt(11, 11);
+		assertEquals(Integer.valueOf(11), list.getLast());
+		list.insertAt(8, 70);
+		assertEquals(Integer.valueOf(70), list.getAt(8));
+		assertEquals(Integer.valueOf(7), list.getBefore(70));
+		assertEquals(Integer.valueOf(8), list.getAfter(70));
+		list.insertAt(2, 15);
+		assertEquals(Integer.valueOf(15), list.getAt(2));
+		assertTrue(list.size() == 14);
+		list.insertAt(15, 100);
+		list.insertAt(-1, 100);
+		assertTrue(list.size() == 14);
+		assertFalse(list.contains(100));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#removeAt(int)}.
+	 */
+	@Test
+	public void testRemoveAt() {
+		assertEquals(Integer.valueOf(1), list.removeAt(0));
+		assertEquals(Integer.valueOf(10), list.removeAt(8));
+		assertEquals(Integer.valueOf(3), list.removeAt(1));
+		assertEquals(Integer.valueOf(8), list.removeAt(5));
+		assertTrue(list.size() == 6);
+		assertArrayEquals(new Integer[] {2, 4, 5, 6, 7, 9}, toArray(list));
+		assertNull(list.removeAt(6));
+		assertNull(list.removeAt(-1));
+		assertTrue(list.size() == 6);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#setAt(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testSetAt() {
+		assertEquals(Integer.valueOf(2), list.setAt(1, 20));
+		assertEquals(Integer.valueOf(9), list.setAt(8, 90));
+		assertEquals(Integer.valueOf(20), list.getAt(1));
+		assertEquals(Integer.valueOf(90), list.getAt(8));
+		assertNull(list.setAt(10, 100));
+		assertNull(list.setAt(0, null));
+		assertEquals(Integer.valueOf(1), list.getFirst());
+		assertTrue(list.size() == 10);
 	}
 
 	/**
@@ -289,6 +375,108 @@ public class LinkedListTest {
 		assertArrayEquals(toArray(list), data); 
 	}
 
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#reverse()} and
+	 * {@link aghannam.list.LinkedList#normalize()}.
+	 */
+	@Test
+	public void testLazyReverse() {
+		list.reverse();
+		assertEquals(Integer.valueOf(10), list.getFirst()); 
+		assertEquals(Integer.valueOf(1), list.getLast()); 
+		assertEquals(Integer.valueOf(6), list.getMiddle()); 
+		assertEquals(Integer.valueOf(8), list.getAt(2)); 
+		assertEquals(Integer.valueOf(7), list.getAfter(8)); 
+		assertEquals(Integer.valueOf(9), list.getBefore(8)); 
+		assertNull(list.getAfter(1)); 
+		assertNull(list.getBefore(10)); 
+		list.insert(0);
+		list.insertFirst(11);
+		list.insertAt(1, 42);
+		assertEquals("[11, 42, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0]", list.toString()); 
+		assertEquals(Integer.valueOf(42), list.removeAt(1)); 
+		assertEquals(Integer.valueOf(11), list.removeFirst()); 
+		assertEquals(Integer.valueOf(0), list.removeLast()); 
+		assertEquals(Integer.valueOf(5), list.setAt(5, 50)); 
+		assertEquals(Arrays.asList(10, 9, 8, 7, 6, 50, 4, 3, 2, 1), list.stream().collect(Collectors.toList())); 
+		list.insertAfter(9, 90);
+		assertEquals("[10, 9, 90, 8, 7, 6, 50, 4, 3, 2, 1]", list.toString()); 
+		list.reverse();
+		assertEquals("[1, 2, 3, 4, 50, 6, 7, 8, 90, 9, 10]", list.toString()); 
+		list.reverse();
+		list.normalize();
+		assertEquals(Integer.valueOf(6), list.getMiddle()); 
+		assertEquals("[10, 9, 90, 8, 7, 6, 50, 4, 3, 2, 1]", list.toString()); 
+
+		LinkedList<Integer> single = new LinkedList<>(1);
+		single.reverse();
+		assertNull(single.getBefore(1)); 
+		assertEquals(Integer.valueOf(1), single.removeLast()); 
+		single.insert(2);
+		single.insertFirst(1);
+		assertEquals("[1, 2]", single.toString()); 
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#listIterator(int)} on a
+	 * reversed list.
+	 */
+	@Test
+	public void testListIteratorReversed() {
+		list.reverse();
+		ListIterator<Integer> it = list.listIterator(3);
+		assertEquals(Integer.valueOf(7), it.next()); 
+		it.remove();
+		it.add(70);
+		assertEquals(Integer.valueOf(6), it.next()); 
+		assertEquals(Integer.valueOf(6), it.previous()); 
+		assertEquals(Integer.valueOf(70), it.previous()); 
+		it.remove();
+		while (it.hasNext()) {
+			it.next();
+		}
+		it.add(0);
+		assertEquals("[10, 9, 8, 6, 5, 4, 3, 2, 1, 0]", list.toString()); 
+		assertEquals(Integer.valueOf(0), list.getLast()); 
+	}
+
+	/**
+	 * Checks a reversed list against an array list through a long mix of
+	 * operations, reversing it every few steps.
+	 */
+	@Test
+	public void testReverseAgainstArrayList() {
+		Random random = new Random(42);
+		List<Integer> expected = new ArrayList<>(Arrays.asList(data));
+		for (int i = 0; i < 5000; i++) {
+			int op = random.nextInt(7);
+			int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+			if (op == 0) {
+				list.reverse();
+				Collections.reverse(expected);
+			} else if (op == 1) {
+				list.insertAt(index, i);
+				expected.add(index, i);
+			} else if (op == 2 && !expected.isEmpty()) {
+				assertEquals(expected.remove(index), list.removeAt(index)); 
+			} else if (op == 3) {
+				list.insertFirst(i);
+				expected.add(0, i);
+			} else if (op == 4 && !expected.isEmpty()) {
+				assertEquals(expected.remove(expected.size() - 1), list.removeLast()); 
+			} else if (op == 5 && !expected.isEmpty()) {
+				assertEquals(expected.get(index), list.getAt(index)); 
+				assertEquals(expected.get((expected.size() - 1) / 2), list.getMiddle()); 
+			} else {
+				list.insert(i);
+				expected.add(i);
+			}
+		}
+		assertEquals(expected.toString(), list.toString()); 
+		list.normalize();
+		assertEquals(expected.toString(), list.toString()); 
+	}
+
 	/**
 	 * Test method for {@link aghannam.list.LinkedList#clear()}.
 	 */
@@ -300,15 +488,581 @@ public class LinkedListTest {
 		assertTrue(toArray(list).length == 0); 
 	}
 	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#toString(int)}.
+	 */
+	@Test
+	public void testToStringPreview() {
+		assertEquals("[1, 2, 3, ... (7 more)]", list.toString(3)); 
+		assertEquals("[... (10 more)]", list.toString(0)); 
+		assertEquals(list.toString(), list.toString(10)); 
+		assertEquals(list.toString(), list.toString(Integer.MAX_VALUE)); 
+		assertEquals("[]", new LinkedList<Integer>().toString(0)); 
+		try {
+			list.toString(-1); 
+			fail("Expected IllegalArgumentException"); 
+		} catch (IllegalArgumentException e) {
+		}
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#appendTo(java.lang.Appendable)}
+	 * and {@link aghannam.list.LinkedList#appendTo(java.lang.StringBuilder, int)}.
+	 * 
+	 * @throws java.io.IOException
+	 */
+	@Test
+	public void testAppendTo() throws IOException {
+		StringWriter out = new StringWriter(); 
+		assertSame(out, list.appendTo(out)); 
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", out.toString()); 
+		StringBuilder buf = new StringBuilder("list="); 
+		list.appendTo(buf, 2).append('!'); 
+		assertEquals("list=[1, 2, ... (8 more)]!", buf.toString()); 
+		buf.setLength(0); 
+		list.insert(null); 
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", list.appendTo(buf).toString()); 
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#iterator()}.
+	 */
+	@Test
+	public void testIterator() {
+		Iterator<Integer> it = list.iterator(); 
+		while (it.hasNext()) {
+			if (it.next() % 2 == 0) {
+				it.remove(); 
+			}
+		}
+		assertEquals("[1, 3, 5, 7, 9]", list.toString()); 
+		assertEquals(Integer.valueOf(9), list.getLast()); 
+		try {
+			it.next(); 
+			fail("Expected NoSuchElementException"); 
+		} catch (NoSuchElementException expected) {
+		}
+		it = list.iterator(); 
+		it.next(); 
+		list.insert(11); 
+		try {
+			it.next(); 
+			fail("Expected ConcurrentModificationException"); 
+		} catch (ConcurrentModificationException expected) {
+		}
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#listIterator(int)}.
+	 */
+	@Test
+	public void testListIterator() {
+		ListIterator<Integer> it = list.listIterator(5); 
+		assertEquals(Integer.valueOf(6), it.next()); 
+		it.set(60); 
+		it.add(65); 
+		assertEquals(7, it.nextIndex()); 
+		assertEquals(Integer.valueOf(65), it.previous()); 
+		it.remove(); 
+		assertEquals(Integer.valueOf(60), it.previous()); 
+		assertEquals(Integer.valueOf(5), it.previous()); 
+		it.remove(); 
+		assertEquals(4, it.nextIndex()); 
+		assertEquals("[1, 2, 3, 4, 60, 7, 8, 9, 10]", list.toString()); 
+		it = list.listIterator(list.size()); 
+		it.add(11); 
+		assertEquals(Integer.valueOf(11), list.getLast()); 
+		while (it.hasPrevious()) {
+			it.previous(); 
+		}
+		it.add(0); 
+		it.next(); 
+		it.remove(); 
+		assertEquals("[0, 2, 3, 4, 60, 7, 8, 9, 10, 11]", list.toString()); 
+		assertEquals(Integer.valueOf(0), list.getFirst()); 
+		try {
+			it.add(null); 
+			fail("Expected NullPointerException"); 
+		} catch (NullPointerException expected) {
+		}
+		try {
+			list.listIterator(list.size() + 1); 
+			fail("Expected IndexOutOfBoundsException"); 
+		} catch (IndexOutOfBoundsException expected) {
+		}
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#stream()} and 
+	 * {@link aghannam.list.LinkedList#parallelStream()}.
+	 */
+	@Test
+	public void testStreams() {
+		assertEquals(55, list.stream().mapToInt(Integer::intValue).sum()); 
+		LinkedList<Integer> large = new LinkedList<>(); 
+		List<Integer> expected = new ArrayList<>(); 
+		for (int i = 0; i < 100000; i++) {
+			large.insert(i); 
+			expected.add(i * 2); 
+		}
+		assertEquals(expected, large.parallelStream().map(i -> i * 2).collect(Collectors.toList())); 
+		assertEquals(100000, large.parallelStream().count()); 
+		Spliterator<Integer> s = list.spliterator(); 
+		Spliterator<Integer> prefix = s.trySplit(); 
+		assertEquals(5, prefix.estimateSize()); 
+		assertEquals(5, s.estimateSize()); 
+		assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED)); 
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#parallelContains(java.lang.Object)}, 
+	 * {@link aghannam.list.LinkedList#parallelReplaceAll(java.lang.Object, java.lang.Object)} 
+	 * and {@link aghannam.list.LinkedList#parallelRemoveAll(java.lang.Object)}.
+	 */
+	@Test
+	public void testParallelBulkOperations() {
+		Random random = new Random(3); 
+		LinkedList<Integer> large = new LinkedList<>(); 
+		List<Integer> expected = new ArrayList<>(); 
+		for (int i = 0; i < 200000; i++) {
+			Integer val = random.nextInt(50); 
+			large.insert(val); 
+			expected.add(val); 
+		}
+		large.setParallelThreshold(1); 
+		assertTrue(large.parallelContains(49)); 
+		assertFalse(large.parallelContains(50)); 
+		large.parallelReplaceAll(7, 50); 
+		Collections.replaceAll(expected, 7, 50); 
+		assertTrue(large.parallelContains(50)); 
+		assertFalse(large.parallelContains(7)); 
+		for (int val = 0; val < 50; val += 3) {
+			large.parallelRemoveAll(val); 
+			expected.removeAll(Collections.singleton(val)); 
+			assertEquals(expected.size(), large.size()); 
+		}
+		large.reverse(); 
+		Collections.reverse(expected); 
+		large.parallelRemoveAll(50); 
+		expected.removeAll(Collections.singleton(50)); 
+		assertArrayEquals(expected.toArray(), toArray(large)); 
+		assertEquals(expected.get(expected.size() - 1), large.getLast()); 
+		large.insert(100); 
+		assertTrue(large.parallelContains(100)); 
+		for (int val = 0; val < 50; val++) {
+			large.parallelRemoveAll(val); 
+		}
+		assertEquals("[100]", large.toString()); 
+		large.parallelRemoveAll(100); 
+		assertTrue(large.isEmpty()); 
+		
+		// Below the threshold, the sequential path gives the same result. 
+		list.parallelRemoveAll(5); 
+		list.parallelReplaceAll(6, 5); 
+		assertEquals("[1, 2, 3, 4, 5, 7, 8, 9, 10]", list.toString()); 
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#parallelForEach(java.util.function.Consumer)}.
+	 */
+	@Test
+	public void testParallelForEach() {
+		LinkedList<Integer> large = new LinkedList<>(); 
+		for (int i = 1; i <= 100000; i++) {
+			large.insert(i); 
+		}
+		large.setParallelThreshold(1); 
+		LongAdder sum = new LongAdder(); 
+		large.parallelForEach(sum::add); 
+		assertEquals(5000050000L, sum.sum()); 
+		try {
+			list.parallelForEach(val -> list.removeFirst()); 
+			fail("Expected ConcurrentModificationException"); 
+		} catch (ConcurrentModificationException expected) {
+		}
+		try {
+			list.setParallelThreshold(0); 
+			fail("Expected IllegalArgumentException"); 
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#insertAll(java.lang.Object[])} 
+	 * and {@link aghannam.list.LinkedList#insertAll(java.lang.Iterable)}.
+	 */
+	@Test
+	public void testInsertAll() {
+		list.insertAll(new Integer[] {11, null, 12}); 
+		list.insertAll(Arrays.asList(13, 14)); 
+		assertEquals(14, list.size()); 
+		assertEquals(Integer.valueOf(14), list.getLast()); 
+		assertEquals(Integer.valueOf(13), list.getAt(12)); 
+		list.insertAll(new Integer[0]); 
+		assertEquals(14, list.size()); 
+		LinkedList<Integer> empty = new LinkedList<>(); 
+		empty.insertAll(Arrays.asList(1, 2)); 
+		empty.removeFirst(); 
+		empty.removeFirst(); 
+		empty.insertAll(Arrays.asList(3, 4)); 
+		assertEquals("[3, 4]", empty.toString()); 
+		assertEquals(Integer.valueOf(3), empty.getFirst()); 
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#insertAllFirst(java.lang.Iterable)} 
+	 * and {@link aghannam.list.LinkedList#insertAllAfter(java.lang.Object, java.lang.Iterable)}.
+	 */
+	@Test
+	public void testInsertAllFirstAndAfter() {
+		list.insertAllFirst(Arrays.asList(-1, 0)); 
+		list.insertAllAfter(5, new Integer[] {51, 52}); 
+		list.insertAllAfter(10, Arrays.asList(11)); 
+		list.insertAllAfter(100, Arrays.asList(101)); 
+		assertEquals("[-1, 0, 1, 2, 3, 4, 5, 51, 52, 6, 7, 8, 9, 10, 11]", list.toString()); 
+		assertEquals(15, list.size()); 
+		assertEquals(Integer.valueOf(11), list.getLast()); 
+		assertEquals(Integer.valueOf(52), list.getBefore(6)); 
+		list.reverse(); 
+		assertEquals(Integer.valueOf(-1), list.getLast()); 
+		list.insertAll(list); 
+		assertEquals(30, list.size()); 
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#splice(aghannam.list.LinkedList)} 
+	 * and {@link aghannam.list.LinkedList#splitAt(int)}.
+	 */
+	@Test
+	public void testSpliceAndSplitAt() {
+		LinkedList<Integer> rest = list.splitAt(4); 
+		assertEquals("[1, 2, 3, 4]", list.toString()); 
+		assertEquals("[5, 6, 7, 8, 9, 10]", rest.toString()); 
+		assertEquals(Integer.valueOf(4), list.getLast()); 
+		assertEquals(Integer.valueOf(5), rest.getFirst()); 
+		assertEquals(6, rest.size()); 
+		rest.removeFirst(); 
+		list.splice(rest); 
+		assertTrue(rest.isEmpty()); 
+		assertNull(rest.getFirst()); 
+		assertEquals("[1, 2, 3, 4, 6, 7, 8, 9, 10]", list.toString()); 
+		assertEquals(Integer.valueOf(4), list.getBefore(6)); 
+		list.splice(list); 
+		assertEquals(9, list.size()); 
+		
+		LinkedList<Integer> all = list.splitAt(0); 
+		assertTrue(list.isEmpty()); 
+		assertEquals(9, all.size()); 
+		assertEquals(0, all.splitAt(9).size()); 
+		assertNull(all.splitAt(10)); 
+		assertNull(all.splitAt(-1)); 
+		list.splice(all); 
+		list.reverse(); 
+		assertEquals("[10, 9, 8, 7, 6, 4, 3, 2, 1]", list.toString()); 
+		assertArrayEquals(new Integer[] {10, 9, 8, 7, 6, 4, 3, 2, 1}, toArray(list)); 
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#splice(aghannam.list.LinkedList)}, 
+	 * {@link aghannam.list.LinkedList#splitAt(int)} and the batch insertions 
+	 * on reversed lists, which must keep the reading order without laying the 
+	 * list out again. 
+	 */
+	@Test
+	public void testBatchOperationsReversed() {
+		list.reverse();
+		list.insertAll(new Integer[] {0, -1}); 
+		list.insertAllFirst(new Integer[] {12, 11}); 
+		list.insertAllAfter(5, new Integer[] {50, 51}); 
+		assertEquals("[12, 11, 10, 9, 8, 7, 6, 5, 50, 51, 4, 3, 2, 1, 0, -1]", list.toString()); 
+		
+		LinkedList<Integer> same = new LinkedList<>(new Integer[] {-3, -2}); 
+		same.reverse();
+		list.splice(same); 
+		LinkedList<Integer> other = new LinkedList<>(new Integer[] {-4, -5}); 
+		list.splice(other); 
+		assertTrue(same.isEmpty() && other.isEmpty()); 
+		assertEquals("[12, 11, 10, 9, 8, 7, 6, 5, 50, 51, 4, 3, 2, 1, 0, -1, -2, -3, -4, -5]", list.toString()); 
+		
+		LinkedList<Integer> rest = list.splitAt(14); 
+		assertEquals("[0, -1, -2, -3, -4, -5]", rest.toString()); 
+		assertEquals(Integer.valueOf(-5), rest.removeLast()); 
+		assertEquals(Integer.valueOf(1), list.removeLast()); 
+		assertEquals(Integer.valueOf(12), list.removeFirst()); 
+		list.normalize();
+		rest.normalize();
+		assertArrayEquals(new Integer[] {11, 10, 9, 8, 7, 6, 5, 50, 51, 4, 3, 2}, toArray(list)); 
+		assertArrayEquals(new Integer[] {0, -1, -2, -3, -4}, toArray(rest)); 
+		assertEquals(Integer.valueOf(3), list.getBefore(2)); 
+		assertEquals(Integer.valueOf(-1), rest.getAfter(0)); 
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#getMiddle()} and 
+	 * {@link aghannam.list.LinkedList#getAt(int)}, checking the remembered 
+	 * middle and position against a {@link java.util.List} after a long 
+	 * random mix of operations. 
+	 */
+	@Test
+	public void testRememberedPositions() {
+		Random random = new Random(11); 
+		List<Integer> expected = new ArrayList<>(); 
+		LinkedList<Integer> actual = new LinkedList<>(); 
+		for (int step = 0; step < 20000; step++) {
+			Integer a = random.nextInt(30); 
+			Integer b = random.nextInt(30); 
+			int i = expected.isEmpty() ? 0 : random.nextInt(expected.size()); 
+			switch (random.nextInt(13)) {
+			case 0: 
+				expected.add(a); 
+				actual.insert(a); 
+				break; 
+			case 1: 
+				expected.add(0, a); 
+				actual.insertFirst(a); 
+				break; 
+			case 2: {
+				int at = expected.indexOf(a); 
+				if (at >= 0) {
+					expected.add(at, b); 
+				}
+				actual.insertBefore(a, b); 
+				break; 
+			}
+			case 3: {
+				int at = expected.indexOf(a); 
+				if (at >= 0) {
+					expected.add(at + 1, b); 
+				}
+				actual.insertAfter(a, b); 
+				break; 
+			}
+			case 4: 
+				assertEquals(expected.remove(a) ? a : null, actual.remove(a)); 
+				break; 
+			case 5: {
+				int at = expected.lastIndexOf(a); 
+				if (at >= 0) {
+					expected.remove(at); 
+				}
+				assertEquals(at >= 0 ? a : null, actual.removeLastOccurrence(a)); 
+				break; 
+			}
+			case 6: 
+				assertEquals(expected.isEmpty() ? null : expected.remove(0), actual.removeFirst()); 
+				break; 
+			case 7: 
+				assertEquals(expected.isEmpty() ? null : expected.remove(expected.size() - 1), actual.removeLast()); 
+				break; 
+			case 8: 
+				expected.add(i, a); 
+				actual.insertAt(i, a); 
+				break; 
+			case 9: 
+				assertEquals(expected.isEmpty() ? null : expected.remove(i), actual.removeAt(i)); 
+				break; 
+			case 10: {
+				ListIterator<Integer> it = actual.listIterator(i); 
+				if (random.nextBoolean() || !it.hasNext()) {
+					expected.add(i, a); 
+					it.add(a); 
+				} else {
+					it.next(); 
+					expected.remove(i); 
+					it.remove(); 
+				}
+				break; 
+			}
+			case 11: 
+				Collections.reverse(expected); 
+				actual.reverse(); 
+				break; 
+			default: 
+				if (random.nextInt(20) == 0) {
+					expected.removeAll(Collections.singleton(a)); 
+					actual.removeAll(a); 
+				}
+				break; 
+			}
+			assertEquals(expected.size(), actual.size()); 
+			assertEquals(expected.isEmpty() ? null : expected.get((expected.size() - 1) / 2), actual.getMiddle()); 
+			if (!expected.isEmpty()) {
+				int at = random.nextInt(expected.size()); 
+				assertEquals(expected.get(at), actual.getAt(at)); 
+				if (at + 1 < expected.size()) {
+					assertEquals(expected.get(at + 1), actual.getAt(at + 1)); 
+				}
+			}
+		}
+		assertEquals(expected.toString(), actual.toString()); 
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#sort(java.util.Comparator)}.
+	 */
+	@Test
+	public void testSort() {
+		list.sort(Comparator.reverseOrder()); 
+		assertEquals("[10, 9, 8, 7, 6, 5, 4, 3, 2, 1]", list.toString()); 
+		assertEquals(Integer.valueOf(1), list.getLast()); 
+		assertEquals(Integer.valueOf(6), list.getMiddle()); 
+		list.sort(null); 
+		assertArrayEquals(data, toArray(list)); 
+		list.reverse(); 
+		reverse(data); 
+		assertArrayEquals(data, toArray(list)); 
+		
+		// Values in the same bucket keep their relative order. 
+		Random random = new Random(5); 
+		LinkedList<Integer> values = new LinkedList<>(); 
+		List<Integer> expected = new ArrayList<>(); 
+		for (int i = 0; i < 1000; i++) {
+			Integer val = random.nextInt(1000); 
+			values.insert(val); 
+			expected.add(val); 
+		}
+		Comparator<Integer> buckets = Comparator.comparing(v -> v / 100); 
+		values.sort(buckets); 
+		expected.sort(buckets); 
+		assertArrayEquals(expected.toArray(), toArray(values)); 
+		values.insertFirst(-1); 
+		assertEquals(Integer.valueOf(-1), values.removeFirst()); 
+		assertEquals(expected.get(999), values.removeLast()); 
+		
+		new LinkedList<Integer>().sort(null); 
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#sort(java.util.Comparator)}
+	 * with a comparator that fails part of the way through.
+	 */
+	@Test
+	public void testSortRestoresOrderOnFailure() {
+		list.insertAt(5, 0); 
+		Comparator<Integer> failing = (a, b) -> {
+			if (a == 9 || b == 9) {
+				throw new IllegalStateException(); 
+			}
+			return a - b; 
+		};
+		try {
+			list.sort(failing); 
+			fail("Expected IllegalStateException"); 
+		} catch (IllegalStateException e) {
+		}
+		assertEquals("[1, 2, 3, 4, 5, 0, 6, 7, 8, 9, 10]", list.toString()); 
+		list.reverse(); 
+		assertEquals("[10, 9, 8, 7, 6, 0, 5, 4, 3, 2, 1]", list.toString()); 
+	}
+	
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#parallelSort(java.util.Comparator)}.
+	 */
+	@Test
+	public void testParallelSort() {
+		Random random = new Random(7); 
+		LinkedList<Integer> large = new LinkedList<>(); 
+		List<Integer> expected = new ArrayList<>(); 
+		for (int i = 0; i < 100000; i++) {
+			Integer val = random.nextInt(100000); 
+			large.insert(val); 
+			expected.add(val); 
+		}
+		large.setParallelThreshold(1); 
+		Comparator<Integer> buckets = Comparator.comparing(v -> v / 1000); 
+		large.parallelSort(buckets); 
+		expected.sort(buckets); 
+		assertArrayEquals(expected.toArray(), toArray(large)); 
+		large.parallelSort(null); 
+		expected.sort(null); 
+		assertArrayEquals(expected.toArray(), toArray(large)); 
+		assertEquals(expected.get(99999), large.getLast()); 
+		assertEquals(expected.get(50000), large.getAt(50000)); 
+		large.reverse(); 
+		assertEquals(expected.get(0), large.getLast()); 
+		
+		large.insert(-1); 
+		try {
+			large.parallelSort((a, b) -> {
+				if (a == -1 || b == -1) {
+					throw new IllegalStateException(); 
+				}
+				return a - b; 
+			}); 
+			fail("Expected IllegalStateException"); 
+		} catch (IllegalStateException e) {
+		}
+		assertEquals(Integer.valueOf(-1), large.removeLast()); 
+		Collections.reverse(expected); 
+		assertArrayEquals(expected.toArray(), toArray(large)); 
+	}
+	
+	/**
+	 * Checks that nodes removed by {@link aghannam.list.LinkedList#removeFirst()},
+	 * {@link aghannam.list.LinkedList#removeLast()},
+	 * {@link aghannam.list.LinkedList#remove(java.lang.Object)} and
+	 * {@link aghannam.list.LinkedList#clear()} keep neither their values nor
+	 * each other reachable, even while an abandoned iterator still holds one
+	 * of them. 
+	 * 
+	 * @throws java.lang.InterruptedException
+	 */
+	@Test
+	public void testRemovedNodesAreReleased() throws InterruptedException {
+		LinkedList<Object> queue = new LinkedList<>(); 
+		List<WeakReference<Object>> dequeued = new ArrayList<>(); 
+		Iterator<Object> stale = null; 
+		for (int i = 0; i < 10000; i++) {
+			Object val = new Object(); 
+			queue.insert(val); 
+			if (i == 10) {
+				stale = queue.iterator(); 
+			}
+			if (i >= 100) {
+				dequeued.add(new WeakReference<>(queue.removeFirst())); 
+			}
+		}
+		assertEquals(100, queue.size()); 
+		queue.remove(queue.getAt(50)); 
+		queue.removeLast(); 
+		Object kept = queue.getFirst(); 
+		queue.clear(); 
+		assertNull(queue.getLast()); 
+		assertNotNull(stale); 
+		assertEquals(0, countReachable(dequeued)); 
+		assertNotNull(kept); 
+	}
+	
 	/*
 	 * Helper methods to make testing certain operations a bit easier.
 	 */
 	
+	/**
+	 * Runs the garbage collector until every referent is cleared or a few
+	 * attempts have passed, and returns how many referents are left.
+	 */
+	private int countReachable(List<WeakReference<Object>> refs) throws InterruptedException {
+		int left = refs.size(); 
+		for (int attempt = 0; attempt < 10 && left > 0; attempt++) {
+			System.gc(); 
+			Thread.sleep(10); 
+			left = 0; 
+			for (WeakReference<Object> ref : refs) {
+				if (ref.get() != null) {
+					left++; 
+				}
+			}
+		}
+		return left; 
+	}
+	
 	private Integer[] toArray(LinkedList<Integer> l) {
 		Integer[] a = new Integer[l.size()]; 
-		for (int i = 0; i < a.length; i++) {
-			a[i] = (Integer) l.getAt(i); 
+		int i = 0; 
+		for (Integer val : l) {
+			a[i++] = val; 
 		}
+		assertEquals(a.length, i); 
 		return a; 
 	}
 	
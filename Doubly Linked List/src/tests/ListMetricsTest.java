@@ -0,0 +1,146 @@
+/*
+ * File: ListMetricsTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.LinkedList;
+import aghannam.list.ListMetrics;
+import aghannam.list.ListMetrics.Operation;
+
+/**
+ * This class is a collection of unit tests for the list metrics class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class ListMetricsTest {
+
+	private LinkedList<Integer> list;
+
+	private ListMetrics metrics;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new LinkedList<>();
+		for (int i = 0; i < 100; i++) {
+			list.insert(i);
+		}
+		metrics = new ListMetrics();
+		list.setMetrics(metrics);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LinkedList#contains(java.lang.Object)}
+	 * with metrics.
+	 */
+	@Test
+	public void testContains() {
+		assertTrue(list.contains(0));
+		assertTrue(list.contains(99));
+		assertTrue(list.contains(50));
+		assertFalse(list.contains(-1));
+		ListMetrics.Snapshot s = metrics.snapshot(Operation.CONTAINS);
+		assertEquals(4, s.getCount());
+		assertEquals(1 + 2 + 52 + 100, s.getNodesTraversed());
+		assertEquals(100, s.getMaxNodesTraversed());
+		assertTrue(s.getTotalNanos() >= s.getMaxNanos());
+		long[] histogram = s.getHistogram();
+		assertEquals(ListMetrics.BUCKETS, histogram.length);
+		assertEquals(1, histogram[1]);
+		assertEquals(1, histogram[2]);
+		assertEquals(1, histogram[6]);
+		assertEquals(1, histogram[7]);
+		assertEquals(63, s.nodesTraversedAt(0.75));
+		assertEquals(100, s.nodesTraversedAt(1));
+		assertEquals(0, metrics.snapshot(Operation.REMOVE).getCount());
+	}
+
+	/**
+	 * Test method for the positional operations of
+	 * {@link aghannam.list.LinkedList} with metrics.
+	 */
+	@Test
+	public void testPositional() {
+		assertEquals(Integer.valueOf(10), list.getAt(10));
+		assertEquals(Integer.valueOf(11), list.getAt(11));
+		assertEquals(Integer.valueOf(12), list.setAt(12, 120));
+		list.insertAt(0, -1);
+		assertEquals(Integer.valueOf(-1), list.removeAt(0));
+		assertNull(list.getAt(100));
+		Map<Operation, ListMetrics.Snapshot> all = metrics.snapshot();
+		assertEquals(2, all.get(Operation.GET_AT).getCount());
+		assertEquals(11, all.get(Operation.GET_AT).getNodesTraversed());
+		assertEquals(1, all.get(Operation.SET_AT).getNodesTraversed());
+		assertEquals(1, all.get(Operation.INSERT_AT).getCount());
+		assertEquals(0, all.get(Operation.INSERT_AT).getNodesTraversed());
+		assertEquals(1, all.get(Operation.REMOVE_AT).getHistogram()[0]);
+	}
+
+	/**
+	 * Test method for the value-based operations of
+	 * {@link aghannam.list.LinkedList} with metrics.
+	 */
+	@Test
+	public void testValueOperations() {
+		list.insertBefore(5, 500);
+		list.insertAfter(5, 501);
+		list.insertAfter(-1, 502);
+		assertEquals(Integer.valueOf(500), list.remove(500));
+		assertEquals(Integer.valueOf(501), list.removeLastOccurrence(501));
+		assertEquals(6, metrics.snapshot(Operation.INSERT_BEFORE).getNodesTraversed());
+		assertEquals(7 + 102, metrics.snapshot(Operation.INSERT_AFTER).getNodesTraversed());
+		assertEquals(6, metrics.snapshot(Operation.REMOVE).getNodesTraversed());
+		assertEquals(95, metrics.snapshot(Operation.REMOVE_LAST_OCCURRENCE).getNodesTraversed());
+		assertEquals("{INSERT_AFTER=2, INSERT_BEFORE=1, REMOVE=1, REMOVE_LAST_OCCURRENCE=1}",
+				metrics.toString());
+		metrics.reset();
+		assertTrue(metrics.getCounts().isEmpty());
+		list.setMetrics(null);
+		list.contains(50);
+		assertNull(list.getMetrics());
+		assertTrue(metrics.getCounts().isEmpty());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ListMetrics#register(java.lang.String)}.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRegister() throws Exception {
+		list.contains(10);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = metrics.register("test list");
+		try {
+			assertTrue(server.isRegistered(name));
+			assertNotNull(server.getAttribute(name, "Counts"));
+			assertNotNull(server.getAttribute(name, "MaxNodesTraversed"));
+			try {
+				new ListMetrics().register("test list");
+				fail("Expected IllegalStateException");
+			} catch (IllegalStateException e) {
+			}
+		} finally {
+			metrics.unregister();
+		}
+		assertFalse(server.isRegistered(name));
+		try {
+			metrics.snapshot(Operation.CONTAINS).nodesTraversedAt(2);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * File: ListSerializerTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import aghannam.list.Codecs;
+import aghannam.list.LinkedList;
+import aghannam.list.ListSerializer;
+
+/**
+ * This class is a collection of unit tests for the list serializer class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class ListSerializerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private LinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new LinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ListSerializer#write(aghannam.list.LinkedList, aghannam.list.Codec, java.nio.channels.WritableByteChannel)}
+	 * and {@link aghannam.list.ListSerializer#read(aghannam.list.Codec, java.nio.channels.ReadableByteChannel)}.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testWriteAndRead() throws Exception {
+		byte[] bytes = serialize(list);
+		assertEquals(20 + 10 * Integer.BYTES, bytes.length);
+		LinkedList<Integer> copy = ListSerializer.read(Codecs.INTEGER, Channels.newChannel(new ByteArrayInputStream(bytes)));
+		assertEquals(list.toString(), copy.toString());
+		assertEquals(10, copy.size());
+
+		LinkedList<Integer> empty = ListSerializer.read(Codecs.INTEGER,
+				Channels.newChannel(new ByteArrayInputStream(serialize(new LinkedList<Integer>()))));
+		assertTrue(empty.isEmpty());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ListSerializer#save(aghannam.list.LinkedList, aghannam.list.Codec, java.nio.file.Path)}
+	 * and {@link aghannam.list.ListSerializer#load(aghannam.list.Codec, java.nio.file.Path)},
+	 * with a list that spans many buffer chunks.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		LinkedList<Long> large = new LinkedList<>();
+		for (long i = 0; i < 100000; i++) {
+			large.insert(i * 31);
+		}
+		Path path = folder.newFile("list.bin").toPath();
+		ListSerializer.save(large, Codecs.LONG, path);
+		LinkedList<Long> copy = ListSerializer.load(Codecs.LONG, path);
+		assertEquals(100000, copy.size());
+		assertEquals(Long.valueOf(0), copy.getFirst());
+		assertEquals(Long.valueOf(99999 * 31L), copy.getLast());
+		assertEquals(Long.valueOf(54321 * 31L), copy.getAt(54321));
+
+		ListSerializer.save(new LinkedList<Long>(), Codecs.LONG, path);
+		assertTrue(ListSerializer.load(Codecs.LONG, path).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.ListSerializer#read(aghannam.list.Codec, java.nio.channels.ReadableByteChannel)}
+	 * with damaged input.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testReadRejectsBadInput() throws Exception {
+		byte[] bytes = serialize(list);
+		assertReadFails(Arrays.copyOf(bytes, bytes.length - 1), EOFException.class);
+		assertReadFails(Arrays.copyOf(bytes, 10), EOFException.class);
+		byte[] magic = bytes.clone();
+		magic[0] = 0;
+		assertReadFails(magic, StreamCorruptedException.class);
+		byte[] version = bytes.clone();
+		version[7] = 2;
+		assertReadFails(version, StreamCorruptedException.class);
+		try {
+			ListSerializer.read(Codecs.LONG, Channels.newChannel(new ByteArrayInputStream(bytes)));
+			fail("Expected StreamCorruptedException");
+		} catch (StreamCorruptedException e) {
+		}
+	}
+
+	/*
+	 * Helper methods to make testing certain operations a bit easier.
+	 */
+
+	private byte[] serialize(LinkedList<Integer> l) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ListSerializer.write(l, Codecs.INTEGER, Channels.newChannel(out));
+		return out.toByteArray();
+	}
+
+	private void assertReadFails(byte[] bytes, Class<? extends IOException> expected) {
+		try {
+			ListSerializer.read(Codecs.INTEGER, Channels.newChannel(new ByteArrayInputStream(bytes)));
+			fail("Expected " + expected.getSimpleName());
+		} catch (IOException e) {
+			assertEquals(expected, e.getClass());
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * File: LongLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.LongLinkedList;
+
+/**
+ * This class is a collection of unit tests for the primitive long list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class LongLinkedListTest {
+
+	private long[] data = {1L, 2L, 3L, Long.MAX_VALUE, Long.MIN_VALUE};
+
+	private LongLinkedList list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new LongLinkedList(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LongLinkedList#insert(long)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertArrayEquals(data, list.toArray());
+		list.insert(4L);
+		assertEquals(4L, list.getLast());
+		assertEquals(6, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LongLinkedList#contains(long)} after
+	 * removals have left free slots behind.
+	 */
+	@Test
+	public void testContainsWithFreeSlots() {
+		assertTrue(list.contains(Long.MAX_VALUE));
+		assertTrue(list.remove(Long.MAX_VALUE));
+		assertFalse(list.contains(Long.MAX_VALUE));
+		list.insertFirst(Long.MAX_VALUE);
+		assertTrue(list.contains(Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, list.getFirst());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LongLinkedList#reverse()}.
+	 */
+	@Test
+	public void testReverse() {
+		list.reverse();
+		assertEquals(Long.MIN_VALUE, list.removeFirst());
+		assertEquals(1L, list.removeLast());
+		assertEquals("[9223372036854775807, 3, 2]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LongLinkedList#getMiddle()}.
+	 */
+	@Test
+	public void testGetMiddle() {
+		assertEquals(3L, list.getMiddle());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * File: LruCacheTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.LruCache;
+
+/**
+ * This class is a collection of unit tests for the LRU cache class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class LruCacheTest {
+
+	private LruCache<Integer, String> cache;
+
+	private List<String> evicted;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		cache = new LruCache<>(3);
+		evicted = new ArrayList<>();
+		cache.setEvictionListener((k, v) -> evicted.add(k + "=" + v));
+		cache.put(1, "one");
+		cache.put(2, "two");
+		cache.put(3, "three");
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LruCache#get(java.lang.Object)}.
+	 */
+	@Test
+	public void testGet() {
+		assertEquals("two", cache.get(2));
+		assertNull(cache.get(4));
+		assertNull(cache.get(null));
+		assertEquals("[2=two, 3=three, 1=one]", cache.toString());
+		assertEquals(1, cache.hitCount());
+		assertEquals(1, cache.missCount());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LruCache#put(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testPutEvictsLeastRecentlyUsed() {
+		cache.get(1);
+		assertNull(cache.put(4, "four"));
+		assertEquals("[2=two]", evicted.toString());
+		assertEquals(3, cache.size());
+		assertFalse(cache.containsKey(2));
+		assertEquals("three", cache.put(3, "THREE"));
+		cache.put(5, "five");
+		assertEquals("[2=two, 1=one]", evicted.toString());
+		assertEquals("[5=five, 3=THREE, 4=four]", cache.toString());
+		assertEquals(2, cache.evictionCount());
+		assertNull(cache.put(null, "none"));
+		assertNull(cache.put(6, null));
+		assertEquals(3, cache.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LruCache#remove(java.lang.Object)}
+	 * and {@link aghannam.list.LruCache#clear()}.
+	 */
+	@Test
+	public void testRemove() {
+		assertEquals("two", cache.remove(2));
+		assertNull(cache.remove(2));
+		assertNull(cache.remove(null));
+		assertEquals("three", cache.remove(3));
+		assertEquals("one", cache.remove(1));
+		assertEquals(0, cache.size());
+		cache.put(4, "four");
+		assertEquals("[4=four]", cache.toString());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(4));
+		assertTrue(evicted.isEmpty());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.LruCache#LruCache(int, long, java.util.function.ToLongBiFunction)}.
+	 */
+	@Test
+	public void testMaxWeight() {
+		LruCache<String, String> weighed = new LruCache<>(100, 10, (k, v) -> v.length());
+		weighed.setEvictionListener((k, v) -> evicted.add(k));
+		weighed.put("a", "12345");
+		weighed.put("b", "1234");
+		assertEquals(9, weighed.weight());
+		weighed.get("a");
+		weighed.put("c", "12");
+		assertEquals("[b]", evicted.toString());
+		assertEquals(7, weighed.weight());
+		weighed.put("a", "1");
+		assertEquals(3, weighed.weight());
+		weighed.put("d", "12345678901");
+		assertEquals("[b, d]", evicted.toString());
+		assertEquals("[a=1, c=12]", weighed.toString());
+		try {
+			weighed.put("e", null);
+			new LruCache<String, String>(1, 10, (k, v) -> -1).put("e", "e");
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			new LruCache<String, String>(0);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	/**
+	 * Checks that a long mix of operations keeps the cache within its bounds
+	 * and consistent with its counters.
+	 */
+	@Test
+	public void testManyOperations() {
+		LruCache<Integer, Integer> large = new LruCache<>(100);
+		for (int i = 0; i < 10000; i++) {
+			large.put(i % 250, i);
+			if (large.get((i * 7) % 250) != null) {
+				large.remove((i * 13) % 250);
+			}
+			assertTrue(large.size() <= 100);
+		}
+		assertEquals(10000, large.hitCount() + large.missCount());
+		assertEquals(Integer.valueOf(9999), large.get(9999 % 250));
+	}
+}
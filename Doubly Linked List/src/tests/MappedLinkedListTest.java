@@ -0,0 +1,352 @@
+/*
+ * File: MappedLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import aghannam.list.Codec;
+import aghannam.list.Codecs;
+import aghannam.list.MappedLinkedList;
+
+/**
+ * This class is a collection of unit tests for the mapped list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class MappedLinkedListTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path file;
+
+	private MappedLinkedList<Long> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		file = folder.getRoot().toPath().resolve("list.dat");
+		list = new MappedLinkedList<>(file, Codecs.LONG);
+		for (long i = 1; i <= 10; i++) {
+			list.insert(i);
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		list.close();
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.MappedLinkedList#insert(java.lang.Object)},
+	 * {@link aghannam.list.MappedLinkedList#insertFirst(java.lang.Object)},
+	 * {@link aghannam.list.MappedLinkedList#remove(java.lang.Object)} and
+	 * {@link aghannam.list.MappedLinkedList#replace(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testOperations() {
+		list.insertFirst(0L);
+		list.insert(null);
+		assertEquals(Long.valueOf(5), list.remove(5L));
+		assertNull(list.remove(5L));
+		list.replace(6L, 60L);
+		assertEquals(Long.valueOf(0), list.removeFirst());
+		assertEquals(Long.valueOf(10), list.removeLast());
+		list.insert(11L);
+		assertEquals("[1, 2, 3, 4, 60, 7, 8, 9, 11]", list.toString());
+		assertEquals(9, list.size());
+		assertEquals(Long.valueOf(60), list.getAt(4));
+		assertTrue(list.contains(11L));
+		assertFalse(list.contains(10L));
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertNull(list.getFirst());
+		list.insert(1L);
+		assertEquals("[1]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.MappedLinkedList#close()}, reopening
+	 * the list from its file.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testReopen() throws Exception {
+		list.remove(3L);
+		list.insertFirst(0L);
+		list.close();
+		assertEquals(0, Files.size(logOf(file)));
+		list = new MappedLinkedList<>(file, Codecs.LONG);
+		assertEquals("[0, 1, 2, 4, 5, 6, 7, 8, 9, 10]", list.toString());
+		assertEquals(Long.valueOf(10), list.getLast());
+		list.insert(11L);
+		assertEquals(11, list.size());
+		try {
+			new MappedLinkedList<>(folder.newFile("other.dat").toPath(), Codecs.INTEGER).close();
+			new MappedLinkedList<>(folder.getRoot().toPath().resolve("other.dat"), Codecs.LONG);
+			fail("Expected IOException");
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * Restores the data file as of a checkpoint next to the log written since,
+	 * as a crash before the mapped file reached the disk would leave them,
+	 * and checks that reopening replays the log and drops a torn transaction.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRecoveryReplaysLog() throws Exception {
+		Random random = new Random(17);
+		List<Long> expected = new ArrayList<>();
+		for (long i = 1; i <= 10; i++) {
+			expected.add(i);
+		}
+		list.checkpoint();
+		Path crashed = folder.getRoot().toPath().resolve("crashed.dat");
+		Files.copy(file, crashed);
+		for (int step = 0; step < 2000; step++) {
+			Long a = (long) random.nextInt(50);
+			switch (random.nextInt(5)) {
+			case 0:
+				expected.add(a);
+				list.insert(a);
+				break;
+			case 1:
+				expected.add(0, a);
+				list.insertFirst(a);
+				break;
+			case 2:
+				assertEquals(expected.remove(a) ? a : null, list.remove(a));
+				break;
+			case 3: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.set(i, a + 100);
+				}
+				list.replace(a, a + 100);
+				break;
+			}
+			default:
+				assertEquals(expected.isEmpty() ? null : expected.remove(0), list.removeFirst());
+				break;
+			}
+		}
+		assertEquals(expected.toString(), list.toString());
+		Files.copy(logOf(file), logOf(crashed));
+		// A transaction the crash cut short.
+		Files.write(logOf(crashed), new byte[] { 0x54, 0x58, 0x4E, 0x31, 0, 0 }, StandardOpenOption.APPEND);
+
+		try (MappedLinkedList<Long> recovered = new MappedLinkedList<>(crashed, Codecs.LONG)) {
+			assertEquals(expected.toString(), recovered.toString());
+			assertEquals(expected.size(), recovered.size());
+			recovered.insert(1000L);
+			assertEquals(Long.valueOf(1000), recovered.getLast());
+		}
+		try (MappedLinkedList<Long> reopened = new MappedLinkedList<>(crashed, Codecs.LONG)) {
+			expected.add(1000L);
+			assertEquals(expected.toString(), reopened.toString());
+		}
+	}
+
+	/**
+	 * Restores the records as of a checkpoint but takes the header from after
+	 * the last operation, as a crash would leave them if only the header page
+	 * had reached the disk, and checks that reopening still replays every
+	 * logged transaction.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRecoveryWithHeaderAhead() throws Exception {
+		list.checkpoint();
+		Path crashed = folder.getRoot().toPath().resolve("crashed.dat");
+		Files.copy(file, crashed);
+		List<Long> expected = new ArrayList<>();
+		for (long i = 1; i <= 10; i++) {
+			expected.add(i);
+		}
+		for (long i = 11; i <= 300; i++) {
+			if (i % 3 == 0) {
+				assertEquals(expected.remove(0), list.removeFirst());
+			} else if (i % 3 == 1) {
+				list.insertFirst(i);
+				expected.add(0, i);
+			} else {
+				list.insert(i);
+				expected.add(i);
+			}
+		}
+		list.remove(150L);
+		expected.remove(150L);
+		Files.copy(logOf(file), logOf(crashed));
+		byte[] header = new byte[64];
+		try (FileChannel current = FileChannel.open(file, StandardOpenOption.READ);
+				FileChannel stale = FileChannel.open(crashed, StandardOpenOption.WRITE)) {
+			current.read(ByteBuffer.wrap(header), 0);
+			stale.write(ByteBuffer.wrap(header), 0);
+		}
+
+		try (MappedLinkedList<Long> recovered = new MappedLinkedList<>(crashed, Codecs.LONG)) {
+			assertEquals(expected.toString(), recovered.toString());
+			assertEquals(expected.size(), recovered.size());
+			assertEquals(expected.get(expected.size() - 1), recovered.getLast());
+		}
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.MappedLinkedList#insert(java.lang.Object)}
+	 * and {@link aghannam.list.MappedLinkedList#replace(java.lang.Object, java.lang.Object)}
+	 * with a codec that fails, which must leave the list as it was.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testFailingCodecLeavesListUnchanged() throws Exception {
+		Path other = folder.getRoot().toPath().resolve("failing.dat");
+		Codec<Long> failing = new Codec<Long>() {
+			@Override
+			public int size() {
+				return Codecs.LONG.size();
+			}
+
+			@Override
+			public void encode(Long val, ByteBuffer buf, int offset) {
+				if (val < 0) {
+					throw new IllegalArgumentException("Negative value " + val);
+				}
+				Codecs.LONG.encode(val, buf, offset);
+			}
+
+			@Override
+			public Long decode(ByteBuffer buf, int offset) {
+				return Codecs.LONG.decode(buf, offset);
+			}
+		};
+		try (MappedLinkedList<Long> failable = new MappedLinkedList<>(other, failing)) {
+			failable.insert(1L);
+			failable.insert(2L);
+			failable.remove(1L);
+			for (Long bad : new Long[] { -1L, -2L }) {
+				try {
+					failable.insert(bad);
+					fail("Expected IllegalArgumentException");
+				} catch (IllegalArgumentException e) {
+				}
+				try {
+					failable.replace(2L, bad);
+					fail("Expected IllegalArgumentException");
+				} catch (IllegalArgumentException e) {
+				}
+			}
+			assertEquals("[2]", failable.toString());
+			failable.insertFirst(3L);
+			failable.insert(4L);
+			assertEquals("[3, 2, 4]", failable.toString());
+		}
+		try (MappedLinkedList<Long> reopened = new MappedLinkedList<>(other, failing)) {
+			assertEquals("[3, 2, 4]", reopened.toString());
+		}
+	}
+
+	/**
+	 * Checks that wide values are mapped in chunks sized by bytes rather than
+	 * by record count, and survive reopening the list.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testWideRecords() throws Exception {
+		Path other = folder.getRoot().toPath().resolve("wide.dat");
+		int width = 40000;
+		try (MappedLinkedList<Long> wide = new MappedLinkedList<>(other, wideCodec(width))) {
+			for (long i = 0; i < 40; i++) {
+				wide.insert(i);
+			}
+			assertEquals(Long.valueOf(0), wide.removeFirst());
+			assertEquals(Long.valueOf(20), wide.remove(20L));
+			wide.insertFirst(-1L);
+		}
+		try (MappedLinkedList<Long> reopened = new MappedLinkedList<>(other, wideCodec(width))) {
+			assertEquals(39, reopened.size());
+			assertEquals(Long.valueOf(-1), reopened.getFirst());
+			assertEquals(Long.valueOf(39), reopened.getLast());
+			assertEquals(Long.valueOf(21), reopened.getAt(20));
+		}
+	}
+
+	/**
+	 * Checks that a codec too wide for a transaction is rejected before any
+	 * file is created.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testTooWideRecords() throws Exception {
+		Path other = folder.getRoot().toPath().resolve("too-wide.dat");
+		try {
+			new MappedLinkedList<>(other, wideCodec(Integer.MAX_VALUE / 4)).close();
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException expected) {
+		}
+		assertFalse(Files.exists(other));
+	}
+
+	/*
+	 * Helper methods to make testing certain operations a bit easier.
+	 */
+
+	private Path logOf(Path data) {
+		return data.resolveSibling(data.getFileName() + ".log");
+	}
+
+	/**
+	 * Returns a codec of the specified width that stores a long at both ends
+	 * of its record, so that overlapping records are noticed on decoding.
+	 */
+	private static Codec<Long> wideCodec(int width) {
+		return new Codec<Long>() {
+			@Override
+			public int size() {
+				return width;
+			}
+
+			@Override
+			public void encode(Long val, ByteBuffer buf, int offset) {
+				buf.putLong(offset, val);
+				buf.putLong(offset + width - Long.BYTES, val);
+			}
+
+			@Override
+			public Long decode(ByteBuffer buf, int offset) {
+				long val = buf.getLong(offset);
+				assertEquals(val, buf.getLong(offset + width - Long.BYTES));
+				return val;
+			}
+		};
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * File: OffHeapLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.Codec;
+import aghannam.list.Codecs;
+import aghannam.list.OffHeapLinkedList;
+
+/**
+ * This class is a collection of unit tests for the off-heap list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class OffHeapLinkedListTest {
+
+	private OffHeapLinkedList<Long> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new OffHeapLinkedList<>(Codecs.LONG, 1 << 20);
+		for (long i = 1; i <= 10; i++) {
+			list.insert(i);
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		list.close();
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.OffHeapLinkedList#insert(java.lang.Object)}
+	 * and {@link aghannam.list.OffHeapLinkedList#insertFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertEquals(10, list.size());
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", list.toString());
+		list.insertFirst(0L);
+		list.insert(11L);
+		assertEquals(Long.valueOf(0), list.getFirst());
+		assertEquals(Long.valueOf(11), list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.OffHeapLinkedList#removeFirst()} and
+	 * {@link aghannam.list.OffHeapLinkedList#removeLast()}, reusing freed
+	 * records.
+	 */
+	@Test
+	public void testRemoveFirstAndLast() {
+		assertEquals(Long.valueOf(1), list.removeFirst());
+		assertEquals(Long.valueOf(10), list.removeLast());
+		long bytes = list.allocatedBytes();
+		list.insert(100L);
+		list.insertFirst(-100L);
+		assertEquals(bytes, list.allocatedBytes());
+		assertEquals("[-100, 2, 3, 4, 5, 6, 7, 8, 9, 100]", list.toString());
+		while (!list.isEmpty()) {
+			list.removeLast();
+		}
+		assertNull(list.removeFirst());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.OffHeapLinkedList#getAt(int)}.
+	 */
+	@Test
+	public void testGetAt() {
+		assertEquals(Long.valueOf(3), list.getAt(2));
+		assertEquals(Long.valueOf(9), list.getAt(8));
+		assertNull(list.getAt(10));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.OffHeapLinkedList#reverse()}.
+	 */
+	@Test
+	public void testReverse() {
+		list.reverse();
+		assertEquals("[10, 9, 8, 7, 6, 5, 4, 3, 2, 1]", list.toString());
+		list.removeFirst();
+		list.insert(0L);
+		list.insertFirst(11L);
+		assertEquals("[11, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0]", list.toString());
+		list.reverse();
+		assertEquals(Long.valueOf(0), list.getFirst());
+		assertEquals(Long.valueOf(9), list.getAt(9));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.OffHeapLinkedList#iterator()}.
+	 */
+	@Test
+	public void testIterator() {
+		List<Long> values = new ArrayList<>();
+		for (Long val : list) {
+			values.add(val);
+		}
+		assertEquals(10, values.size());
+		assertEquals(Long.valueOf(10), values.get(9));
+		Iterator<Long> it = list.iterator();
+		it.next();
+		list.insert(11L);
+		try {
+			it.next();
+			fail("Expected ConcurrentModificationException");
+		} catch (ConcurrentModificationException expected) {
+			// Expected.
+		}
+	}
+
+	/**
+	 * Checks that the memory budget bounds the number of values.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testBudget() {
+		try (OffHeapLinkedList<Integer> small = new OffHeapLinkedList<>(Codecs.INTEGER, 120)) {
+			for (int i = 0; i < 10; i++) {
+				small.insert(i);
+			}
+			assertEquals(10, small.size());
+			small.insert(10);
+		}
+	}
+
+	/**
+	 * Checks that wide values are kept in slabs sized by bytes rather than by
+	 * record count, without overlapping, even under an unbounded budget.
+	 */
+	@Test
+	public void testWideRecords() {
+		int width = 40000;
+		try (OffHeapLinkedList<Long> wide = new OffHeapLinkedList<>(wideCodec(width), Long.MAX_VALUE)) {
+			for (long i = 0; i < 40; i++) {
+				wide.insert(i);
+			}
+			// About a megabyte per slab: 16 records each.
+			assertEquals(48L * (width + 2 * Integer.BYTES), wide.allocatedBytes());
+			wide.reverse();
+			assertEquals(Long.valueOf(39), wide.removeFirst());
+			wide.insert(-1L);
+			assertEquals(Long.valueOf(-1), wide.getLast());
+			assertEquals(Long.valueOf(20), wide.getAt(18));
+		}
+	}
+
+	/**
+	 * Checks that records too wide for a single buffer are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooWideRecords() {
+		new OffHeapLinkedList<>(wideCodec(Integer.MAX_VALUE), Long.MAX_VALUE).close();
+	}
+
+	/**
+	 * Checks that a value the codec rejects leaves the list unchanged and
+	 * does not use up its record, whether the record would have come from the
+	 * free list or been carved out fresh.
+	 */
+	@Test
+	public void testFailingCodecKeepsBudget() {
+		Codec<Long> failing = new Codec<Long>() {
+			@Override
+			public int size() {
+				return Codecs.LONG.size();
+			}
+
+			@Override
+			public void encode(Long val, ByteBuffer buf, int offset) {
+				if (val < 0) {
+					throw new IllegalArgumentException("Negative value " + val);
+				}
+				Codecs.LONG.encode(val, buf, offset);
+			}
+
+			@Override
+			public Long decode(ByteBuffer buf, int offset) {
+				return Codecs.LONG.decode(buf, offset);
+			}
+		};
+		try (OffHeapLinkedList<Long> small = new OffHeapLinkedList<>(failing, 3 * (Long.BYTES + 2 * Integer.BYTES))) {
+			small.insert(1L);
+			small.insert(2L);
+			small.removeFirst();
+			for (long bad = -1; bad >= -5; bad--) {
+				try {
+					small.insert(bad);
+					fail("Expected IllegalArgumentException");
+				} catch (IllegalArgumentException expected) {
+					// Expected.
+				}
+				try {
+					small.insertFirst(bad);
+					fail("Expected IllegalArgumentException");
+				} catch (IllegalArgumentException expected) {
+					// Expected.
+				}
+			}
+			assertEquals("[2]", small.toString());
+			small.insert(3L);
+			small.insertFirst(1L);
+			assertEquals("[1, 2, 3]", small.toString());
+		}
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.OffHeapLinkedList#close()}.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testClose() {
+		list.close();
+		assertEquals(0, list.allocatedBytes());
+		list.insert(1L);
+	}
+
+	/**
+	 * Returns a codec of the specified width that stores a long at both ends
+	 * of its record, so that overlapping records are noticed on decoding.
+	 */
+	private static Codec<Long> wideCodec(int width) {
+		return new Codec<Long>() {
+			@Override
+			public int size() {
+				return width;
+			}
+
+			@Override
+			public void encode(Long val, ByteBuffer buf, int offset) {
+				buf.putLong(offset, val);
+				buf.putLong(offset + width - Long.BYTES, val);
+			}
+
+			@Override
+			public Long decode(ByteBuffer buf, int offset) {
+				long val = buf.getLong(offset);
+				assertEquals(val, buf.getLong(offset + width - Long.BYTES));
+				return val;
+			}
+		};
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * File: PersistentListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.PersistentList;
+
+/**
+ * This class is a collection of unit tests for the persistent list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class PersistentListTest {
+
+	private PersistentList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = PersistentList.of(1, 2, 3, 4, 5);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PersistentList#insert(java.lang.Object)}
+	 * and {@link aghannam.list.PersistentList#insertFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertKeepsOldVersion() {
+		PersistentList<Integer> longer = list.insert(6).insertFirst(0);
+		assertEquals("[0, 1, 2, 3, 4, 5, 6]", longer.toString());
+		assertEquals("[1, 2, 3, 4, 5]", list.toString());
+		assertEquals(Integer.valueOf(3), longer.getMiddle());
+		assertSame(list, list.insert(null));
+		assertSame(list, list.insertAt(6, 7));
+		assertEquals("[1, 2, 9, 3, 4, 5]", list.insertAt(2, 9).toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PersistentList#remove(java.lang.Object)}
+	 * and {@link aghannam.list.PersistentList#removeAt(int)}.
+	 */
+	@Test
+	public void testRemove() {
+		assertEquals("[1, 2, 4, 5]", list.remove(3).toString());
+		assertSame(list, list.remove(42));
+		assertSame(list, list.removeAt(5));
+		assertEquals("[2, 3, 4]", list.removeFirst().removeLast().toString());
+		assertTrue(PersistentList.of(1).removeFirst().isEmpty());
+		assertSame(PersistentList.empty(), PersistentList.of(1).removeLast());
+		assertEquals("[1, 2, 3, 4, 5]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PersistentList#replace(java.lang.Object, java.lang.Object)}
+	 * and {@link aghannam.list.PersistentList#setAt(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testReplace() {
+		PersistentList<Integer> replaced = list.insert(3).replace(3, 30);
+		assertEquals("[1, 2, 30, 4, 5, 3]", replaced.toString());
+		assertSame(list, list.replace(42, 30));
+		assertSame(list, list.replace(3, null));
+		assertEquals("[1, 2, 3, 4, 50]", list.setAt(4, 50).toString());
+		assertEquals(Integer.valueOf(5), list.getLast());
+	}
+
+	/**
+	 * Test method for the queries of {@link aghannam.list.PersistentList}.
+	 */
+	@Test
+	public void testQueries() {
+		assertEquals(Integer.valueOf(1), list.getFirst());
+		assertEquals(Integer.valueOf(5), list.getLast());
+		assertEquals(Integer.valueOf(3), list.getMiddle());
+		assertEquals(Integer.valueOf(4), list.getAt(3));
+		assertNull(list.getAt(-1));
+		assertTrue(list.contains(5));
+		assertFalse(list.contains(6));
+		assertFalse(list.contains(null));
+		assertEquals(2, list.indexOf(3));
+		assertEquals(5, list.size());
+		assertEquals("[1, 2, 3, 4, 5]", list.toLinkedList().toString());
+
+		PersistentList<Integer> empty = PersistentList.empty();
+		assertNull(empty.getFirst());
+		assertNull(empty.getMiddle());
+		assertEquals("[]", empty.toString());
+		Iterator<Integer> it = empty.iterator();
+		assertFalse(it.hasNext());
+		try {
+			it.next();
+			fail("Expected NoSuchElementException");
+		} catch (NoSuchElementException e) {
+		}
+	}
+
+	/**
+	 * Checks every version produced by a long mix of updates against an array
+	 * list copied at the same point, and that the tree stays balanced.
+	 */
+	@Test
+	public void testVersionsAgainstArrayList() {
+		Random random = new Random(7);
+		List<PersistentList<Integer>> versions = new ArrayList<>();
+		List<List<Integer>> expected = new ArrayList<>();
+		PersistentList<Integer> curr = PersistentList.empty();
+		List<Integer> model = new ArrayList<>();
+		for (int i = 0; i < 4000; i++) {
+			int index = model.isEmpty() ? 0 : random.nextInt(model.size());
+			switch (random.nextInt(4)) {
+			case 0:
+				if (!model.isEmpty()) {
+					curr = curr.removeAt(index);
+					model.remove(index);
+				}
+				break;
+			case 1:
+				if (!model.isEmpty()) {
+					curr = curr.setAt(index, -i);
+					model.set(index, -i);
+				}
+				break;
+			default:
+				curr = curr.insertAt(index, i);
+				model.add(index, i);
+			}
+			if (i % 100 == 0) {
+				versions.add(curr);
+				expected.add(new ArrayList<>(model));
+			}
+		}
+		for (int v = 0; v < versions.size(); v++) {
+			assertEquals(expected.get(v).toString(), versions.get(v).toString());
+			assertEquals(expected.get(v).size(), versions.get(v).size());
+		}
+		for (int i = 0; i < model.size(); i++) {
+			assertEquals(model.get(i), curr.getAt(i));
+		}
+
+		PersistentList<Integer> sequential = PersistentList.empty();
+		for (int i = 0; i < 1 << 16; i++) {
+			sequential = sequential.insert(i);
+		}
+		assertEquals(Integer.valueOf(1 << 15), sequential.getAt(1 << 15));
+		assertEquals(Integer.valueOf((1 << 16) - 1), sequential.getLast());
+	}
+}
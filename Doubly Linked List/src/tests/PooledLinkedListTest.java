@@ -0,0 +1,209 @@
+/*
+ * File: PooledLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.PooledLinkedList;
+
+/**
+ * This class is a collection of unit tests for the pooled list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class PooledLinkedListTest {
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private PooledLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new PooledLinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PooledLinkedList#insert(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertEquals(10, list.size());
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", list.toString());
+		list.insert(null);
+		assertEquals(10, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PooledLinkedList#insertBefore(java.lang.Object, java.lang.Object)}
+	 * and {@link aghannam.list.PooledLinkedList#insertAfter(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertBeforeAndAfter() {
+		list.insertBefore(5, 15);
+		list.insertAfter(5, 16);
+		assertEquals(Integer.valueOf(15), list.getBefore(5));
+		assertEquals(Integer.valueOf(16), list.getAfter(5));
+		list.insertBefore(100, 0);
+		assertEquals(12, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PooledLinkedList#remove(java.lang.Object)}
+	 * and {@link aghannam.list.PooledLinkedList#removeLastOccurrence(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemove() {
+		list.insert(5);
+		assertEquals(Integer.valueOf(5), list.remove(5));
+		assertEquals(Integer.valueOf(6), list.getAfter(4));
+		assertEquals(Integer.valueOf(5), list.removeLastOccurrence(5));
+		assertFalse(list.contains(5));
+		assertNull(list.remove(100));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PooledLinkedList#removeFirst()} and
+	 * {@link aghannam.list.PooledLinkedList#removeLast()}, reusing freed slots.
+	 */
+	@Test
+	public void testRemoveFirstAndLast() {
+		assertEquals(Integer.valueOf(1), list.removeFirst());
+		assertEquals(Integer.valueOf(10), list.removeLast());
+		list.insertFirst(0);
+		list.insert(11);
+		assertEquals("[0, 2, 3, 4, 5, 6, 7, 8, 9, 11]", list.toString());
+		while (!list.isEmpty()) {
+			list.removeFirst();
+		}
+		assertNull(list.removeFirst());
+		assertNull(list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PooledLinkedList#reverse()}.
+	 */
+	@Test
+	public void testReverse() {
+		list.reverse();
+		assertEquals("[10, 9, 8, 7, 6, 5, 4, 3, 2, 1]", list.toString());
+		assertEquals(Integer.valueOf(3), list.getAt(7));
+		assertEquals(Integer.valueOf(6), list.getMiddle());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.PooledLinkedList#compact()}.
+	 */
+	@Test
+	public void testCompact() {
+		list.remove(3);
+		list.remove(7);
+		list.insertFirst(0);
+		list.reverse();
+		list.compact();
+		assertEquals("[10, 9, 8, 6, 5, 4, 2, 1, 0]", list.toString());
+		assertTrue(list.contains(0));
+		assertFalse(list.contains(7));
+		list.insert(-1);
+		list.insertFirst(11);
+		assertEquals(Integer.valueOf(-1), list.getLast());
+		assertEquals(Integer.valueOf(11), list.getFirst());
+		list.clear();
+		list.compact();
+		assertTrue(list.isEmpty());
+	}
+
+	/**
+	 * Checks that queue-style churn reuses pool slots instead of allocating.
+	 */
+	@Test
+	public void testChurnDoesNotAllocate() {
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+		long id = Thread.currentThread().getId();
+		Integer val = Integer.valueOf(1000);
+		for (int i = 0; i < 100000; i++) {
+			list.insert(val);
+			list.removeFirst();
+		}
+		long before = threads.getThreadAllocatedBytes(id);
+		for (int i = 0; i < 100000; i++) {
+			list.insert(val);
+			list.removeFirst();
+		}
+		long allocated = threads.getThreadAllocatedBytes(id) - before;
+		assertTrue("Allocated " + allocated + " bytes", allocated < 10000);
+		assertEquals(10, list.size());
+	}
+
+	/**
+	 * Runs a long random mix of operations against a {@link java.util.List},
+	 * compacting now and then.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(5);
+		List<Integer> expected = new ArrayList<>();
+		PooledLinkedList<Integer> actual = new PooledLinkedList<>(0);
+		for (int step = 0; step < 20000; step++) {
+			Integer a = random.nextInt(20);
+			Integer b = random.nextInt(20);
+			switch (random.nextInt(9)) {
+			case 0:
+				expected.add(a);
+				actual.insert(a);
+				break;
+			case 1:
+				expected.add(0, a);
+				actual.insertFirst(a);
+				break;
+			case 2: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.add(i + 1, b);
+				}
+				actual.insertAfter(a, b);
+				break;
+			}
+			case 3:
+				assertEquals(expected.remove(a) ? a : null, actual.remove(a));
+				break;
+			case 4:
+				assertEquals(expected.isEmpty() ? null : expected.remove(expected.size() - 1), actual.removeLast());
+				break;
+			case 5:
+				assertEquals(expected.isEmpty() ? null : expected.remove(0), actual.removeFirst());
+				break;
+			case 6:
+				Collections.reverse(expected);
+				actual.reverse();
+				break;
+			case 7:
+				actual.compact();
+				break;
+			default:
+				expected.removeAll(Collections.singleton(a));
+				actual.removeAll(a);
+				break;
+			}
+			assertEquals(expected.size(), actual.size());
+			assertEquals(expected.contains(b), actual.contains(b));
+		}
+		assertEquals(expected.toString(), actual.toString());
+	}
+}
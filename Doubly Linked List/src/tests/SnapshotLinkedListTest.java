@@ -0,0 +1,141 @@
+/*
+ * File: SnapshotLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.PersistentList;
+import aghannam.list.SnapshotLinkedList;
+
+/**
+ * This class is a collection of unit tests for the snapshot list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class SnapshotLinkedListTest {
+
+	private SnapshotLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new SnapshotLinkedList<>(new Integer[] { 1, 2, 3, 4, 5 });
+	}
+
+	/**
+	 * Test method for the write operations of
+	 * {@link aghannam.list.SnapshotLinkedList}.
+	 */
+	@Test
+	public void testWrites() {
+		list.insert(6);
+		list.insertFirst(0);
+		list.insertAt(3, 30);
+		list.insert(null);
+		assertEquals("[0, 1, 2, 30, 3, 4, 5, 6]", list.toString());
+		assertEquals(Integer.valueOf(30), list.remove(30));
+		assertNull(list.remove(42));
+		assertEquals(Integer.valueOf(0), list.removeFirst());
+		assertEquals(Integer.valueOf(6), list.removeLast());
+		assertEquals(Integer.valueOf(3), list.removeAt(2));
+		assertNull(list.removeAt(10));
+		list.replace(4, 40);
+		assertEquals(Integer.valueOf(40), list.setAt(2, 400));
+		assertNull(list.setAt(2, null));
+		assertEquals("[1, 2, 400, 5]", list.toString());
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertNull(list.removeFirst());
+		assertNull(list.removeLast());
+	}
+
+	/**
+	 * Test method for the read operations of
+	 * {@link aghannam.list.SnapshotLinkedList}.
+	 */
+	@Test
+	public void testReads() {
+		assertEquals(Integer.valueOf(1), list.getFirst());
+		assertEquals(Integer.valueOf(5), list.getLast());
+		assertEquals(Integer.valueOf(3), list.getMiddle());
+		assertEquals(Integer.valueOf(2), list.getAt(1));
+		assertTrue(list.contains(4));
+		assertFalse(list.contains(null));
+		assertEquals(5, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SnapshotLinkedList#snapshot()} and
+	 * {@link aghannam.list.SnapshotLinkedList#iterator()}.
+	 */
+	@Test
+	public void testSnapshotIsStable() {
+		PersistentList<Integer> before = list.snapshot();
+		Iterator<Integer> it = list.iterator();
+		list.removeFirst();
+		list.insert(6);
+		assertEquals("[1, 2, 3, 4, 5]", before.toString());
+		int sum = 0;
+		while (it.hasNext()) {
+			sum += it.next();
+		}
+		assertEquals(15, sum);
+		assertEquals("[2, 3, 4, 5, 6]", list.toString());
+	}
+
+	/**
+	 * Checks that readers running alongside a writer only ever see complete
+	 * versions: the writer keeps the values consecutive, so every snapshot
+	 * must be a run of consecutive values of a size the writer produced.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testReadersAlongsideWriter() throws Exception {
+		SnapshotLinkedList<Integer> shared = new SnapshotLinkedList<>();
+		for (int i = 0; i < 100; i++) {
+			shared.insert(i);
+		}
+		AtomicReference<String> failure = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+		Thread[] readers = new Thread[4];
+		for (int r = 0; r < readers.length; r++) {
+			readers[r] = new Thread(() -> {
+				while (done.getCount() > 0 && failure.get() == null) {
+					PersistentList<Integer> s = shared.snapshot();
+					int expected = s.getFirst();
+					for (Integer val : s) {
+						if (val != expected++) {
+							failure.set("Torn snapshot " + s);
+						}
+					}
+					if (s.size() < 100 || s.size() > 101) {
+						failure.set("Unexpected size " + s.size());
+					}
+				}
+			});
+			readers[r].start();
+		}
+		for (int i = 100; i < 20000; i++) {
+			shared.insert(i);
+			shared.removeFirst();
+		}
+		done.countDown();
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		assertNull(failure.get());
+		assertEquals(Integer.valueOf(19900), shared.getFirst());
+		assertEquals(100, shared.size());
+	}
+}
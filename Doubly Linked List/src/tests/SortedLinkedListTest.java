@@ -0,0 +1,179 @@
+/*
+ * File: SortedLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.SortedLinkedList;
+
+/**
+ * This class is a collection of unit tests for the sorted list class.
+ *
+ * @author Ahmed Ghannam
+ */
+public class SortedLinkedListTest {
+
+	private Integer[] data = {5, 3, 9, 1, 7, 2, 10, 4, 8, 6};
+
+	private SortedLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new SortedLinkedList<>(data);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SortedLinkedList#insertSorted(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertSorted() {
+		assertEquals(10, list.size());
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", list.toString());
+		list.insertSorted(0);
+		list.insertSorted(11);
+		list.insertSorted(5);
+		list.insertSorted(null);
+		assertEquals("[0, 1, 2, 3, 4, 5, 5, 6, 7, 8, 9, 10, 11]", list.toString());
+		assertEquals(Integer.valueOf(0), list.getFirst());
+		assertEquals(Integer.valueOf(11), list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SortedLinkedList#insertSorted(java.lang.Object)}
+	 * with values that compare equal but differ.
+	 */
+	@Test
+	public void testInsertSortedIsStable() {
+		SortedLinkedList<String> words = new SortedLinkedList<>(Comparator.comparing(String::length));
+		words.insertSorted("ccc");
+		words.insertSorted("a");
+		words.insertSorted("bbb");
+		words.insertSorted("dd");
+		words.insertSorted("aaa");
+		assertEquals("[a, dd, ccc, bbb, aaa]", words.toString());
+		assertTrue(words.contains("bbb"));
+		assertFalse(words.contains("eee"));
+		assertEquals("bbb", words.remove("bbb"));
+		assertNull(words.remove("bbb"));
+		assertEquals("[a, dd, ccc, aaa]", words.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SortedLinkedList#remove(java.lang.Object)},
+	 * {@link aghannam.list.SortedLinkedList#removeFirst()} and
+	 * {@link aghannam.list.SortedLinkedList#removeLast()}.
+	 */
+	@Test
+	public void testRemove() {
+		assertEquals(Integer.valueOf(5), list.remove(5));
+		assertNull(list.remove(5));
+		assertNull(list.remove(null));
+		assertEquals(Integer.valueOf(1), list.removeFirst());
+		assertEquals(Integer.valueOf(10), list.removeLast());
+		assertEquals("[2, 3, 4, 6, 7, 8, 9]", list.toString());
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertNull(list.removeFirst());
+		assertNull(list.removeLast());
+		assertNull(list.remove(1));
+		list.insertSorted(1);
+		assertEquals("[1]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SortedLinkedList#contains(java.lang.Object)}.
+	 */
+	@Test
+	public void testContains() {
+		for (Integer val : data) {
+			assertTrue(list.contains(val));
+		}
+		assertFalse(list.contains(0));
+		assertFalse(list.contains(11));
+		assertFalse(list.contains(null));
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SortedLinkedList#headList(java.lang.Object)},
+	 * {@link aghannam.list.SortedLinkedList#tailList(java.lang.Object)} and
+	 * {@link aghannam.list.SortedLinkedList#subRange(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testRanges() {
+		assertEquals("[1, 2, 3, 4]", list.headList(5).toString());
+		assertEquals("[]", list.headList(1).toString());
+		assertEquals("[8, 9, 10]", list.tailList(8).toString());
+		assertEquals("[]", list.tailList(11).toString());
+		assertEquals("[3, 4, 5, 6]", list.subRange(3, 7).toString());
+		assertEquals("[]", list.subRange(4, 4).toString());
+		assertEquals("[]", list.subRange(7, 3).toString());
+		assertEquals(list.toString(), list.subRange(0, 100).toString());
+		assertTrue(list.headList(null).isEmpty());
+		assertTrue(list.subRange(null, 5).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.SortedLinkedList#iterator()}.
+	 */
+	@Test
+	public void testIterator() {
+		int expected = 1;
+		for (Integer val : list) {
+			assertEquals(Integer.valueOf(expected++), val);
+		}
+		assertEquals(11, expected);
+		Iterator<Integer> it = list.iterator();
+		it.next();
+		list.insertSorted(0);
+		try {
+			it.next();
+			fail("Expected ConcurrentModificationException");
+		} catch (ConcurrentModificationException e) {
+		}
+	}
+
+	/**
+	 * Checks every operation against a sorted array list over a long run of
+	 * random inserts and removals.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(19);
+		SortedLinkedList<Integer> sorted = new SortedLinkedList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int step = 0; step < 20000; step++) {
+			Integer val = random.nextInt(2000);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(val) ? val : null, sorted.remove(val));
+			} else {
+				int i = 0;
+				while (i < expected.size() && expected.get(i) <= val) {
+					i++;
+				}
+				expected.add(i, val);
+				sorted.insertSorted(val);
+			}
+			assertEquals(expected.contains(val), sorted.contains(val));
+		}
+		assertEquals(expected.size(), sorted.size());
+		assertEquals(expected.toString(), sorted.toString());
+		assertEquals(expected.subList(0, expected.indexOf(expected.get(expected.size() / 2))).toString(),
+				sorted.headList(expected.get(expected.size() / 2)).toString());
+		assertEquals(expected.get(0), sorted.getFirst());
+		assertEquals(expected.get(expected.size() - 1), sorted.getLast());
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * File: UnrolledLinkedListTest.java
+ */
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import aghannam.list.UnrolledLinkedList;
+
+/**
+ * This class is a collection of unit tests for the unrolled list class. Most
+ * tests use a tiny chunk capacity so that splitting and merging happen often.
+ *
+ * @author Ahmed Ghannam
+ */
+public class UnrolledLinkedListTest {
+
+	private Integer[] data = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+	private UnrolledLinkedList<Integer> list;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		list = new UnrolledLinkedList<>(4);
+		for (Integer i : data) {
+			list.insert(i);
+		}
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#UnrolledLinkedList(int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new UnrolledLinkedList<Integer>(1);
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#insert(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsert() {
+		assertEquals(10, list.size());
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", list.toString());
+		assertEquals("[1, 2, 3]", new UnrolledLinkedList<>(new Integer[] {1, 2, 3}).toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#insertFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertFirst() {
+		for (int i = 0; i > -6; i--) {
+			list.insertFirst(i);
+		}
+		assertEquals(Integer.valueOf(-5), list.getFirst());
+		assertEquals(Integer.valueOf(0), list.getAt(5));
+		assertEquals(16, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#insertBefore(java.lang.Object, java.lang.Object)}
+	 * and {@link aghannam.list.UnrolledLinkedList#insertAfter(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void testInsertBeforeAndAfter() {
+		list.insertBefore(5, 15);
+		list.insertAfter(5, 16);
+		assertEquals(Integer.valueOf(15), list.getBefore(5));
+		assertEquals(Integer.valueOf(16), list.getAfter(5));
+		list.insertBefore(1, 0);
+		list.insertAfter(10, 11);
+		assertEquals("[0, 1, 2, 3, 4, 15, 5, 16, 6, 7, 8, 9, 10, 11]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#remove(java.lang.Object)}
+	 * and {@link aghannam.list.UnrolledLinkedList#removeLastOccurrence(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemove() {
+		list.insert(5);
+		assertEquals(Integer.valueOf(5), list.remove(5));
+		assertEquals(Integer.valueOf(6), list.getAfter(4));
+		assertEquals(Integer.valueOf(5), list.removeLastOccurrence(5));
+		assertFalse(list.contains(5));
+		assertNull(list.remove(100));
+		assertEquals(9, list.size());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#removeAll(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemoveAll() {
+		list.replaceAll(3, 2);
+		list.replaceAll(4, 2);
+		list.removeAll(2);
+		assertEquals("[1, 5, 6, 7, 8, 9, 10]", list.toString());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#removeFirst()} and
+	 * {@link aghannam.list.UnrolledLinkedList#removeLast()}.
+	 */
+	@Test
+	public void testRemoveFirstAndLast() {
+		assertEquals(Integer.valueOf(1), list.removeFirst());
+		assertEquals(Integer.valueOf(10), list.removeLast());
+		while (!list.isEmpty()) {
+			list.removeFirst();
+		}
+		assertNull(list.removeFirst());
+		assertNull(list.removeLast());
+		list.insertFirst(1);
+		assertEquals(Integer.valueOf(1), list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#getMiddle()}.
+	 */
+	@Test
+	public void testGetMiddle() {
+		assertEquals(Integer.valueOf(5), list.getMiddle());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#reverse()}.
+	 */
+	@Test
+	public void testReverse() {
+		list.removeFirst();
+		list.reverse();
+		assertEquals("[10, 9, 8, 7, 6, 5, 4, 3, 2]", list.toString());
+		assertEquals(Integer.valueOf(3), list.getAt(7));
+		assertEquals(Integer.valueOf(2), list.getLast());
+	}
+
+	/**
+	 * Test method for {@link aghannam.list.UnrolledLinkedList#clear()}.
+	 */
+	@Test
+	public void testClear() {
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals("[]", list.toString());
+	}
+
+	/**
+	 * Runs a long random mix of operations against a {@link java.util.List}.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(11);
+		List<Integer> expected = new ArrayList<>();
+		UnrolledLinkedList<Integer> actual = new UnrolledLinkedList<>(4);
+		for (int step = 0; step < 20000; step++) {
+			Integer a = random.nextInt(30);
+			Integer b = random.nextInt(30);
+			int index = random.nextInt(expected.size() + 1);
+			switch (random.nextInt(12)) {
+			case 0:
+				expected.add(a);
+				actual.insert(a);
+				break;
+			case 1:
+				expected.add(0, a);
+				actual.insertFirst(a);
+				break;
+			case 2:
+				expected.add(index, a);
+				actual.insertAt(index, a);
+				break;
+			case 3: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.add(i + 1, b);
+				}
+				actual.insertAfter(a, b);
+				break;
+			}
+			case 4:
+				assertEquals(expected.remove(a) ? a : null, actual.remove(a));
+				break;
+			case 5:
+				assertEquals(index < expected.size() ? expected.remove(index) : null, actual.removeAt(index));
+				break;
+			case 6:
+				assertEquals(expected.isEmpty() ? null : expected.remove(0), actual.removeFirst());
+				break;
+			case 7:
+				assertEquals(expected.isEmpty() ? null : expected.remove(expected.size() - 1), actual.removeLast());
+				break;
+			case 8: {
+				int i = expected.lastIndexOf(a);
+				if (i >= 0) {
+					expected.remove(i);
+				}
+				actual.removeLastOccurrence(a);
+				break;
+			}
+			case 9:
+				expected.removeAll(Collections.singleton(a));
+				actual.removeAll(a);
+				break;
+			case 10:
+				Collections.reverse(expected);
+				actual.reverse();
+				break;
+			default: {
+				int i = expected.indexOf(a);
+				if (i >= 0) {
+					expected.add(i, b);
+				}
+				actual.insertBefore(a, b);
+				break;
+			}
+			}
+			assertEquals(expected.size(), actual.size());
+			if (!expected.isEmpty()) {
+				int i = random.nextInt(expected.size());
+				assertEquals(expected.get(i), actual.getAt(i));
+			}
+		}
+		assertEquals(expected.toString(), actual.toString());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * File: ArrayDequeBenchmark.java
+ */
+package benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Baseline for {@link LinkedListBenchmark} using {@link java.util.ArrayDeque}.
+ * Only the operations a deque supports natively are measured; there is no
+ * positional access, mid-list insertion or reversal.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ArrayDequeBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private ArrayDeque<Integer> deque;
+
+	private Integer middle;
+	private Integer absent;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		deque = new ArrayDeque<>(Arrays.asList(data));
+		middle = data[(size - 1) / 2];
+		absent = BenchmarkData.absent();
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public Integer insert() {
+		deque.addLast(extra);
+		return deque.pollLast();
+	}
+
+	@Benchmark
+	public Integer insertFirst() {
+		deque.addFirst(extra);
+		return deque.pollFirst();
+	}
+
+	@Benchmark
+	public Integer queue() {
+		deque.addLast(deque.pollFirst());
+		return deque.peekLast();
+	}
+
+	@Benchmark
+	public boolean removeAll() {
+		final Integer target = absent;
+		return deque.removeIf(v -> v.equals(target));
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return deque.contains(middle);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return deque.contains(absent);
+	}
+
+	@Benchmark
+	public String toStringBenchmark() {
+		return deque.toString();
+	}
+}
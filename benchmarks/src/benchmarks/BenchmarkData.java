@@ -0,0 +1,51 @@
+/*
+ * File: BenchmarkData.java
+ */
+package benchmarks;
+
+/**
+ * Builds the data shared by all benchmarks so that every implementation is
+ * measured against exactly the same values.
+ *
+ * @author Ahmed Ghannam
+ */
+final class BenchmarkData {
+
+	private BenchmarkData() {
+		/* Static helpers only */
+	}
+
+	/**
+	 * Returns the values <code>0</code> through <code>size - 1</code>, boxed.
+	 *
+	 * @param size
+	 *            the number of values to generate
+	 * @return an array of distinct values in ascending order
+	 */
+	static Integer[] values(int size) {
+		Integer[] a = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			a[i] = Integer.valueOf(i);
+		}
+		return a;
+	}
+
+	/**
+	 * Returns a value that is never part of the generated data.
+	 *
+	 * @return a value that no list under test contains
+	 */
+	static Integer absent() {
+		return Integer.valueOf(-1);
+	}
+
+	/**
+	 * Returns a value used for inserts that are undone within the same
+	 * benchmark call.
+	 *
+	 * @return a value distinct from the generated data
+	 */
+	static Integer extra() {
+		return Integer.valueOf(-2);
+	}
+}
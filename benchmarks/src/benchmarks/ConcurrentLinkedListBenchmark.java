@@ -0,0 +1,118 @@
+/*
+ * File: ConcurrentLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.ConcurrentLinkedList;
+import aghannam.list.LinkedList;
+
+/**
+ * Compares {@link aghannam.list.ConcurrentLinkedList} with a
+ * {@link aghannam.list.LinkedList} behind a single lock and with
+ * {@link java.util.concurrent.ConcurrentLinkedDeque}, under eight threads
+ * sharing one list. Every call inserts a value and removes one, so the list
+ * keeps roughly its initial size for the whole trial. Raise the thread count
+ * with <code>-t</code> to see how each variant scales.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Threads(8)
+public class ConcurrentLinkedListBenchmark {
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	private LinkedList<Integer> locked;
+	private ConcurrentLinkedList<Integer> concurrent;
+	private ConcurrentLinkedDeque<Integer> deque;
+
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		locked = new LinkedList<>(data);
+		concurrent = new ConcurrentLinkedList<>(data);
+		deque = new ConcurrentLinkedDeque<>();
+		for (Integer val : data) {
+			deque.offerLast(val);
+		}
+		extra = BenchmarkData.extra();
+	}
+
+	/*
+	 * Values enter at the front and leave at the back, so producers and
+	 * consumers work at opposite ends of the list.
+	 */
+
+	@Benchmark
+	public Integer queueLocked() {
+		synchronized (locked) {
+			locked.insertFirst(extra);
+		}
+		synchronized (locked) {
+			return locked.removeLast();
+		}
+	}
+
+	@Benchmark
+	public Integer queueConcurrent() {
+		concurrent.insertFirst(extra);
+		return concurrent.removeLast();
+	}
+
+	@Benchmark
+	public Integer queueDeque() {
+		deque.offerFirst(extra);
+		return deque.pollLast();
+	}
+
+	/*
+	 * Values enter and leave at the back, so every thread works at one end.
+	 */
+
+	@Benchmark
+	public Integer stackLocked() {
+		synchronized (locked) {
+			locked.insert(extra);
+		}
+		synchronized (locked) {
+			return locked.removeLast();
+		}
+	}
+
+	@Benchmark
+	public Integer stackConcurrent() {
+		concurrent.insert(extra);
+		return concurrent.removeLast();
+	}
+
+	@Benchmark
+	public Integer stackDeque() {
+		deque.offerLast(extra);
+		return deque.pollLast();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * File: FineGrainedLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.FineGrainedLinkedList;
+import aghannam.list.LinkedList;
+
+/**
+ * Compares {@link aghannam.list.FineGrainedLinkedList} with a
+ * {@link aghannam.list.LinkedList} behind a single lock, under eight threads
+ * that each edit their own region of one shared list. Each thread inserts a
+ * value of its own after a value of its region and removes it again, so the
+ * list keeps its shape for the whole trial.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Threads(8)
+public class FineGrainedLinkedListBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private LinkedList<Integer> locked;
+	private FineGrainedLinkedList<Integer> fineGrained;
+	private Integer[] data;
+	private final AtomicInteger threads = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = BenchmarkData.values(size);
+		locked = new LinkedList<>(data);
+		fineGrained = new FineGrainedLinkedList<>(data);
+	}
+
+	/**
+	 * Picks the value each thread edits around, spread evenly over the list,
+	 * and a value that only this thread inserts.
+	 */
+	@State(Scope.Thread)
+	public static class Region {
+		Integer anchor;
+		Integer extra;
+
+		@Setup(Level.Trial)
+		public void setUp(FineGrainedLinkedListBenchmark shared) {
+			int thread = shared.threads.getAndIncrement();
+			anchor = shared.data[(int) ((long) shared.size * (thread % 8) / 8)];
+			extra = Integer.valueOf(-10 - thread);
+		}
+	}
+
+	@Benchmark
+	public Integer editLocked(Region region) {
+		synchronized (locked) {
+			locked.insertAfter(region.anchor, region.extra);
+		}
+		synchronized (locked) {
+			return locked.remove(region.extra);
+		}
+	}
+
+	@Benchmark
+	public Integer editFineGrained(Region region) {
+		fineGrained.insertAfter(region.anchor, region.extra);
+		return fineGrained.remove(region.extra);
+	}
+
+	@Benchmark
+	public boolean containsLocked(Region region) {
+		synchronized (locked) {
+			return locked.contains(region.anchor);
+		}
+	}
+
+	@Benchmark
+	public boolean containsFineGrained(Region region) {
+		return fineGrained.contains(region.anchor);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * File: IndexedLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.IndexedLinkedList;
+
+/**
+ * Measures the positional and end operations of
+ * {@link aghannam.list.IndexedLinkedList}, named after their counterparts in
+ * {@link LinkedListBenchmark}.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class IndexedLinkedListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private IndexedLinkedList<Integer> list;
+
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		list = new IndexedLinkedList<>(BenchmarkData.values(size));
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public Integer insert() {
+		list.insert(extra);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public Integer insertFirst() {
+		list.insertFirst(extra);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public Integer insertAt() {
+		list.insertAt((size - 1) / 2, extra);
+		return list.removeAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer getAtMiddle() {
+		return list.getAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer getAtLast() {
+		return list.getAt(size - 1);
+	}
+
+	@Benchmark
+	public Integer getMiddle() {
+		return list.getMiddle();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * File: IntLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.IntLinkedList;
+
+/**
+ * Measures {@link aghannam.list.IntLinkedList}, named after the matching
+ * operations in {@link LinkedListBenchmark}. Run with <code>-prof gc</code>
+ * to confirm that the insert/remove pairs allocate nothing.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class IntLinkedListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private IntLinkedList list;
+
+	private int middle;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		int[] data = new int[size];
+		for (int i = 0; i < size; i++) {
+			data[i] = i;
+		}
+		list = new IntLinkedList(data);
+		middle = (size - 1) / 2;
+	}
+
+	@Benchmark
+	public int insert() {
+		list.insert(-2);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public int insertFirst() {
+		list.insertFirst(-2);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public int queue() {
+		list.insert(list.removeFirst());
+		return list.getLast();
+	}
+
+	@Benchmark
+	public boolean insertBefore() {
+		list.insertBefore(middle, -2);
+		return list.remove(-2);
+	}
+
+	@Benchmark
+	public int getAtMiddle() {
+		return list.getAt(middle);
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(middle);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(-1);
+	}
+
+	@Benchmark
+	public int reverse() {
+		list.reverse();
+		return list.getFirst();
+	}
+}
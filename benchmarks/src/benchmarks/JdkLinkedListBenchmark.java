@@ -0,0 +1,185 @@
+/*
+ * File: JdkLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Baseline for {@link LinkedListBenchmark}: the same operations expressed
+ * with {@link java.util.LinkedList}.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class JdkLinkedListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private LinkedList<Integer> list;
+
+	private Integer first;
+	private Integer middle;
+	private Integer absent;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		list = new LinkedList<>(Arrays.asList(data));
+		first = data[0];
+		middle = data[(size - 1) / 2];
+		absent = BenchmarkData.absent();
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public Integer insert() {
+		list.addLast(extra);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public Integer insertFirst() {
+		list.addFirst(extra);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public Integer queue() {
+		list.addLast(list.removeFirst());
+		return list.getLast();
+	}
+
+	@Benchmark
+	public boolean insertBefore() {
+		ListIterator<Integer> it = list.listIterator();
+		while (it.hasNext()) {
+			if (it.next().equals(middle)) {
+				it.previous();
+				it.add(extra);
+				break;
+			}
+		}
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public boolean insertAfter() {
+		ListIterator<Integer> it = list.listIterator();
+		while (it.hasNext()) {
+			if (it.next().equals(middle)) {
+				it.add(extra);
+				break;
+			}
+		}
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public boolean remove() {
+		int index = list.indexOf(middle);
+		list.remove(index);
+		list.add(index, middle);
+		return true;
+	}
+
+	@Benchmark
+	public boolean removeAll() {
+		return list.removeAll(Collections.singleton(absent));
+	}
+
+	@Benchmark
+	public boolean removeLastOccurrence() {
+		int index = list.lastIndexOf(middle);
+		list.removeLastOccurrence(middle);
+		list.add(index, middle);
+		return true;
+	}
+
+	@Benchmark
+	public Integer getAtMiddle() {
+		return list.get((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer getAtLast() {
+		return list.get(size - 1);
+	}
+
+	@Benchmark
+	public Integer insertAt() {
+		list.add((size - 1) / 2, extra);
+		return list.remove((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer setAt() {
+		return list.set(size - 1, list.get(size - 1));
+	}
+
+	@Benchmark
+	public Integer getMiddle() {
+		return list.get((size - 1) / 2);
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(middle);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(absent);
+	}
+
+	@Benchmark
+	public Integer replaceAll() {
+		final Integer from = first;
+		final Integer to = extra;
+		list.replaceAll(v -> v.equals(from) ? to : v);
+		list.replaceAll(v -> v.equals(to) ? from : v);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public Integer reverse() {
+		Collections.reverse(list);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public Integer sort() {
+		list.sort(LinkedListBenchmark.SCRAMBLED);
+		list.sort(null);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public String toStringBenchmark() {
+		return list.toString();
+	}
+}
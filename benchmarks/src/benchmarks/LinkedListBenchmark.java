@@ -0,0 +1,302 @@
+/*
+ * File: LinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.LinkedList;
+
+/**
+ * Measures every public operation of {@link aghannam.list.LinkedList}. The
+ * same operations are measured against {@link java.util.LinkedList} in
+ * {@link JdkLinkedListBenchmark} and against {@link java.util.ArrayDeque} in
+ * {@link ArrayDequeBenchmark}, using identical method names so that the
+ * results can be compared line by line.
+ * <p>
+ * Mutating operations are paired with their inverse so that the list keeps
+ * the same shape for the whole trial; the reported score covers both calls.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class LinkedListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private LinkedList<Integer> list;
+	private Integer[] data;
+	private int next;
+	private final StringBuilder buffer = new StringBuilder();
+
+	/*
+	 * Orders values by a multiplicative hash, which shuffles sorted data
+	 * deterministically. Sorting by it and then back by natural order makes
+	 * both sorts in a call do a full amount of work.
+	 */
+	static final Comparator<Integer> SCRAMBLED = Comparator.comparingInt(v -> v * 0x9E3779B1);
+
+	/*
+	 * Values are boxed once up front so that no benchmark measures the
+	 * Integer cache or allocation of its arguments.
+	 */
+	private Integer first;
+	private Integer middle;
+	private Integer afterMiddle;
+	private Integer absent;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = BenchmarkData.values(size);
+		list = new LinkedList<>(data);
+		first = data[0];
+		middle = data[(size - 1) / 2];
+		afterMiddle = data[(size - 1) / 2 + 1];
+		absent = BenchmarkData.absent();
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public Integer insert() {
+		list.insert(extra);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public Integer insertFirst() {
+		list.insertFirst(extra);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public Integer queue() {
+		list.insert(list.removeFirst());
+		return list.getLast();
+	}
+
+	@Benchmark
+	public Integer insertBefore() {
+		list.insertBefore(middle, extra);
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public Integer insertAfter() {
+		list.insertAfter(middle, extra);
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public Integer remove() {
+		Integer removed = list.remove(middle);
+		list.insertBefore(afterMiddle, middle);
+		return removed;
+	}
+
+	@Benchmark
+	public int removeAll() {
+		// Nothing matches, so this is the full scan every call pays.
+		list.removeAll(absent);
+		return list.size();
+	}
+
+	@Benchmark
+	public Integer removeLastOccurrence() {
+		Integer removed = list.removeLastOccurrence(middle);
+		list.insertBefore(afterMiddle, middle);
+		return removed;
+	}
+
+	@Benchmark
+	public Integer getAtMiddle() {
+		return list.getAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer getAtLast() {
+		return list.getAt(size - 1);
+	}
+
+	@Benchmark
+	public Integer getAtSequential() {
+		// Each call reads the index after the previous call's.
+		next = next + 1 == size ? 0 : next + 1;
+		return list.getAt(next);
+	}
+
+	@Benchmark
+	public Integer insertAt() {
+		list.insertAt((size - 1) / 2, extra);
+		return list.removeAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer setAt() {
+		return list.setAt(size - 1, list.getAt(size - 1));
+	}
+
+	@Benchmark
+	public LinkedList<Integer> insertAll() {
+		LinkedList<Integer> copy = new LinkedList<>();
+		copy.insertAll(data);
+		return copy;
+	}
+
+	@Benchmark
+	public Integer splitAtAndSplice() {
+		LinkedList<Integer> rest = list.splitAt((size - 1) / 2);
+		list.splice(rest);
+		return list.getLast();
+	}
+
+	@Benchmark
+	public Integer getMiddle() {
+		return list.getMiddle();
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(middle);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(absent);
+	}
+
+	@Benchmark
+	public Integer replaceAll() {
+		list.replaceAll(first, extra);
+		list.replaceAll(extra, first);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public boolean parallelContainsMiss() {
+		return list.parallelContains(absent);
+	}
+
+	@Benchmark
+	public Integer parallelReplaceAll() {
+		list.parallelReplaceAll(first, extra);
+		list.parallelReplaceAll(extra, first);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public int parallelRemoveAll() {
+		// Nothing matches, so the list keeps its split points between calls.
+		list.parallelRemoveAll(absent);
+		return list.size();
+	}
+
+	@Benchmark
+	public long parallelForEach() {
+		LongAdder sum = new LongAdder();
+		list.parallelForEach(sum::add);
+		return sum.sum();
+	}
+
+	@Benchmark
+	public Integer reverse() {
+		list.reverse();
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public Integer sort() {
+		list.sort(SCRAMBLED);
+		list.sort(null);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public Integer parallelSort() {
+		list.parallelSort(SCRAMBLED);
+		list.parallelSort(null);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public String toStringBenchmark() {
+		return list.toString();
+	}
+
+	@Benchmark
+	public String toStringPreview() {
+		return list.toString(100);
+	}
+
+	@Benchmark
+	public int appendToReusedBuilder() {
+		buffer.setLength(0);
+		return list.appendTo(buffer).length();
+	}
+
+	@Benchmark
+	public long appendToWriter() throws IOException {
+		return list.appendTo(new CountingWriter()).count;
+	}
+
+	/**
+	 * Counts the characters written to it and keeps none of them, standing
+	 * in for a log file or socket.
+	 */
+	private static final class CountingWriter extends Writer {
+		long count;
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			count += len;
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+			count += len;
+		}
+
+		@Override
+		public Writer append(CharSequence csq) {
+			count += csq.length();
+			return this;
+		}
+
+		@Override
+		public Writer append(char c) {
+			count++;
+			return this;
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
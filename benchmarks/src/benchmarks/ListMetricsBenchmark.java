@@ -0,0 +1,77 @@
+/*
+ * File: ListMetricsBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.LinkedList;
+import aghannam.list.ListMetrics;
+
+/**
+ * Measures what instrumentation costs the scanning operations of
+ * {@link aghannam.list.LinkedList}. With <code>instrumented</code> off, the
+ * results should match the same operations in {@link LinkedListBenchmark}.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ListMetricsBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	@Param({ "false", "true" })
+	public boolean instrumented;
+
+	private LinkedList<Integer> list;
+	private Integer[] data;
+	private int next;
+
+	private Integer middle;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = BenchmarkData.values(size);
+		list = new LinkedList<>(data);
+		list.setMetrics(instrumented ? new ListMetrics() : null);
+		middle = data[(size - 1) / 2];
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(middle);
+	}
+
+	@Benchmark
+	public Integer getAtSequential() {
+		next = next + 1 == size ? 0 : next + 1;
+		return list.getAt(next);
+	}
+
+	@Benchmark
+	public Integer insertBefore() {
+		list.insertBefore(middle, extra);
+		return list.remove(extra);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * File: LruCacheBenchmark.java
+ */
+package benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.LinkedList;
+import aghannam.list.LruCache;
+
+/**
+ * Compares {@link aghannam.list.LruCache} with an LRU cache that keeps its
+ * recency order in a plain {@link aghannam.list.LinkedList} and moves an
+ * entry to the front with <code>remove</code> followed by
+ * <code>insertFirst</code>. Keys cycle through the whole cache, so every
+ * lookup hits and moves its entry from the back to the front.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class LruCacheBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private LruCache<Integer, Integer> cache;
+	private LinkedList<Integer> recency;
+	private Map<Integer, Integer> values;
+	private Integer[] keys;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		keys = BenchmarkData.values(size);
+		cache = new LruCache<>(size);
+		recency = new LinkedList<>();
+		values = new HashMap<>();
+		for (Integer key : keys) {
+			cache.put(key, key);
+			recency.insertFirst(key);
+			values.put(key, key);
+		}
+	}
+
+	private Integer nextKey() {
+		Integer key = keys[next];
+		next = next + 1 == keys.length ? 0 : next + 1;
+		return key;
+	}
+
+	@Benchmark
+	public Integer get() {
+		return cache.get(nextKey());
+	}
+
+	@Benchmark
+	public Integer getLinear() {
+		Integer key = nextKey();
+		Integer value = values.get(key);
+		if (value != null) {
+			recency.remove(key);
+			recency.insertFirst(key);
+		}
+		return value;
+	}
+
+	@Benchmark
+	public Integer putEvicting() {
+		Integer key = nextKey();
+		cache.put(-1 - key, key);
+		return cache.put(key, key);
+	}
+}
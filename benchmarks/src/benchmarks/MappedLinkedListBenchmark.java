@@ -0,0 +1,101 @@
+/*
+ * File: MappedLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.Codecs;
+import aghannam.list.LinkedList;
+import aghannam.list.ListSerializer;
+import aghannam.list.MappedLinkedList;
+
+/**
+ * Compares reopening a {@link aghannam.list.MappedLinkedList} with loading
+ * the same values into a {@link aghannam.list.LinkedList} through
+ * {@link aghannam.list.ListSerializer}, and measures the cost of a logged
+ * edit.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class MappedLinkedListBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private Path dir;
+	private Path mapped;
+	private Path serialized;
+	private MappedLinkedList<Integer> open;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		dir = Files.createTempDirectory("mapped-bench");
+		mapped = dir.resolve("list.dat");
+		serialized = dir.resolve("list.bin");
+		Integer[] data = BenchmarkData.values(size);
+		try (MappedLinkedList<Integer> list = new MappedLinkedList<>(mapped, Codecs.INTEGER)) {
+			for (Integer val : data) {
+				list.insert(val);
+			}
+		}
+		ListSerializer.save(new LinkedList<>(data), Codecs.INTEGER, serialized);
+		open = new MappedLinkedList<>(dir.resolve("edit.dat"), Codecs.INTEGER);
+		for (Integer val : data) {
+			open.insert(val);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		open.close();
+		try (Stream<Path> files = Files.list(dir)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(dir);
+	}
+
+	@Benchmark
+	public Integer reopenMapped() throws IOException {
+		try (MappedLinkedList<Integer> list = new MappedLinkedList<>(mapped, Codecs.INTEGER)) {
+			return list.getLast();
+		}
+	}
+
+	@Benchmark
+	public Integer loadSerialized() throws IOException {
+		return ListSerializer.load(Codecs.INTEGER, serialized).getLast();
+	}
+
+	@Benchmark
+	public Integer insertAndRemoveFirst() {
+		open.insertFirst(BenchmarkData.extra());
+		return open.removeFirst();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * File: PersistentListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.LinkedList;
+import aghannam.list.PersistentList;
+
+/**
+ * Compares {@link aghannam.list.PersistentList} with the way snapshots of a
+ * {@link aghannam.list.LinkedList} are taken without it: copying the whole
+ * list through the array constructor. The <code>copy</code> benchmarks take a
+ * snapshot and apply one update to it; the others measure single updates
+ * and reads of a persistent list.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class PersistentListBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	private LinkedList<Integer> list;
+	private PersistentList<Integer> persistent;
+	private Integer[] data;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = BenchmarkData.values(size);
+		list = new LinkedList<>(data);
+		persistent = PersistentList.of(data);
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public LinkedList<Integer> copyLinkedList() {
+		Integer[] a = new Integer[list.size()];
+		int i = 0;
+		for (Integer val : list) {
+			a[i++] = val;
+		}
+		LinkedList<Integer> copy = new LinkedList<>(a);
+		copy.insertFirst(extra);
+		return copy;
+	}
+
+	@Benchmark
+	public PersistentList<Integer> copyPersistent() {
+		PersistentList<Integer> snapshot = persistent;
+		return snapshot.insertFirst(extra);
+	}
+
+	@Benchmark
+	public PersistentList<Integer> insert() {
+		return persistent.insert(extra);
+	}
+
+	@Benchmark
+	public PersistentList<Integer> setAtMiddle() {
+		return persistent.setAt((size - 1) / 2, extra);
+	}
+
+	@Benchmark
+	public PersistentList<Integer> removeFirst() {
+		return persistent.removeFirst();
+	}
+
+	@Benchmark
+	public Integer getAtMiddle() {
+		return persistent.getAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer getLast() {
+		return persistent.getLast();
+	}
+}
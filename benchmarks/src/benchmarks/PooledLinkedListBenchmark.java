@@ -0,0 +1,101 @@
+/*
+ * File: PooledLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.PooledLinkedList;
+
+/**
+ * Measures {@link aghannam.list.PooledLinkedList}, named after the matching
+ * operations in {@link LinkedListBenchmark}. The <code>queue</code> benchmark
+ * is the churn pattern the pool targets; compare its <code>-prof gc</code>
+ * allocation rate with the node-based list.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class PooledLinkedListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public Integer size;
+
+	private PooledLinkedList<Integer> list;
+
+	private Integer middle;
+	private Integer absent;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		list = new PooledLinkedList<>(data);
+		middle = data[(size - 1) / 2];
+		absent = BenchmarkData.absent();
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public Integer insert() {
+		list.insert(extra);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public Integer insertFirst() {
+		list.insertFirst(extra);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public Integer queue() {
+		list.insert(list.removeFirst());
+		return list.getLast();
+	}
+
+	@Benchmark
+	public Integer insertBefore() {
+		list.insertBefore(middle, extra);
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public Integer getAtMiddle() {
+		return list.getAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(middle);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(absent);
+	}
+
+	@Benchmark
+	public Integer reverse() {
+		list.reverse();
+		return list.getFirst();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * File: SnapshotLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.LinkedList;
+import aghannam.list.SnapshotLinkedList;
+
+/**
+ * Compares {@link aghannam.list.SnapshotLinkedList} with a
+ * {@link aghannam.list.LinkedList} behind a single lock, under seven reader
+ * threads and one writer sharing one list. Readers call <code>getAt</code>
+ * and <code>contains</code>; the writer inserts a value and removes one, so
+ * the list keeps its initial size for the whole trial. Each group reports
+ * the readers and the writer separately.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class SnapshotLinkedListBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private LinkedList<Integer> locked;
+	private SnapshotLinkedList<Integer> snapshot;
+
+	private Integer middle;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		locked = new LinkedList<>(data);
+		snapshot = new SnapshotLinkedList<>(data);
+		middle = data[(size - 1) / 2];
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	@Group("snapshot")
+	@GroupThreads(7)
+	public boolean snapshotRead() {
+		return snapshot.getAt((size - 1) / 2) != null && snapshot.contains(middle);
+	}
+
+	@Benchmark
+	@Group("snapshot")
+	@GroupThreads(1)
+	public Integer snapshotWrite() {
+		snapshot.insertFirst(extra);
+		return snapshot.removeFirst();
+	}
+
+	@Benchmark
+	@Group("locked")
+	@GroupThreads(7)
+	public boolean lockedRead() {
+		synchronized (locked) {
+			return locked.getAt((size - 1) / 2) != null && locked.contains(middle);
+		}
+	}
+
+	@Benchmark
+	@Group("locked")
+	@GroupThreads(1)
+	public Integer lockedWrite() {
+		synchronized (locked) {
+			locked.insertFirst(extra);
+			return locked.removeFirst();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * File: SortedLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.LinkedList;
+import aghannam.list.SortedLinkedList;
+
+/**
+ * Compares {@link aghannam.list.SortedLinkedList} with a
+ * {@link aghannam.list.LinkedList} kept in order by hand, which has to walk
+ * the list to find where a value belongs. Inserts are paired with the
+ * removal of the same value so that both lists keep their shape.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class SortedLinkedListBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private LinkedList<Integer> linear;
+	private SortedLinkedList<Integer> sorted;
+	private Integer middle;
+	private Integer afterMiddle;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		linear = new LinkedList<>(data);
+		sorted = new SortedLinkedList<>(data);
+		middle = data[size / 2];
+		afterMiddle = data[size / 2 + 1];
+	}
+
+	@Benchmark
+	public Integer insertSortedLinear() {
+		ListIterator<Integer> it = linear.listIterator();
+		while (it.hasNext()) {
+			if (it.next() > middle) {
+				it.previous();
+				break;
+			}
+		}
+		it.add(middle);
+		return linear.remove(middle);
+	}
+
+	@Benchmark
+	public Integer insertSorted() {
+		sorted.insertSorted(middle);
+		return sorted.remove(middle);
+	}
+
+	@Benchmark
+	public boolean containsLinear() {
+		return linear.contains(afterMiddle);
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return sorted.contains(afterMiddle);
+	}
+
+	@Benchmark
+	public int subRange() {
+		return sorted.subRange(middle, middle + 10).size();
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * File: UnrolledLinkedListBenchmark.java
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import aghannam.list.UnrolledLinkedList;
+
+/**
+ * Measures {@link aghannam.list.UnrolledLinkedList} with the same operations
+ * and names as {@link LinkedListBenchmark}.
+ *
+ * @author Ahmed Ghannam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class UnrolledLinkedListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private UnrolledLinkedList<Integer> list;
+
+	private Integer first;
+	private Integer middle;
+	private Integer afterMiddle;
+	private Integer absent;
+	private Integer extra;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Integer[] data = BenchmarkData.values(size);
+		list = new UnrolledLinkedList<>(data);
+		first = data[0];
+		middle = data[(size - 1) / 2];
+		afterMiddle = data[(size - 1) / 2 + 1];
+		absent = BenchmarkData.absent();
+		extra = BenchmarkData.extra();
+	}
+
+	@Benchmark
+	public Integer insert() {
+		list.insert(extra);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public Integer insertFirst() {
+		list.insertFirst(extra);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public Integer insertBefore() {
+		list.insertBefore(middle, extra);
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public Integer insertAfter() {
+		list.insertAfter(middle, extra);
+		return list.remove(extra);
+	}
+
+	@Benchmark
+	public Integer remove() {
+		Integer removed = list.remove(middle);
+		list.insertBefore(afterMiddle, middle);
+		return removed;
+	}
+
+	@Benchmark
+	public int removeAll() {
+		// Nothing matches, so this is the full scan every call pays.
+		list.removeAll(absent);
+		return list.size();
+	}
+
+	@Benchmark
+	public Integer removeLastOccurrence() {
+		Integer removed = list.removeLastOccurrence(middle);
+		list.insertBefore(afterMiddle, middle);
+		return removed;
+	}
+
+	@Benchmark
+	public Integer getAtMiddle() {
+		return list.getAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer getAtLast() {
+		return list.getAt(size - 1);
+	}
+
+	@Benchmark
+	public Integer insertAt() {
+		list.insertAt((size - 1) / 2, extra);
+		return list.removeAt((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer setAt() {
+		return list.setAt(size - 1, list.getAt(size - 1));
+	}
+
+	@Benchmark
+	public Integer getMiddle() {
+		return list.getMiddle();
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(middle);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(absent);
+	}
+
+	@Benchmark
+	public Integer replaceAll() {
+		list.replaceAll(first, extra);
+		list.replaceAll(extra, first);
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public Integer reverse() {
+		list.reverse();
+		return list.getFirst();
+	}
+
+	@Benchmark
+	public String toStringBenchmark() {
+		return list.toString();
+	}
+}